@@ -0,0 +1,13 @@
+package com.aiu.scrs.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Async Configuration - Enables @Async methods on Spring Boot's application task executor,
+ * which uses virtual threads when spring.threads.virtual.enabled is set
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
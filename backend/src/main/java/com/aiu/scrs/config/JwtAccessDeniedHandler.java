@@ -0,0 +1,46 @@
+package com.aiu.scrs.config;
+
+import com.aiu.scrs.exception.ErrorCode;
+import com.aiu.scrs.exception.ErrorCounter;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * JWT Access Denied Handler - Answers authenticated requests to URLs their role may not use
+ * with 403 directly, instead of an error dispatch that the security chain rejects as 401
+ */
+@Component
+public class JwtAccessDeniedHandler implements AccessDeniedHandler {
+    
+    private static final Logger logger = LoggerFactory.getLogger(JwtAccessDeniedHandler.class);
+    
+    private static final String BODY = "{\"success\":false,\"message\":\"Access denied\"," +
+            "\"error\":\"" + ErrorCode.ACCESS_DENIED.name() + "\"}";
+    
+    private final ErrorCounter errorCounter;
+    
+    public JwtAccessDeniedHandler(ErrorCounter errorCounter) {
+        this.errorCounter = errorCounter;
+    }
+    
+    @Override
+    public void handle(HttpServletRequest request, HttpServletResponse response,
+                       AccessDeniedException accessDeniedException) throws IOException, ServletException {
+        
+        logger.debug("Access denied to {}: {}", request.getRequestURI(), accessDeniedException.getMessage());
+        errorCounter.increment(ErrorCode.ACCESS_DENIED, HttpStatus.FORBIDDEN);
+        
+        response.setContentType("application/json");
+        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        response.getWriter().write(BODY);
+    }
+}
@@ -1,10 +1,13 @@
 package com.aiu.scrs.config;
 
+import com.aiu.scrs.exception.ErrorCode;
+import com.aiu.scrs.exception.ErrorCounter;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
@@ -19,14 +22,25 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
     
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationEntryPoint.class);
     
+    private static final String BODY = "{\"success\":false,\"message\":\"Full authentication is required to access this resource\"," +
+            "\"error\":\"" + ErrorCode.AUTHENTICATION_REQUIRED.name() + "\"}";
+    
+    private final ErrorCounter errorCounter;
+    
+    public JwtAuthenticationEntryPoint(ErrorCounter errorCounter) {
+        this.errorCounter = errorCounter;
+    }
+    
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response,
                         AuthenticationException authException) throws IOException, ServletException {
         
-        logger.error("Unauthorized error: {}", authException.getMessage());
+        // Expected for expired tokens and probing clients, so not an error
+        logger.debug("Unauthorized request to {}: {}", request.getRequestURI(), authException.getMessage());
+        errorCounter.increment(ErrorCode.AUTHENTICATION_REQUIRED, HttpStatus.UNAUTHORIZED);
         
         response.setContentType("application/json");
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.getWriter().write("{\"error\":\"Unauthorized\",\"message\":\"Full authentication is required to access this resource\"}");
+        response.getWriter().write(BODY);
     }
 }
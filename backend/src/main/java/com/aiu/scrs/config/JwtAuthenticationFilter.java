@@ -1,5 +1,10 @@
 package com.aiu.scrs.config;
 
+import com.aiu.scrs.monitoring.jfr.JwtVerificationEvent;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,9 +21,11 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 /**
- * JWT Authentication Filter - Processes JWT tokens in requests
+ * JWT Authentication Filter - Processes JWT tokens in requests. Each token is verified once per
+ * request.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -31,15 +38,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
     
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    private Timer authenticatedTimer;
+    private Timer rejectedTimer;
+    
+    @PostConstruct
+    public void init() {
+        authenticatedTimer = authTimer("authenticated");
+        rejectedTimer = authTimer("rejected");
+    }
+    
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                   FilterChain filterChain) throws ServletException, IOException {
+        String jwt = parseJwt(request);
+        long start = System.nanoTime();
+        JwtVerificationEvent verification = new JwtVerificationEvent();
+        verification.begin();
+        Timer outcome = rejectedTimer;
         try {
-            String jwt = parseJwt(request);
+            Claims claims = jwt != null ? tokenProvider.parseClaims(jwt) : null;
             
-            if (jwt != null && tokenProvider.validateToken(jwt)) {
-                Long userId = tokenProvider.getUserIdFromToken(jwt);
-                String username = tokenProvider.getUsernameFromToken(jwt);
+            if (claims != null) {
+                String username = tokenProvider.getUsername(claims);
+                verification.setUsername(username);
                 
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
                 
@@ -49,10 +73,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                outcome = authenticatedTimer;
+                verification.setAuthenticated(true);
             }
         } catch (Exception ex) {
             logger.error("Cannot set user authentication: {}", ex.getMessage());
         }
+        if (jwt != null) {
+            outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            verification.commit();
+        }
         
         filterChain.doFilter(request, response);
     }
@@ -69,4 +99,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         return null;
     }
+    
+    private Timer authTimer(String outcome) {
+        return Timer.builder("scrs.auth.duration")
+                .description("Time to verify a bearer token and load its user")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 }
@@ -2,6 +2,7 @@ package com.aiu.scrs.config;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,6 +26,13 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration}")
     private int jwtExpirationInMs;
     
+    private SecretKey signingKey;
+    
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    }
+    
     /**
      * Generate JWT token from authentication
      */
@@ -112,11 +120,19 @@ public class JwtTokenProvider {
      * Validate JWT token
      */
     public boolean validateToken(String authToken) {
+        return parseClaims(authToken) != null;
+    }
+    
+    /**
+     * Verify a JWT token and return its claims, or null when the token is invalid or expired.
+     * Lets callers read several claims with a single signature check.
+     */
+    public Claims parseClaims(String authToken) {
         try {
-            Jwts.parser()
+            return Jwts.parser()
                     .setSigningKey(getSigningKey())
-                    .parseClaimsJws(authToken);
-            return true;
+                    .parseClaimsJws(authToken)
+                    .getBody();
         } catch (MalformedJwtException ex) {
             logger.error("Invalid JWT token");
         } catch (ExpiredJwtException ex) {
@@ -128,13 +144,21 @@ public class JwtTokenProvider {
         } catch (Exception ex) {
             logger.error("JWT validation error: {}", ex.getMessage());
         }
-        return false;
+        return null;
+    }
+    
+    /**
+     * Username carried by verified claims. Older tokens stored the username as the subject.
+     */
+    public String getUsername(Claims claims) {
+        String username = claims.get("username", String.class);
+        return username != null ? username : claims.getSubject();
     }
     
     /**
      * Get signing key for JWT
      */
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        return signingKey;
     }
 }
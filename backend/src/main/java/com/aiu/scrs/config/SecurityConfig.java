@@ -1,5 +1,6 @@
 package com.aiu.scrs.config;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,6 +34,9 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     
+    @Autowired
+    private JwtAccessDeniedHandler jwtAccessDeniedHandler;
+
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
     
@@ -78,22 +82,31 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(AbstractHttpConfigurer::disable)
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-            .exceptionHandling(exception -> exception.authenticationEntryPoint(jwtAuthenticationEntryPoint))
+            .exceptionHandling(exception -> exception
+                .authenticationEntryPoint(jwtAuthenticationEntryPoint)
+                .accessDeniedHandler(jwtAccessDeniedHandler))
             .authorizeHttpRequests(auth -> auth
+                // Streamed responses (exports, event streams) finish in an async dispatch and errors are
+                // rendered in an error dispatch; the original request was already authorized, and the
+                // stateless JWT context does not survive into those dispatches
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                 // Public endpoints
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/public/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/complaints/public/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/complaints/top-voted").permitAll()
                 .requestMatchers("/api/departments/public/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/info", "/actuator/prometheus").permitAll()
                 
                 // Admin endpoints
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .requestMatchers("/api/users/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 
                 // Staff endpoints
                 .requestMatchers("/api/staff/**").hasAnyRole("STAFF", "ADMIN")
                 .requestMatchers("/api/complaints/assigned/**").hasAnyRole("STAFF", "ADMIN")
+                .requestMatchers("/api/complaints/bulk/**").hasAnyRole("STAFF", "ADMIN")
                 .requestMatchers("/api/complaints/status/**").hasAnyRole("STAFF", "ADMIN")
                 
                 // Student endpoints
@@ -49,7 +49,6 @@ public class UserDetailsImpl implements UserDetails {
         this.authorities = authorities;
     }
     
-    @Override
     @Transactional
     public UserDetails loadUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
         User user = userRepository.findByUsername(usernameOrEmail)
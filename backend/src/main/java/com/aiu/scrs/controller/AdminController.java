@@ -1,19 +1,46 @@
 package com.aiu.scrs.controller;
 
 import com.aiu.scrs.dto.ApiResponse;
+import com.aiu.scrs.dto.importing.ImportReport;
+import com.aiu.scrs.dto.routing.RoutingRuleRequest;
+import com.aiu.scrs.dto.routing.RoutingRuleResponse;
 import com.aiu.scrs.dto.user.UserResponse;
+import com.aiu.scrs.entity.ActivityLogEntry;
+import com.aiu.scrs.entity.ActivityType;
+import com.aiu.scrs.entity.ComplaintRoutingRule;
 import com.aiu.scrs.entity.User;
+import com.aiu.scrs.monitoring.SlowQueryLog;
+import com.aiu.scrs.service.BulkImportService;
+import com.aiu.scrs.service.ComplaintExportService;
+import com.aiu.scrs.service.ComplaintRoutingService;
 import com.aiu.scrs.service.ComplaintService;
 import com.aiu.scrs.service.UserService;
+import com.aiu.scrs.service.activity.ActivityEvent;
+import com.aiu.scrs.service.activity.ActivityLog;
+import com.aiu.scrs.service.activity.ActivityLogWriter;
+import com.aiu.scrs.service.assignment.AssignmentEngine;
+import com.aiu.scrs.service.coalescing.ReadCoalescer;
+import com.aiu.scrs.util.SparseFields;
+import com.aiu.scrs.util.Timestamps;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -30,180 +57,311 @@ public class AdminController {
     @Autowired
     private ComplaintService complaintService;
 
+    @Autowired
+    private ComplaintRoutingService routingService;
+
+    @Autowired
+    private AssignmentEngine assignmentEngine;
+
+    @Autowired
+    private ReadCoalescer readCoalescer;
+
+    @Autowired
+    private ComplaintExportService exportService;
+
+    @Autowired
+    private BulkImportService importService;
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @Autowired
+    private ActivityLog activityLog;
+
+    @Autowired
+    private ActivityLogWriter activityLogWriter;
+
     @GetMapping("/users")
     public ResponseEntity<?> getAllUsers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String role,
             @RequestParam(required = false) String status,
-            @RequestParam(required = false) String search) {
-
-        try {
-            Pageable pageable = PageRequest.of(page, size);
-            Page<User> users = userService.getAllUsers(pageable, role, status, search);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("content", users.getContent().stream()
-                    .map(this::convertToUserResponse)
-                    .collect(Collectors.toList()));
-            response.put("totalElements", users.getTotalElements());
-            response.put("totalPages", users.getTotalPages());
-            response.put("number", users.getNumber());
-            response.put("size", users.getSize());
-
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(ApiResponse.error("Failed to retrieve users: " + e.getMessage()));
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String fields) {
+
+        Pageable pageable = PageRequest.of(page, size);
+        List<String> fieldNames = SparseFields.parse(fields);
+        Page<?> users;
+        if (fieldNames != null) {
+            // Only the requested columns are selected and returned
+            users = userService.getAllUserFields(fieldNames, pageable);
+        } else {
+            users = userService.getAllUsers(pageable, role, status, search).map(this::convertToUserResponse);
         }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", users.getContent());
+        response.put("totalElements", users.getTotalElements());
+        response.put("totalPages", users.getTotalPages());
+        response.put("number", users.getNumber());
+        response.put("size", users.getSize());
+
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/users/{id}")
     public ResponseEntity<?> getUserById(@PathVariable Long id) {
-        try {
-            User user = userService.getUserById(id);
-            return ResponseEntity.ok(convertToUserResponse(user));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(ApiResponse.error("Failed to retrieve user: " + e.getMessage()));
-        }
+        User user = userService.getUserById(id);
+        return ResponseEntity.ok(convertToUserResponse(user));
     }
 
     @PutMapping("/users/{id}")
     public ResponseEntity<?> updateUser(@PathVariable Long id, @RequestBody Map<String, Object> updates) {
-        try {
-            User updatedUser = userService.updateUser(id, updates);
-            return ResponseEntity.ok(ApiResponse.success("User updated successfully"));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(ApiResponse.error("Failed to update user: " + e.getMessage()));
-        }
+        User updatedUser = userService.updateUser(id, updates);
+        return ResponseEntity.ok(ApiResponse.success("User updated successfully"));
     }
 
     @PutMapping("/users/{id}/status")
     public ResponseEntity<?> toggleUserStatus(@PathVariable Long id, @RequestBody Map<String, Boolean> status) {
-        try {
-            userService.toggleUserStatus(id, status.get("enabled"));
-            return ResponseEntity.ok(ApiResponse.success("User status updated successfully"));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(ApiResponse.error("Failed to update user status: " + e.getMessage()));
-        }
+        userService.toggleUserStatus(id, status.get("enabled"));
+        return ResponseEntity.ok(ApiResponse.success("User status updated successfully"));
     }
 
     @GetMapping("/stats")
     public ResponseEntity<?> getSystemStats() {
-        try {
-            Map<String, Object> stats = new HashMap<>();
-
-            // User stats
-            stats.put("totalUsers", userService.getTotalUsers());
-            stats.put("activeUsers", userService.getActiveUsersCount());
-
-            // Complaint stats
-            Map<String, Object> complaintStats = complaintService.getComplaintStats();
-            stats.put("totalComplaints", complaintStats.get("total"));
-            stats.put("pendingComplaints", complaintStats.get("pending"));
-            stats.put("inProgressComplaints", complaintStats.get("inProgress"));
-            stats.put("resolvedComplaints", complaintStats.get("resolved"));
-            stats.put("rejectedComplaints", complaintStats.get("rejected"));
-
-            return ResponseEntity.ok(stats);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(ApiResponse.error("Failed to retrieve stats: " + e.getMessage()));
-        }
+        Map<String, Object> stats = new HashMap<>();
+
+        // User stats
+        stats.put("totalUsers", userService.getTotalUsers());
+        stats.put("activeUsers", userService.getActiveUsersCount());
+
+        // Complaint stats
+        Map<String, Object> complaintStats = complaintService.getComplaintStats();
+        stats.put("totalComplaints", complaintStats.get("total"));
+        stats.put("pendingComplaints", complaintStats.get("pending"));
+        stats.put("inProgressComplaints", complaintStats.get("inProgress"));
+        stats.put("resolvedComplaints", complaintStats.get("resolved"));
+        stats.put("rejectedComplaints", complaintStats.get("rejected"));
+
+        return ResponseEntity.ok(stats);
     }
 
     @GetMapping("/stats/avg-resolution-time")
     public ResponseEntity<?> getAverageResolutionTime() {
-        try {
-            Double avgTime = complaintService.getAverageResolutionTime();
-            Map<String, Object> response = new HashMap<>();
-            response.put("averageDays", avgTime);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(ApiResponse.error("Failed to calculate average resolution time: " + e.getMessage()));
-        }
+        Double avgTime = complaintService.getAverageResolutionTime();
+        Map<String, Object> response = new HashMap<>();
+        response.put("averageDays", avgTime);
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/stats/most-active-department")
     public ResponseEntity<?> getMostActiveDepartment() {
-        try {
-            Map<String, Object> result = complaintService.getMostActiveDepartment();
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(ApiResponse.error("Failed to get most active department: " + e.getMessage()));
-        }
+        Map<String, Object> result = complaintService.getMostActiveDepartment();
+        return ResponseEntity.ok(result);
     }
 
     @GetMapping("/stats/satisfaction-rate")
     public ResponseEntity<?> getSatisfactionRate() {
-        try {
-            Double rate = complaintService.getSatisfactionRate();
-            Map<String, Object> response = new HashMap<>();
-            response.put("rate", rate);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(ApiResponse.error("Failed to calculate satisfaction rate: " + e.getMessage()));
-        }
+        Double rate = complaintService.getSatisfactionRate();
+        Map<String, Object> response = new HashMap<>();
+        response.put("rate", rate);
+        return ResponseEntity.ok(response);
     }
 
+    /**
+     * Latest activity events, newest first, served from memory
+     */
     @GetMapping("/activity/recent")
-    public ResponseEntity<?> getRecentActivity() {
-        try {
-            List<Map<String, Object>> activities = userService.getRecentActivity();
-            return ResponseEntity.ok(activities);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(ApiResponse.error("Failed to retrieve recent activity: " + e.getMessage()));
-        }
+    public ResponseEntity<?> getRecentActivity(@RequestParam(defaultValue = "20") int limit) {
+        List<Map<String, Object>> activities = activityLog.getRecent(limit).stream()
+                .map(this::convertActivityEvent)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(activities);
+    }
+
+    /**
+     * Persisted activity history, newest first, optionally of one type
+     */
+    @GetMapping("/activity")
+    public ResponseEntity<?> getActivityHistory(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) ActivityType type) {
+        Pageable pageable = PageRequest.of(page, Math.max(1, Math.min(size, 200)), Sort.by(Sort.Direction.DESC, "id"));
+        Page<Map<String, Object>> entries = activityLog.getHistory(type, pageable).map(this::convertActivityEntry);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", entries.getContent());
+        response.put("totalElements", entries.getTotalElements());
+        response.put("totalPages", entries.getTotalPages());
+        response.put("number", entries.getNumber());
+        response.put("size", entries.getSize());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/activity/stats")
+    public ResponseEntity<?> getActivityStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("published", activityLog.getPublishedCount());
+        stats.put("persisted", activityLogWriter.getPersistedCount());
+        stats.put("lost", activityLogWriter.getLostCount());
+        stats.put("bufferCapacity", activityLog.getBufferCapacity());
+        return ResponseEntity.ok(stats);
     }
 
     @GetMapping("/users/stats/trends")
     public ResponseEntity<?> getUserRegistrationTrends() {
-        try {
-            Map<String, Object> trends = userService.getUserRegistrationTrends();
-            return ResponseEntity.ok(trends);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(ApiResponse.error("Failed to retrieve user trends: " + e.getMessage()));
-        }
+        Map<String, Object> trends = userService.getUserRegistrationTrends();
+        return ResponseEntity.ok(trends);
     }
 
     @GetMapping("/settings")
     public ResponseEntity<?> getSettings() {
-        try {
-            Map<String, Object> settings = new HashMap<>();
-            // TODO: Implement settings retrieval from database
-            settings.put("systemName", "Student Complaint Resolution System");
-            settings.put("defaultRole", "STUDENT");
-            settings.put("emailNotifications", true);
-            settings.put("autoAssignment", true);
-            settings.put("sessionTimeout", 30);
-            settings.put("requirePasswordChange", false);
-
-            return ResponseEntity.ok(settings);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(ApiResponse.error("Failed to retrieve settings: " + e.getMessage()));
-        }
+        Map<String, Object> settings = new HashMap<>();
+        // TODO: Implement settings retrieval from database
+        settings.put("systemName", "Student Complaint Resolution System");
+        settings.put("defaultRole", "STUDENT");
+        settings.put("emailNotifications", true);
+        settings.put("autoAssignment", assignmentEngine.isAutoAssignmentEnabled());
+        settings.put("assignmentStrategy", assignmentEngine.getStrategyName());
+        settings.put("availableAssignmentStrategies", assignmentEngine.getAvailableStrategies());
+        settings.put("sessionTimeout", 30);
+        settings.put("requirePasswordChange", false);
+
+        return ResponseEntity.ok(settings);
     }
 
     @PutMapping("/settings")
     public ResponseEntity<?> updateSettings(@RequestBody Map<String, Object> settings) {
-        try {
-            // TODO: Implement settings update in database
-            return ResponseEntity.ok(ApiResponse.success("Settings updated successfully"));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(ApiResponse.error("Failed to update settings: " + e.getMessage()));
+        // TODO: Implement settings update in database
+        // Assignment settings are applied at runtime until settings persistence exists
+        if (settings.containsKey("assignmentStrategy")) {
+            assignmentEngine.setStrategy((String) settings.get("assignmentStrategy"));
+        }
+        if (settings.containsKey("autoAssignment")) {
+            assignmentEngine.setAutoAssignmentEnabled(Boolean.TRUE.equals(settings.get("autoAssignment")));
+        }
+        return ResponseEntity.ok(ApiResponse.success("Settings updated successfully"));
+    }
+
+    @GetMapping("/read-coalescing/stats")
+    public ResponseEntity<?> getReadCoalescingStats() {
+        return ResponseEntity.ok(readCoalescer.getStats());
+    }
+
+    /**
+     * SQL statement fingerprints with the highest p99 latency and the repository methods issuing them
+     */
+    @GetMapping("/slow-queries")
+    public ResponseEntity<?> getSlowQueries(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(slowQueryLog.getSlowest(Math.max(1, Math.min(limit, 200))));
+    }
+
+    @DeleteMapping("/slow-queries")
+    public ResponseEntity<?> resetSlowQueries() {
+        slowQueryLog.reset();
+        return ResponseEntity.ok(ApiResponse.success("Slow query statistics reset", null));
+    }
+
+    @GetMapping("/assignment/workload")
+    public ResponseEntity<?> getAssignmentWorkload() {
+        return ResponseEntity.ok(assignmentEngine.getWorkloadSnapshot());
+    }
+
+    @GetMapping("/complaints/export")
+    public ResponseEntity<StreamingResponseBody> exportComplaints(@RequestParam(defaultValue = "csv") String format) {
+        ComplaintExportService.Format exportFormat = ComplaintExportService.Format.parse(format);
+
+        String filename = "complaints-" + LocalDate.now() + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(outputStream -> exportService.exportComplaints(exportFormat, outputStream));
+    }
+
+    @PostMapping("/import/users")
+    public ResponseEntity<?> importUsers(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream inputStream = file.getInputStream()) {
+            ImportReport report = importService.importUsers(inputStream);
+            return ResponseEntity.ok(ApiResponse.success("User import completed", report));
         }
     }
 
+    @PostMapping("/import/complaints")
+    public ResponseEntity<?> importComplaints(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream inputStream = file.getInputStream()) {
+            ImportReport report = importService.importComplaints(inputStream);
+            return ResponseEntity.ok(ApiResponse.success("Complaint import completed", report));
+        }
+    }
+
+    @GetMapping("/routing-rules")
+    public ResponseEntity<?> getRoutingRules() {
+        List<RoutingRuleResponse> rules = routingService.getAllRules().stream()
+                .map(this::convertToRoutingRuleResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(rules);
+    }
+
+    @PostMapping("/routing-rules")
+    public ResponseEntity<?> createRoutingRule(@Valid @RequestBody RoutingRuleRequest request) {
+        ComplaintRoutingRule rule = routingService.createRule(request.getComplaintType(), request.getKeyword(),
+                request.getDepartmentId(), request.getPriority());
+        return ResponseEntity.ok(ApiResponse.success("Routing rule created successfully",
+                convertToRoutingRuleResponse(rule)));
+    }
+
+    @PutMapping("/routing-rules/{id}")
+    public ResponseEntity<?> updateRoutingRule(@PathVariable Long id, @Valid @RequestBody RoutingRuleRequest request) {
+        ComplaintRoutingRule rule = routingService.updateRule(id, request.getComplaintType(), request.getKeyword(),
+                request.getDepartmentId(), request.getPriority(), request.getIsActive());
+        return ResponseEntity.ok(ApiResponse.success("Routing rule updated successfully",
+                convertToRoutingRuleResponse(rule)));
+    }
+
+    @DeleteMapping("/routing-rules/{id}")
+    public ResponseEntity<?> deleteRoutingRule(@PathVariable Long id) {
+        routingService.deleteRule(id);
+        return ResponseEntity.ok(ApiResponse.success("Routing rule deleted successfully"));
+    }
+
+    private RoutingRuleResponse convertToRoutingRuleResponse(ComplaintRoutingRule rule) {
+        RoutingRuleResponse response = new RoutingRuleResponse();
+        response.setId(rule.getId());
+        response.setComplaintType(rule.getComplaintType());
+        response.setKeyword(rule.getKeyword());
+        response.setPriority(rule.getPriority());
+        response.setActive(rule.getIsActive());
+        response.setDepartmentId(rule.getDepartment().getId());
+        response.setDepartmentName(rule.getDepartment().getName());
+        response.setCreatedAt(Timestamps.format(rule.getCreatedAt()));
+        response.setUpdatedAt(Timestamps.format(rule.getUpdatedAt()));
+        return response;
+    }
+
+    private Map<String, Object> convertActivityEvent(ActivityEvent event) {
+        Map<String, Object> activity = new LinkedHashMap<>();
+        activity.put("sequence", event.sequence());
+        activity.put("type", event.type());
+        activity.put("description", event.description());
+        activity.put("userId", event.userId());
+        activity.put("complaintId", event.complaintId());
+        activity.put("timestamp", Timestamps.format(event.timestamp()));
+        return activity;
+    }
+
+    private Map<String, Object> convertActivityEntry(ActivityLogEntry entry) {
+        Map<String, Object> activity = new LinkedHashMap<>();
+        activity.put("sequence", entry.getSequence());
+        activity.put("type", entry.getType());
+        activity.put("description", entry.getDescription());
+        activity.put("userId", entry.getUserId());
+        activity.put("complaintId", entry.getComplaintId());
+        activity.put("timestamp", Timestamps.format(entry.getCreatedAt()));
+        return activity;
+    }
+
     private UserResponse convertToUserResponse(User user) {
         UserResponse response = new UserResponse();
         response.setId(user.getId());
@@ -212,7 +370,7 @@ public class AdminController {
         response.setEmail(user.getEmail());
         response.setRole(user.getRole());
         response.setEnabled(user.isEnabled());
-        response.setCreatedAt(user.getCreatedAt().toString());
+        response.setCreatedAt(Timestamps.format(user.getCreatedAt()));
 
         if (user.getDepartment() != null) {
             response.setDepartment(user.getDepartment().getName());
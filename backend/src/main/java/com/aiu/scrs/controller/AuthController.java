@@ -31,13 +31,8 @@ public class AuthController {
      */
     @PostMapping("/register")
     public ResponseEntity<ApiResponse<AuthResponse>> registerUser(@Valid @RequestBody RegisterRequest registerRequest) {
-        try {
-            AuthResponse authResponse = userService.registerUser(registerRequest);
-            return ResponseEntity.ok(ApiResponse.success("User registered successfully", authResponse));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                .body(ApiResponse.error("Registration failed: " + e.getMessage()));
-        }
+        AuthResponse authResponse = userService.registerUser(registerRequest);
+        return ResponseEntity.ok(ApiResponse.success("User registered successfully", authResponse));
     }
 
     /**
@@ -45,13 +40,8 @@ public class AuthController {
      */
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<AuthResponse>> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
-        try {
-            AuthResponse authResponse = userService.authenticateUser(loginRequest);
-            return ResponseEntity.ok(ApiResponse.success("Login successful", authResponse));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                .body(ApiResponse.error("Login failed: " + e.getMessage()));
-        }
+        AuthResponse authResponse = userService.authenticateUser(loginRequest);
+        return ResponseEntity.ok(ApiResponse.success("Login successful", authResponse));
     }
 
     /**
@@ -59,17 +49,13 @@ public class AuthController {
      */
     @GetMapping("/validate")
     public ResponseEntity<ApiResponse<String>> validateToken(@RequestHeader("Authorization") String authHeader) {
-        try {
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                String token = authHeader.substring(7);
-                if (tokenProvider.validateToken(token)) {
-                    return ResponseEntity.ok(ApiResponse.success("Token is valid", tokenProvider.getUsernameFromToken(token)));
-                }
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            String token = authHeader.substring(7);
+            if (tokenProvider.validateToken(token)) {
+                return ResponseEntity.ok(ApiResponse.success("Token is valid", tokenProvider.getUsernameFromToken(token)));
             }
-            return ResponseEntity.badRequest().body(ApiResponse.error("Invalid token"));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(ApiResponse.error("Token validation failed: " + e.getMessage()));
         }
+        return ResponseEntity.badRequest().body(ApiResponse.error("Invalid token"));
     }
 
     /**
@@ -77,16 +63,12 @@ public class AuthController {
      */
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<User>> getCurrentUser(@RequestHeader("Authorization") String authHeader) {
-        try {
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                String token = authHeader.substring(7);
-                String username = tokenProvider.getUsernameFromToken(token);
-                User currentUser = userService.findByUsername(username);
-                return ResponseEntity.ok(ApiResponse.success("User retrieved successfully", currentUser));
-            }
-            return ResponseEntity.badRequest().body(ApiResponse.error("Authorization header missing or invalid"));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(ApiResponse.error("Failed to get user: " + e.getMessage()));
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            String token = authHeader.substring(7);
+            String username = tokenProvider.getUsernameFromToken(token);
+            User currentUser = userService.findByUsername(username);
+            return ResponseEntity.ok(ApiResponse.success("User retrieved successfully", currentUser));
         }
+        return ResponseEntity.badRequest().body(ApiResponse.error("Authorization header missing or invalid"));
     }
 }
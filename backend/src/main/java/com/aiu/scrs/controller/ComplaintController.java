@@ -0,0 +1,266 @@
+package com.aiu.scrs.controller;
+
+import com.aiu.scrs.config.UserDetailsImpl;
+import com.aiu.scrs.dto.ApiResponse;
+import com.aiu.scrs.dto.complaint.BulkAssignRequest;
+import com.aiu.scrs.dto.complaint.BulkOperationResult;
+import com.aiu.scrs.dto.complaint.BulkStatusRequest;
+import com.aiu.scrs.dto.complaint.ComplaintResponse;
+import com.aiu.scrs.entity.Complaint;
+import com.aiu.scrs.entity.ComplaintStatus;
+import com.aiu.scrs.entity.User;
+import com.aiu.scrs.entity.UserRole;
+import com.aiu.scrs.exception.ErrorCode;
+import com.aiu.scrs.exception.InvalidRequestException;
+import com.aiu.scrs.exception.ResourceNotFoundException;
+import com.aiu.scrs.repository.ComplaintVersion;
+import com.aiu.scrs.repository.ComplaintVersionStamp;
+import com.aiu.scrs.service.ComplaintService;
+import com.aiu.scrs.service.UserService;
+import com.aiu.scrs.service.coalescing.ReadCoalescer;
+import com.aiu.scrs.service.coalescing.SingleFlightCache;
+import com.aiu.scrs.service.push.DashboardHub;
+import com.aiu.scrs.util.ETags;
+import com.aiu.scrs.util.SparseFields;
+import com.aiu.scrs.util.Timestamps;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Complaint Controller - Handles complaint operations
+ */
+@RestController
+@RequestMapping("/api/complaints")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ComplaintController {
+
+    /**
+     * Let clients cache responses but revalidate them with If-None-Match on every use
+     */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    /**
+     * Largest page of the public top-voted list
+     */
+    private static final int MAX_TOP_VOTED = 100;
+
+    /**
+     * Largest page of the complaint list, as in the reactive read API
+     */
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private ComplaintService complaintService;
+
+    @Autowired
+    private ReadCoalescer readCoalescer;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private DashboardHub dashboardHub;
+
+    /**
+     * Get a page of complaints. Answers 304 when the client's ETag still matches the filtered collection.
+     * A comma-separated fields parameter limits both the selected columns and the returned properties.
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getComplaints(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        List<String> fieldNames = SparseFields.parse(fields);
+        ComplaintStatus statusFilter = StringUtils.hasText(status) ? ComplaintStatus.valueOf(status.trim().toUpperCase()) : null;
+        Long departmentFilter = StringUtils.hasText(department) ? Long.valueOf(department.trim()) : null;
+        
+        // Stamp before reading, so a concurrent change can only make the ETag look older than the body
+        ComplaintVersionStamp version = complaintService.getComplaintsVersion(statusFilter, departmentFilter, search);
+        String etag = ETags.strong("complaints", version.getCount(), version.getLastUpdated(), version.getIdSum(),
+                version.getSubmittersLastUpdated(), version.getDepartmentsLastUpdated(),
+                statusFilter, departmentFilter, search, page, size, fieldNames,
+                webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        Page<?> complaints;
+        if (fieldNames != null) {
+            complaints = complaintService.getComplaintFields(fieldNames, statusFilter, departmentFilter, search, pageable);
+        } else {
+            complaints = complaintService.getComplaints(statusFilter, departmentFilter, search, pageable)
+                .map(this::convertToComplaintResponse);
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("content", complaints.getContent());
+        response.put("totalElements", complaints.getTotalElements());
+        response.put("totalPages", complaints.getTotalPages());
+        response.put("currentPage", complaints.getNumber());
+        response.put("size", complaints.getSize());
+        
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .varyBy(HttpHeaders.ACCEPT)
+            .cacheControl(REVALIDATE)
+            .body(ApiResponse.success("Complaints retrieved successfully", response));
+    }
+
+    /**
+     * Get the most voted complaints (public). Concurrent identical requests share one query,
+     * and its result is reused for a short time.
+     */
+    @GetMapping("/top-voted")
+    public ResponseEntity<ApiResponse<List<ComplaintResponse>>> getTopVotedComplaints(
+            @RequestParam(defaultValue = "10") int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_TOP_VOTED));
+        SingleFlightCache<Integer, List<ComplaintResponse>> topVoted = readCoalescer.cache("top-voted");
+        List<ComplaintResponse> complaints = topVoted.get(boundedLimit, () ->
+            complaintService.getTopVotedComplaints(boundedLimit).stream()
+                .map(this::convertToComplaintResponse)
+                .toList());
+        return ResponseEntity.ok(ApiResponse.success("Top voted complaints retrieved successfully", complaints));
+    }
+
+    /**
+     * Get complaint by ID. Answers 304 when the client's ETag still matches the complaint version and
+     * its submitter and department are unchanged.
+     */
+    @GetMapping("/{id:\\d+}")
+    public ResponseEntity<ApiResponse<ComplaintResponse>> getComplaintById(@PathVariable Long id, WebRequest webRequest) {
+        ComplaintVersion version = complaintService.getComplaintVersion(id)
+            .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.COMPLAINT_NOT_FOUND, "Complaint not found with ID: " + id));
+        String etag = ETags.strong("complaint", id, version.getVersion(), version.getSubmitterUpdated(),
+                version.getDepartmentUpdated(), webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        
+        Complaint complaint = complaintService.getComplaintById(id)
+            .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.COMPLAINT_NOT_FOUND, "Complaint not found with ID: " + id));
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .varyBy(HttpHeaders.ACCEPT)
+            .cacheControl(REVALIDATE)
+            .body(ApiResponse.success("Complaint retrieved successfully", convertToComplaintResponse(complaint)));
+    }
+
+    /**
+     * Server-Sent Events stream of complaint changes for dashboards. Staff receive changes in their
+     * department and of complaints assigned to them; admins receive every change and complaint counts.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('STAFF', 'ADMIN')")
+    public SseEmitter streamEvents(@AuthenticationPrincipal UserDetailsImpl currentUser) {
+        User user = userService.getUserById(currentUser.getId());
+        List<String> channels = new ArrayList<>();
+        if (user.getRole() == UserRole.ADMIN) {
+            channels.add(DashboardHub.ALL_COMPLAINTS);
+            channels.add(DashboardHub.STATS);
+        } else {
+            channels.add(DashboardHub.assignee(user.getId()));
+            if (user.getDepartment() != null) {
+                channels.add(DashboardHub.department(user.getDepartment().getId()));
+            }
+        }
+        return dashboardHub.subscribe(channels);
+    }
+
+    /**
+     * Vote for a complaint. A student votes at most once per complaint.
+     */
+    @PostMapping("/vote/{id:\\d+}")
+    @PreAuthorize("hasRole('STUDENT')")
+    public ResponseEntity<ApiResponse<String>> voteComplaint(@PathVariable Long id,
+            @AuthenticationPrincipal UserDetailsImpl currentUser) {
+        complaintService.voteComplaint(id, currentUser.getId());
+        return ResponseEntity.ok(ApiResponse.success("Vote recorded successfully", null));
+    }
+
+    /**
+     * Remove the current student's vote from a complaint
+     */
+    @DeleteMapping("/vote/{id:\\d+}")
+    @PreAuthorize("hasRole('STUDENT')")
+    public ResponseEntity<ApiResponse<String>> removeVote(@PathVariable Long id,
+            @AuthenticationPrincipal UserDetailsImpl currentUser) {
+        complaintService.removeVote(id, currentUser.getId());
+        return ResponseEntity.ok(ApiResponse.success("Vote removed successfully", null));
+    }
+
+    /**
+     * Change the status of several complaints
+     */
+    @PutMapping("/bulk/status")
+    @PreAuthorize("hasAnyRole('STAFF', 'ADMIN')")
+    public ResponseEntity<ApiResponse<BulkOperationResult>> bulkChangeStatus(
+            @Valid @RequestBody BulkStatusRequest request,
+            @AuthenticationPrincipal UserDetailsImpl currentUser) {
+        BulkOperationResult result = complaintService.bulkChangeStatus(
+            request.getComplaintIds(), request.getStatus(), currentUser.getId(), request.getNotes());
+        return ResponseEntity.ok(ApiResponse.success("Bulk status change completed", result));
+    }
+
+    /**
+     * Assign several complaints to a staff member
+     */
+    @PutMapping("/bulk/assign")
+    @PreAuthorize("hasAnyRole('STAFF', 'ADMIN')")
+    public ResponseEntity<ApiResponse<BulkOperationResult>> bulkAssign(
+            @Valid @RequestBody BulkAssignRequest request,
+            @AuthenticationPrincipal UserDetailsImpl currentUser) {
+        BulkOperationResult result = complaintService.bulkAssign(
+            request.getComplaintIds(), request.getStaffId(), currentUser.getId());
+        return ResponseEntity.ok(ApiResponse.success("Bulk assignment completed", result));
+    }
+
+    private ComplaintResponse convertToComplaintResponse(Complaint complaint) {
+        ComplaintResponse response = new ComplaintResponse();
+        response.setId(complaint.getId());
+        response.setTitle(complaint.getTitle());
+        response.setDescription(complaint.getDescription());
+        response.setType(complaint.getType());
+        response.setStatus(complaint.getStatus());
+        response.setVoteCount(complaint.getTotalVotes() != null ? complaint.getTotalVotes() : 0);
+        response.setCreatedAt(Timestamps.format(complaint.getCreatedAt()));
+        response.setUpdatedAt(Timestamps.format(complaint.getUpdatedAt()));
+
+        User submittedBy = complaint.getCreatedBy();
+        response.setSubmittedById(submittedBy.getId());
+        response.setSubmittedByUsername(submittedBy.getUsername());
+        response.setSubmittedByFullName(submittedBy.getFullName());
+
+        if (complaint.getTargetDepartment() != null) {
+            response.setDepartmentId(complaint.getTargetDepartment().getId());
+            response.setDepartmentName(complaint.getTargetDepartment().getName());
+        }
+
+        return response;
+    }
+}
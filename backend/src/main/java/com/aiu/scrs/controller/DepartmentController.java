@@ -0,0 +1,95 @@
+package com.aiu.scrs.controller;
+
+import com.aiu.scrs.dto.ApiResponse;
+import com.aiu.scrs.dto.department.DepartmentResponse;
+import com.aiu.scrs.entity.Department;
+import com.aiu.scrs.exception.ErrorCode;
+import com.aiu.scrs.exception.ResourceNotFoundException;
+import com.aiu.scrs.repository.VersionStamp;
+import com.aiu.scrs.service.DepartmentService;
+import com.aiu.scrs.util.ETags;
+import com.aiu.scrs.util.Timestamps;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Department Controller - Read access to departments with conditional GET support
+ */
+@RestController
+@RequestMapping("/api/departments")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class DepartmentController {
+
+    /**
+     * Let clients cache responses but revalidate them with If-None-Match on every use
+     */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    /**
+     * Get all departments. Answers 304 when the client's ETag still matches the department table.
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<DepartmentResponse>>> getAllDepartments(WebRequest webRequest) {
+        VersionStamp version = departmentService.getDepartmentsVersion();
+        String etag = ETags.strong("departments", version.getCount(), version.getLastUpdated(), version.getIdSum(),
+                webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        List<DepartmentResponse> departments = departmentService.getAllDepartments().stream()
+            .map(this::convertToDepartmentResponse)
+            .collect(Collectors.toList());
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .varyBy(HttpHeaders.ACCEPT)
+            .cacheControl(REVALIDATE)
+            .body(ApiResponse.success("Departments retrieved successfully", departments));
+    }
+
+    /**
+     * Get department by ID. Answers 304 when the client's ETag still matches the department version.
+     */
+    @GetMapping("/{id:\\d+}")
+    public ResponseEntity<ApiResponse<DepartmentResponse>> getDepartmentById(@PathVariable Long id, WebRequest webRequest) {
+        Optional<LocalDateTime> version = departmentService.getDepartmentVersion(id);
+        if (version.isEmpty()) {
+            throw new ResourceNotFoundException(ErrorCode.DEPARTMENT_NOT_FOUND, "Department not found with ID: " + id);
+        }
+        String etag = ETags.strong("department", id, version.get(), webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        Department department = departmentService.getDepartmentById(id)
+            .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.DEPARTMENT_NOT_FOUND, "Department not found with ID: " + id));
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .varyBy(HttpHeaders.ACCEPT)
+            .cacheControl(REVALIDATE)
+            .body(ApiResponse.success("Department retrieved successfully", convertToDepartmentResponse(department)));
+    }
+
+    private DepartmentResponse convertToDepartmentResponse(Department department) {
+        DepartmentResponse response = new DepartmentResponse();
+        response.setId(department.getId());
+        response.setName(department.getName());
+        response.setDescription(department.getDescription());
+        response.setActive(department.getIsActive());
+        response.setCreatedAt(Timestamps.format(department.getCreatedAt()));
+        response.setUpdatedAt(Timestamps.format(department.getUpdatedAt()));
+        return response;
+    }
+}
@@ -5,6 +5,7 @@ import com.aiu.scrs.dto.user.UserResponse;
 import com.aiu.scrs.entity.User;
 import com.aiu.scrs.entity.UserRole;
 import com.aiu.scrs.service.UserService;
+import com.aiu.scrs.util.Timestamps;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -30,17 +31,12 @@ public class UserController {
      */
     @GetMapping
     public ResponseEntity<ApiResponse<List<UserResponse>>> getAllUsers() {
-        try {
-            List<User> users = userService.getAllUsers();
-            List<UserResponse> userResponses = users.stream()
-                .map(this::convertToUserResponse)
-                .collect(Collectors.toList());
-            
-            return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", userResponses));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                .body(ApiResponse.error("Failed to retrieve users: " + e.getMessage()));
-        }
+        List<User> users = userService.getAllUsers();
+        List<UserResponse> userResponses = users.stream()
+            .map(this::convertToUserResponse)
+            .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", userResponses));
     }
 
     /**
@@ -48,16 +44,8 @@ public class UserController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<UserResponse>> getUserById(@PathVariable Long id) {
-        try {
-            User user = userService.getUserById(id);
-            return ResponseEntity.ok(ApiResponse.success("User retrieved successfully", convertToUserResponse(user)));
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                .body(ApiResponse.error("Failed to retrieve user: " + e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                .body(ApiResponse.error("Failed to retrieve user: " + e.getMessage()));
-        }
+        User user = userService.getUserById(id);
+        return ResponseEntity.ok(ApiResponse.success("User retrieved successfully", convertToUserResponse(user)));
     }
 
     /**
@@ -65,17 +53,12 @@ public class UserController {
      */
     @GetMapping("/role/{role}")
     public ResponseEntity<ApiResponse<List<UserResponse>>> getUsersByRole(@PathVariable UserRole role) {
-        try {
-            List<User> users = userService.getUsersByRole(role);
-            List<UserResponse> userResponses = users.stream()
-                .map(this::convertToUserResponse)
-                .collect(Collectors.toList());
-            
-            return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", userResponses));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                .body(ApiResponse.error("Failed to retrieve users: " + e.getMessage()));
-        }
+        List<User> users = userService.getUsersByRole(role);
+        List<UserResponse> userResponses = users.stream()
+            .map(this::convertToUserResponse)
+            .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", userResponses));
     }
 
     /**
@@ -83,17 +66,12 @@ public class UserController {
      */
     @GetMapping("/students")
     public ResponseEntity<ApiResponse<List<UserResponse>>> getStudents() {
-        try {
-            List<User> users = userService.getStudents();
-            List<UserResponse> userResponses = users.stream()
-                .map(this::convertToUserResponse)
-                .collect(Collectors.toList());
-            
-            return ResponseEntity.ok(ApiResponse.success("Students retrieved successfully", userResponses));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                .body(ApiResponse.error("Failed to retrieve students: " + e.getMessage()));
-        }
+        List<User> users = userService.getStudents();
+        List<UserResponse> userResponses = users.stream()
+            .map(this::convertToUserResponse)
+            .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(ApiResponse.success("Students retrieved successfully", userResponses));
     }
 
     /**
@@ -101,17 +79,12 @@ public class UserController {
      */
     @GetMapping("/staff")
     public ResponseEntity<ApiResponse<List<UserResponse>>> getStaff() {
-        try {
-            List<User> users = userService.getStaff();
-            List<UserResponse> userResponses = users.stream()
-                .map(this::convertToUserResponse)
-                .collect(Collectors.toList());
-            
-            return ResponseEntity.ok(ApiResponse.success("Staff retrieved successfully", userResponses));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                .body(ApiResponse.error("Failed to retrieve staff: " + e.getMessage()));
-        }
+        List<User> users = userService.getStaff();
+        List<UserResponse> userResponses = users.stream()
+            .map(this::convertToUserResponse)
+            .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(ApiResponse.success("Staff retrieved successfully", userResponses));
     }
 
     /**
@@ -119,17 +92,12 @@ public class UserController {
      */
     @GetMapping("/admins")
     public ResponseEntity<ApiResponse<List<UserResponse>>> getAdmins() {
-        try {
-            List<User> users = userService.getAdmins();
-            List<UserResponse> userResponses = users.stream()
-                .map(this::convertToUserResponse)
-                .collect(Collectors.toList());
-            
-            return ResponseEntity.ok(ApiResponse.success("Admins retrieved successfully", userResponses));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                .body(ApiResponse.error("Failed to retrieve admins: " + e.getMessage()));
-        }
+        List<User> users = userService.getAdmins();
+        List<UserResponse> userResponses = users.stream()
+            .map(this::convertToUserResponse)
+            .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(ApiResponse.success("Admins retrieved successfully", userResponses));
     }
 
     /**
@@ -137,17 +105,12 @@ public class UserController {
      */
     @GetMapping("/department/{departmentId}")
     public ResponseEntity<ApiResponse<List<UserResponse>>> getUsersByDepartment(@PathVariable Long departmentId) {
-        try {
-            List<User> users = userService.getUsersByDepartment(departmentId);
-            List<UserResponse> userResponses = users.stream()
-                .map(this::convertToUserResponse)
-                .collect(Collectors.toList());
-            
-            return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", userResponses));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                .body(ApiResponse.error("Failed to retrieve users: " + e.getMessage()));
-        }
+        List<User> users = userService.getUsersByDepartment(departmentId);
+        List<UserResponse> userResponses = users.stream()
+            .map(this::convertToUserResponse)
+            .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", userResponses));
     }
 
     /**
@@ -155,13 +118,8 @@ public class UserController {
      */
     @PutMapping("/{id}/deactivate")
     public ResponseEntity<ApiResponse<String>> deactivateUser(@PathVariable Long id) {
-        try {
-            userService.deactivateUser(id);
-            return ResponseEntity.ok(ApiResponse.success("User deactivated successfully"));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                .body(ApiResponse.error("Failed to deactivate user: " + e.getMessage()));
-        }
+        userService.deactivateUser(id);
+        return ResponseEntity.ok(ApiResponse.success("User deactivated successfully"));
     }
 
     /**
@@ -169,13 +127,8 @@ public class UserController {
      */
     @PutMapping("/{id}/activate")
     public ResponseEntity<ApiResponse<String>> activateUser(@PathVariable Long id) {
-        try {
-            userService.activateUser(id);
-            return ResponseEntity.ok(ApiResponse.success("User activated successfully"));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                .body(ApiResponse.error("Failed to activate user: " + e.getMessage()));
-        }
+        userService.activateUser(id);
+        return ResponseEntity.ok(ApiResponse.success("User activated successfully"));
     }
 
     /**
@@ -183,13 +136,8 @@ public class UserController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<String>> deleteUser(@PathVariable Long id) {
-        try {
-            userService.deleteUser(id);
-            return ResponseEntity.ok(ApiResponse.success("User deleted successfully"));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                .body(ApiResponse.error("Failed to delete user: " + e.getMessage()));
-        }
+        userService.deleteUser(id);
+        return ResponseEntity.ok(ApiResponse.success("User deleted successfully"));
     }
 
     /**
@@ -198,13 +146,8 @@ public class UserController {
     @PutMapping("/{id}/password")
     public ResponseEntity<ApiResponse<String>> changePassword(@PathVariable Long id, 
                                                             @RequestParam String newPassword) {
-        try {
-            userService.changePassword(id, newPassword);
-            return ResponseEntity.ok(ApiResponse.success("Password changed successfully"));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                .body(ApiResponse.error("Failed to change password: " + e.getMessage()));
-        }
+        userService.changePassword(id, newPassword);
+        return ResponseEntity.ok(ApiResponse.success("Password changed successfully"));
     }
 
     /**
@@ -236,8 +179,8 @@ public class UserController {
             response.setDepartment(user.getDepartment().getName());
         }
         
-        response.setCreatedAt(user.getCreatedAt() != null ? user.getCreatedAt().toString() : null);
-        response.setUpdatedAt(user.getUpdatedAt() != null ? user.getUpdatedAt().toString() : null);
+        response.setCreatedAt(Timestamps.format(user.getCreatedAt()));
+        response.setUpdatedAt(Timestamps.format(user.getUpdatedAt()));
         
         return response;
     }
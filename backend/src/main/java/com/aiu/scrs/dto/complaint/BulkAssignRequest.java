@@ -0,0 +1,43 @@
+package com.aiu.scrs.dto.complaint;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Bulk Assign Request DTO for assigning several complaints to one staff member
+ */
+public class BulkAssignRequest {
+    
+    @NotEmpty(message = "At least one complaint ID is required")
+    private List<Long> complaintIds;
+    
+    @NotNull(message = "Staff member is required")
+    private Long staffId;
+    
+    // Constructors
+    public BulkAssignRequest() {}
+    
+    public BulkAssignRequest(List<Long> complaintIds, Long staffId) {
+        this.complaintIds = complaintIds;
+        this.staffId = staffId;
+    }
+    
+    // Getters and Setters
+    public List<Long> getComplaintIds() {
+        return complaintIds;
+    }
+    
+    public void setComplaintIds(List<Long> complaintIds) {
+        this.complaintIds = complaintIds;
+    }
+    
+    public Long getStaffId() {
+        return staffId;
+    }
+    
+    public void setStaffId(Long staffId) {
+        this.staffId = staffId;
+    }
+}
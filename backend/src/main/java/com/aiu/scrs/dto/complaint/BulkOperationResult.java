@@ -0,0 +1,95 @@
+package com.aiu.scrs.dto.complaint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk Operation Result DTO - Outcome of a bulk complaint operation with per-item failures
+ */
+public class BulkOperationResult {
+    
+    private int requested;
+    private List<Long> succeededIds = new ArrayList<>();
+    private List<Failure> failures = new ArrayList<>();
+    
+    // Constructors
+    public BulkOperationResult() {}
+    
+    public BulkOperationResult(int requested) {
+        this.requested = requested;
+    }
+    
+    // Utility methods
+    public void addSuccess(Long complaintId) {
+        succeededIds.add(complaintId);
+    }
+    
+    public void addFailure(Long complaintId, String reason) {
+        failures.add(new Failure(complaintId, reason));
+    }
+    
+    public int getSucceeded() {
+        return succeededIds.size();
+    }
+    
+    public int getFailed() {
+        return failures.size();
+    }
+    
+    // Getters and Setters
+    public int getRequested() {
+        return requested;
+    }
+    
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+    
+    public List<Long> getSucceededIds() {
+        return succeededIds;
+    }
+    
+    public void setSucceededIds(List<Long> succeededIds) {
+        this.succeededIds = succeededIds;
+    }
+    
+    public List<Failure> getFailures() {
+        return failures;
+    }
+    
+    public void setFailures(List<Failure> failures) {
+        this.failures = failures;
+    }
+    
+    /**
+     * A complaint that could not be processed and why
+     */
+    public static class Failure {
+        
+        private Long complaintId;
+        private String reason;
+        
+        public Failure() {}
+        
+        public Failure(Long complaintId, String reason) {
+            this.complaintId = complaintId;
+            this.reason = reason;
+        }
+        
+        public Long getComplaintId() {
+            return complaintId;
+        }
+        
+        public void setComplaintId(Long complaintId) {
+            this.complaintId = complaintId;
+        }
+        
+        public String getReason() {
+            return reason;
+        }
+        
+        public void setReason(String reason) {
+            this.reason = reason;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.aiu.scrs.dto.complaint;
+
+import com.aiu.scrs.entity.ComplaintStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Bulk Status Request DTO for changing the status of several complaints at once
+ */
+public class BulkStatusRequest {
+    
+    @NotEmpty(message = "At least one complaint ID is required")
+    private List<Long> complaintIds;
+    
+    @NotNull(message = "Status is required")
+    private ComplaintStatus status;
+    
+    @Size(max = 400, message = "Notes must not exceed 400 characters")
+    private String notes;
+    
+    // Constructors
+    public BulkStatusRequest() {}
+    
+    public BulkStatusRequest(List<Long> complaintIds, ComplaintStatus status, String notes) {
+        this.complaintIds = complaintIds;
+        this.status = status;
+        this.notes = notes;
+    }
+    
+    // Getters and Setters
+    public List<Long> getComplaintIds() {
+        return complaintIds;
+    }
+    
+    public void setComplaintIds(List<Long> complaintIds) {
+        this.complaintIds = complaintIds;
+    }
+    
+    public ComplaintStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(ComplaintStatus status) {
+        this.status = status;
+    }
+    
+    public String getNotes() {
+        return notes;
+    }
+    
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+}
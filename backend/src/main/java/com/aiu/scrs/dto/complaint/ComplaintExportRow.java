@@ -0,0 +1,119 @@
+package com.aiu.scrs.dto.complaint;
+
+import com.aiu.scrs.entity.ComplaintStatus;
+import com.aiu.scrs.entity.ComplaintType;
+import com.aiu.scrs.util.Timestamps;
+
+import java.time.LocalDateTime;
+
+/**
+ * Complaint Export Row - Flat read-only projection of a complaint with its department and submitter
+ */
+public class ComplaintExportRow {
+    
+    /**
+     * Column names in export order
+     */
+    public static final String[] COLUMNS = {
+        "id", "title", "description", "type", "status", "departmentName",
+        "submittedByUsername", "submittedByFullName", "assignedToUsername",
+        "totalVotes", "studentConfirmation", "createdAt", "updatedAt"
+    };
+    
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final ComplaintType type;
+    private final ComplaintStatus status;
+    private final String departmentName;
+    private final String submittedByUsername;
+    private final String submittedByFullName;
+    private final String assignedToUsername;
+    private final Integer totalVotes;
+    private final Boolean studentConfirmation;
+    private final String createdAt;
+    private final String updatedAt;
+    
+    public ComplaintExportRow(Long id, String title, String description, ComplaintType type, ComplaintStatus status,
+                              String departmentName, String submittedByUsername, String submittedByFirstName,
+                              String submittedByLastName, String assignedToUsername, Integer totalVotes,
+                              Boolean studentConfirmation, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.type = type;
+        this.status = status;
+        this.departmentName = departmentName;
+        this.submittedByUsername = submittedByUsername;
+        this.submittedByFullName = submittedByFirstName + " " + submittedByLastName;
+        this.assignedToUsername = assignedToUsername;
+        this.totalVotes = totalVotes;
+        this.studentConfirmation = studentConfirmation;
+        this.createdAt = Timestamps.format(createdAt);
+        this.updatedAt = Timestamps.format(updatedAt);
+    }
+    
+    /**
+     * Values in {@link #COLUMNS} order
+     */
+    public Object[] toValues() {
+        return new Object[] {
+            id, title, description, type, status, departmentName,
+            submittedByUsername, submittedByFullName, assignedToUsername,
+            totalVotes, studentConfirmation, createdAt, updatedAt
+        };
+    }
+    
+    // Getters
+    public Long getId() {
+        return id;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public ComplaintType getType() {
+        return type;
+    }
+    
+    public ComplaintStatus getStatus() {
+        return status;
+    }
+    
+    public String getDepartmentName() {
+        return departmentName;
+    }
+    
+    public String getSubmittedByUsername() {
+        return submittedByUsername;
+    }
+    
+    public String getSubmittedByFullName() {
+        return submittedByFullName;
+    }
+    
+    public String getAssignedToUsername() {
+        return assignedToUsername;
+    }
+    
+    public Integer getTotalVotes() {
+        return totalVotes;
+    }
+    
+    public Boolean getStudentConfirmation() {
+        return studentConfirmation;
+    }
+    
+    public String getCreatedAt() {
+        return createdAt;
+    }
+    
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -11,6 +11,7 @@ public class DepartmentResponse {
     private Long id;
     private String name;
     private String description;
+    private Boolean active;
     private String location;
     private String contactEmail;
     private String contactPhone;
@@ -68,6 +69,14 @@ public class DepartmentResponse {
         this.description = description;
     }
     
+    public Boolean getActive() {
+        return active;
+    }
+    
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+    
     public String getLocation() {
         return location;
     }
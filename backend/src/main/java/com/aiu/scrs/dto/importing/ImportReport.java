@@ -0,0 +1,148 @@
+package com.aiu.scrs.dto.importing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Import Report DTO - Outcome of a CSV import with throughput and per-row errors
+ */
+public class ImportReport {
+    
+    /**
+     * Maximum number of row errors kept in the report
+     */
+    public static final int MAX_ERRORS = 1000;
+    
+    private String entity;
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private long durationMs;
+    private double rowsPerSecond;
+    private boolean errorsTruncated;
+    private List<RowError> errors = new ArrayList<>();
+    
+    // Constructors
+    public ImportReport() {}
+    
+    public ImportReport(String entity) {
+        this.entity = entity;
+    }
+    
+    // Utility methods
+    public void addError(long line, String message) {
+        failedRows++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new RowError(line, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+    
+    public void addImported(int count) {
+        importedRows += count;
+    }
+    
+    public void complete(long totalRows, long durationMs) {
+        this.totalRows = totalRows;
+        this.durationMs = durationMs;
+        this.rowsPerSecond = durationMs > 0 ? totalRows * 1000.0 / durationMs : totalRows;
+    }
+    
+    // Getters and Setters
+    public String getEntity() {
+        return entity;
+    }
+    
+    public void setEntity(String entity) {
+        this.entity = entity;
+    }
+    
+    public long getTotalRows() {
+        return totalRows;
+    }
+    
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+    
+    public long getImportedRows() {
+        return importedRows;
+    }
+    
+    public void setImportedRows(long importedRows) {
+        this.importedRows = importedRows;
+    }
+    
+    public long getFailedRows() {
+        return failedRows;
+    }
+    
+    public void setFailedRows(long failedRows) {
+        this.failedRows = failedRows;
+    }
+    
+    public long getDurationMs() {
+        return durationMs;
+    }
+    
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+    
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+    
+    public void setRowsPerSecond(double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+    
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+    
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+    
+    public List<RowError> getErrors() {
+        return errors;
+    }
+    
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+    
+    /**
+     * A CSV row that was rejected and why
+     */
+    public static class RowError {
+        
+        private long line;
+        private String message;
+        
+        public RowError() {}
+        
+        public RowError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+        
+        public long getLine() {
+            return line;
+        }
+        
+        public void setLine(long line) {
+            this.line = line;
+        }
+        
+        public String getMessage() {
+            return message;
+        }
+        
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.aiu.scrs.dto.routing;
+
+import com.aiu.scrs.entity.ComplaintType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Routing Rule Request DTO for creating/updating complaint routing rules
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RoutingRuleRequest {
+    
+    @NotNull(message = "Complaint type is required")
+    private ComplaintType complaintType;
+    
+    @Size(max = 100, message = "Keyword must not exceed 100 characters")
+    private String keyword;
+    
+    @NotNull(message = "Department is required")
+    private Long departmentId;
+    
+    private Integer priority;
+    private Boolean isActive;
+    
+    // Constructors
+    public RoutingRuleRequest() {}
+    
+    public RoutingRuleRequest(ComplaintType complaintType, String keyword, Long departmentId, Integer priority, Boolean isActive) {
+        this.complaintType = complaintType;
+        this.keyword = keyword;
+        this.departmentId = departmentId;
+        this.priority = priority;
+        this.isActive = isActive;
+    }
+    
+    // Getters and Setters
+    public ComplaintType getComplaintType() {
+        return complaintType;
+    }
+    
+    public void setComplaintType(ComplaintType complaintType) {
+        this.complaintType = complaintType;
+    }
+    
+    public String getKeyword() {
+        return keyword;
+    }
+    
+    public void setKeyword(String keyword) {
+        this.keyword = keyword;
+    }
+    
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+    
+    public void setDepartmentId(Long departmentId) {
+        this.departmentId = departmentId;
+    }
+    
+    public Integer getPriority() {
+        return priority;
+    }
+    
+    public void setPriority(Integer priority) {
+        this.priority = priority;
+    }
+    
+    public Boolean getIsActive() {
+        return isActive;
+    }
+    
+    public void setIsActive(Boolean isActive) {
+        this.isActive = isActive;
+    }
+}
@@ -0,0 +1,107 @@
+package com.aiu.scrs.dto.routing;
+
+import com.aiu.scrs.entity.ComplaintType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Routing Rule Response DTO for complaint routing rule information
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RoutingRuleResponse {
+    
+    private Long id;
+    private ComplaintType complaintType;
+    private String keyword;
+    private Integer priority;
+    private boolean active;
+    private String createdAt;
+    private String updatedAt;
+    
+    // Department information
+    private Long departmentId;
+    private String departmentName;
+    
+    // Constructors
+    public RoutingRuleResponse() {}
+    
+    public RoutingRuleResponse(Long id, ComplaintType complaintType, String keyword, Integer priority, boolean active) {
+        this.id = id;
+        this.complaintType = complaintType;
+        this.keyword = keyword;
+        this.priority = priority;
+        this.active = active;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public ComplaintType getComplaintType() {
+        return complaintType;
+    }
+    
+    public void setComplaintType(ComplaintType complaintType) {
+        this.complaintType = complaintType;
+    }
+    
+    public String getKeyword() {
+        return keyword;
+    }
+    
+    public void setKeyword(String keyword) {
+        this.keyword = keyword;
+    }
+    
+    public Integer getPriority() {
+        return priority;
+    }
+    
+    public void setPriority(Integer priority) {
+        this.priority = priority;
+    }
+    
+    public boolean isActive() {
+        return active;
+    }
+    
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+    
+    public String getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(String createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(String updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+    
+    public void setDepartmentId(Long departmentId) {
+        this.departmentId = departmentId;
+    }
+    
+    public String getDepartmentName() {
+        return departmentName;
+    }
+    
+    public void setDepartmentName(String departmentName) {
+        this.departmentName = departmentName;
+    }
+}
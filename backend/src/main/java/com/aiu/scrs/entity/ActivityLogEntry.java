@@ -0,0 +1,73 @@
+package com.aiu.scrs.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Activity Log Entry Entity - Append-only history of activity events. User and complaint IDs
+ * are plain columns without foreign keys, so entries outlive deleted users and complaints.
+ * Rows are written in batches by the activity log writer, never updated.
+ */
+@Entity
+@Table(name = "activity_log", indexes = {
+    @Index(name = "idx_activity_log_created_at", columnList = "created_at"),
+    @Index(name = "idx_activity_log_type", columnList = "type")
+})
+public class ActivityLogEntry {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    /**
+     * Position in the in-memory activity stream; increases with event order within one run
+     */
+    @Column(name = "stream_sequence", nullable = false)
+    private Long sequence;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private ActivityType type;
+    
+    @Column(nullable = false, length = 500)
+    private String description;
+    
+    @Column(name = "user_id")
+    private Long userId;
+    
+    @Column(name = "complaint_id")
+    private Long complaintId;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    // Getters
+    public Long getId() {
+        return id;
+    }
+    
+    public Long getSequence() {
+        return sequence;
+    }
+    
+    public ActivityType getType() {
+        return type;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public Long getComplaintId() {
+        return complaintId;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
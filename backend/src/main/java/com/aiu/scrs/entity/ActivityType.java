@@ -0,0 +1,20 @@
+package com.aiu.scrs.entity;
+
+/**
+ * Activity Type - Kinds of events in the activity log
+ */
+public enum ActivityType {
+    USER_REGISTERED,
+    USER_ACTIVATED,
+    USER_DEACTIVATED,
+    USER_DELETED,
+    DEPARTMENT_CREATED,
+    COMPLAINT_CREATED,
+    COMPLAINT_VOTED,
+    COMPLAINT_VOTE_REMOVED,
+    COMPLAINT_ASSIGNED,
+    COMPLAINT_STATUS_CHANGED,
+    COMPLAINT_RESOLVED,
+    COMPLAINT_COMMENTED,
+    COMPLAINT_DELETED
+}
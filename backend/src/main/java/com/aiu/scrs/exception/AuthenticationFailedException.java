@@ -0,0 +1,11 @@
+package com.aiu.scrs.exception;
+
+/**
+ * Login rejected. The message does not say whether the user or the password was wrong (stackless).
+ */
+public class AuthenticationFailedException extends DomainException {
+
+    public AuthenticationFailedException(String message) {
+        super(ErrorCode.INVALID_CREDENTIALS, message, false);
+    }
+}
@@ -0,0 +1,11 @@
+package com.aiu.scrs.exception;
+
+/**
+ * Request conflicts with existing data, e.g. a duplicate username or a repeated vote (stackless)
+ */
+public class ConflictException extends DomainException {
+
+    public ConflictException(ErrorCode errorCode, String message) {
+        super(errorCode, message, false);
+    }
+}
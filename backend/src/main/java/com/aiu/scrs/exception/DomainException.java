@@ -0,0 +1,34 @@
+package com.aiu.scrs.exception;
+
+/**
+ * Domain Exception - Base of the failures raised by services, carrying the error code the API
+ * reports. Expected failures (not found, conflicts, bad input) are built stackless by the
+ * subclasses: filling in a stack trace is most of the cost of throwing, and such failures are
+ * answered to the client rather than debugged.
+ */
+public class DomainException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public DomainException(ErrorCode errorCode, String message) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+
+    public DomainException(ErrorCode errorCode, String message, Throwable cause) {
+        super(message, cause);
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * @param captureStackTrace false to skip stack trace capture and suppression for expected failures
+     */
+    protected DomainException(ErrorCode errorCode, String message, boolean captureStackTrace) {
+        super(message, null, false, captureStackTrace);
+        this.errorCode = errorCode;
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,47 @@
+package com.aiu.scrs.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Error Code - Stable identifiers of API failures returned in the error field of error responses,
+ * with the HTTP status each one maps to
+ */
+public enum ErrorCode {
+
+    VALIDATION_FAILED(HttpStatus.BAD_REQUEST),
+    /** Rejected by the web framework, e.g. a malformed body or a missing parameter; status varies */
+    REQUEST_REJECTED(HttpStatus.BAD_REQUEST),
+    INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED),
+    AUTHENTICATION_REQUIRED(HttpStatus.UNAUTHORIZED),
+    ACCESS_DENIED(HttpStatus.FORBIDDEN),
+
+    USER_NOT_FOUND(HttpStatus.NOT_FOUND),
+    COMPLAINT_NOT_FOUND(HttpStatus.NOT_FOUND),
+    DEPARTMENT_NOT_FOUND(HttpStatus.NOT_FOUND),
+    ROUTING_RULE_NOT_FOUND(HttpStatus.NOT_FOUND),
+
+    USERNAME_TAKEN(HttpStatus.CONFLICT),
+    EMAIL_TAKEN(HttpStatus.CONFLICT),
+    DEPARTMENT_NAME_TAKEN(HttpStatus.CONFLICT),
+    ALREADY_VOTED(HttpStatus.CONFLICT),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT),
+    DATA_CONFLICT(HttpStatus.CONFLICT),
+
+    USER_INACTIVE(HttpStatus.UNPROCESSABLE_ENTITY),
+    USER_NOT_STAFF(HttpStatus.UNPROCESSABLE_ENTITY),
+    DEPARTMENT_INACTIVE(HttpStatus.UNPROCESSABLE_ENTITY),
+    /** No routing rule matched and there is no active department to fall back to */
+    NO_DEPARTMENT_AVAILABLE(HttpStatus.UNPROCESSABLE_ENTITY),
+
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR);
+
+    private final HttpStatus status;
+
+    ErrorCode(HttpStatus status) {
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,29 @@
+package com.aiu.scrs.exception;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+
+/**
+ * Error Counter - Counts error responses per error code and status as scrs.errors, both those
+ * mapped by {@link GlobalExceptionHandler} and those answered by the security filters
+ */
+@Component
+public class ErrorCounter {
+
+    private final MeterRegistry meterRegistry;
+
+    public ErrorCounter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void increment(ErrorCode code, HttpStatusCode status) {
+        Counter.builder("scrs.errors")
+                .description("Error responses by error code")
+                .tag("code", code.name())
+                .tag("status", Integer.toString(status.value()))
+                .register(meterRegistry)
+                .increment();
+    }
+}
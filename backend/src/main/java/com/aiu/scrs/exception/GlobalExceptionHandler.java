@@ -0,0 +1,144 @@
+package com.aiu.scrs.exception;
+
+import com.aiu.scrs.dto.ApiResponse;
+import jakarta.validation.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+import org.springframework.web.util.DisconnectedClientHelper;
+
+import java.util.stream.Collectors;
+
+/**
+ * Global Exception Handler - Maps exceptions thrown by controllers to error responses with a
+ * stable code in the error field and the matching HTTP status, and counts them per code.
+ * Only unexpected exceptions are logged with their stack trace.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    /**
+     * Recognizes clients that went away mid-response, e.g. a closed dashboard event stream
+     */
+    private static final DisconnectedClientHelper disconnectedClients =
+            new DisconnectedClientHelper(GlobalExceptionHandler.class.getName() + ".disconnected");
+
+    private final ErrorCounter errorCounter;
+
+    public GlobalExceptionHandler(ErrorCounter errorCounter) {
+        this.errorCounter = errorCounter;
+    }
+
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDomainException(DomainException e) {
+        ErrorCode code = e.getErrorCode();
+        logger.debug("Request failed with {}: {}", code, e.getMessage());
+        return respond(code, code.getStatus(), e.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        return respond(ErrorCode.CONCURRENT_MODIFICATION, ErrorCode.CONCURRENT_MODIFICATION.getStatus(),
+                "The resource was modified by another request. Reload it and try again");
+    }
+
+    /**
+     * Malformed parameters, e.g. an unknown status name or sparse field
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIllegalArgument(IllegalArgumentException e) {
+        return respond(ErrorCode.VALIDATION_FAILED, ErrorCode.VALIDATION_FAILED.getStatus(), e.getMessage());
+    }
+
+    /**
+     * Bean validation of entities when they are persisted, e.g. a username the request DTO accepted
+     * but the User entity does not
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ApiResponse<Void>> handleConstraintViolation(ConstraintViolationException e) {
+        String message = e.getConstraintViolations().stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+        return respond(ErrorCode.VALIDATION_FAILED, ErrorCode.VALIDATION_FAILED.getStatus(),
+                message.isEmpty() ? "Validation failed" : message);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDataIntegrityViolation(DataIntegrityViolationException e) {
+        logger.warn("Data integrity violation: {}", e.getMostSpecificCause().getMessage());
+        return respond(ErrorCode.DATA_CONFLICT, ErrorCode.DATA_CONFLICT.getStatus(),
+                "The request conflicts with existing data");
+    }
+
+    /**
+     * Method security rejections inside controllers; filter-level ones are answered by Spring Security
+     */
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleAccessDenied(AccessDeniedException e) {
+        return respond(ErrorCode.ACCESS_DENIED, ErrorCode.ACCESS_DENIED.getStatus(), "Access denied");
+    }
+
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<ApiResponse<Void>> handleAuthenticationException(AuthenticationException e) {
+        return respond(ErrorCode.AUTHENTICATION_REQUIRED, ErrorCode.AUTHENTICATION_REQUIRED.getStatus(),
+                "Authentication required");
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiResponse<Void>> handleException(Exception e) {
+        if (disconnectedClients.checkAndLogClientDisconnectedException(e)) {
+            // Nobody is left to read a response
+            return null;
+        }
+        logger.error("Unexpected error", e);
+        return respond(ErrorCode.INTERNAL_ERROR, ErrorCode.INTERNAL_ERROR.getStatus(), "Internal server error");
+    }
+
+    @Override
+    protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException e, HttpHeaders headers,
+                                                                  HttpStatusCode status, WebRequest request) {
+        String message = e.getBindingResult().getFieldErrors().stream()
+                .map(FieldError::getField)
+                .distinct()
+                .map(field -> field + ": " + e.getBindingResult().getFieldError(field).getDefaultMessage())
+                .collect(Collectors.joining(", "));
+        return new ResponseEntity<>(body(ErrorCode.VALIDATION_FAILED, status,
+                message.isEmpty() ? "Validation failed" : message), headers, status);
+    }
+
+    /**
+     * Spring MVC's own rejections, e.g. an unreadable body, a missing parameter or an unsupported method
+     */
+    @Override
+    protected ResponseEntity<Object> handleExceptionInternal(Exception e, Object body, HttpHeaders headers,
+                                                             HttpStatusCode status, WebRequest request) {
+        String message = body instanceof ProblemDetail problem && problem.getDetail() != null
+                ? problem.getDetail() : e.getMessage();
+        return new ResponseEntity<>(body(ErrorCode.REQUEST_REJECTED, status, message), headers, status);
+    }
+
+    private ResponseEntity<ApiResponse<Void>> respond(ErrorCode code, HttpStatusCode status, String message) {
+        return ResponseEntity.status(status).body(body(code, status, message));
+    }
+
+    private ApiResponse<Void> body(ErrorCode code, HttpStatusCode status, String message) {
+        errorCounter.increment(code, status);
+        return ApiResponse.error(message, code.name());
+    }
+}
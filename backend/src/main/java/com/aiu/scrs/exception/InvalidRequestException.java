@@ -0,0 +1,15 @@
+package com.aiu.scrs.exception;
+
+/**
+ * Request input is invalid or breaks a business rule, e.g. assigning to an inactive user (stackless)
+ */
+public class InvalidRequestException extends DomainException {
+
+    public InvalidRequestException(String message) {
+        this(ErrorCode.VALIDATION_FAILED, message);
+    }
+
+    public InvalidRequestException(ErrorCode errorCode, String message) {
+        super(errorCode, message, false);
+    }
+}
@@ -0,0 +1,11 @@
+package com.aiu.scrs.exception;
+
+/**
+ * Requested entity does not exist (stackless)
+ */
+public class ResourceNotFoundException extends DomainException {
+
+    public ResourceNotFoundException(ErrorCode errorCode, String message) {
+        super(errorCode, message, false);
+    }
+}
@@ -0,0 +1,34 @@
+package com.aiu.scrs.monitoring;
+
+import com.aiu.scrs.service.coalescing.SingleFlightCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Coalescing Metrics - Publishes the counters of a single-flight cache as scrs.coalescing.calls,
+ * tagged with the cache name and the result (executed, coalesced, cache_hit, failed)
+ */
+public final class CoalescingMetrics {
+
+    public static final String METRIC = "scrs.coalescing.calls";
+
+    private CoalescingMetrics() {}
+
+    public static void bind(MeterRegistry meterRegistry, SingleFlightCache<?, ?> cache) {
+        register(meterRegistry, cache, "executed", SingleFlightCache::getExecutedCount);
+        register(meterRegistry, cache, "coalesced", SingleFlightCache::getCoalescedCount);
+        register(meterRegistry, cache, "cache_hit", SingleFlightCache::getCacheHitCount);
+        register(meterRegistry, cache, "failed", SingleFlightCache::getFailureCount);
+    }
+
+    private static void register(MeterRegistry meterRegistry, SingleFlightCache<?, ?> cache, String result,
+                                 ToDoubleFunction<SingleFlightCache<?, ?>> count) {
+        FunctionCounter.builder(METRIC, cache, count)
+                .description("Calls served by a single-flight cache")
+                .tag("cache", cache.getName())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
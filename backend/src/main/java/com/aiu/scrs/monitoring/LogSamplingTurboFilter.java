@@ -0,0 +1,68 @@
+package com.aiu.scrs.monitoring;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Log Sampling Turbo Filter - Keeps one of every {@code rate} events below WARN from the
+ * configured loggers (and their children), counted separately for each message pattern, so hot
+ * paths such as voting do not log every call. The first occurrence of a pattern is always kept,
+ * and WARN and ERROR always pass. Dropped events are rejected before they are formatted.
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    private static final int MAX_TRACKED_PATTERNS = 1024;
+
+    private final List<String> loggers = new ArrayList<>();
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final AtomicLong untrackedCounter = new AtomicLong();
+    private int rate = 100;
+
+    public void addLogger(String logger) {
+        loggers.add(logger.trim());
+    }
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+
+    @Override
+    public void start() {
+        if (rate < 1) {
+            addError("rate must be at least 1");
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isXxxEnabled() checks arrive without a format and must not consume samples
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel()) || !isSampled(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        AtomicLong counter = counters.size() < MAX_TRACKED_PATTERNS
+                ? counters.computeIfAbsent(format, key -> new AtomicLong())
+                : counters.getOrDefault(format, untrackedCounter);
+        return counter.getAndIncrement() % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean isSampled(String loggerName) {
+        for (String name : loggers) {
+            if (loggerName.equals(name) || (loggerName.startsWith(name) && loggerName.charAt(name.length()) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
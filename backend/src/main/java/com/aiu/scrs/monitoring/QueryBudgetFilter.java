@@ -0,0 +1,101 @@
+package com.aiu.scrs.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query Budget Filter - Collects the SQL statements of each request, publishes their count and
+ * time per endpoint (scrs.db.queries, scrs.db.time), and warns about requests that exceed the
+ * statement budget or repeat one statement often enough to suggest an N+1 pattern.
+ * Runs before security so that the token's user lookup is included.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+    private final int maxQueries;
+    private final int repeatedStatementThreshold;
+
+    public QueryBudgetFilter(MeterRegistry meterRegistry,
+                             @Value("${scrs.query-budget.max-queries:25}") int maxQueries,
+                             @Value("${scrs.query-budget.repeated-statement-threshold:10}") int repeatedStatementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.maxQueries = maxQueries;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try (QueryStatsContext.Scope scope = QueryStatsContext.open()) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                record(request, scope.getStats());
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String endpoint = request.getMethod() + " " + uri;
+
+        DistributionSummary.builder("scrs.db.queries")
+                .description("SQL statements executed per request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getQueryCount());
+        Timer.builder("scrs.db.time")
+                .description("Time spent executing SQL statements per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getTimeNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getQueryCount() > maxQueries) {
+            Counter.builder("scrs.db.budget.exceeded")
+                    .description("Requests that executed more SQL statements than the budget")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            logger.warn("{} executed {} SQL statements in {} ms (budget {})",
+                    endpoint, stats.getQueryCount(), String.format("%.1f", stats.getTimeMillis()), maxQueries);
+        }
+        Map.Entry<String, Integer> repeated = stats.getMostRepeatedStatement();
+        if (repeated != null && repeated.getValue() >= repeatedStatementThreshold) {
+            logger.warn("Possible N+1 in {}: statement executed {} times: {}",
+                    endpoint, repeated.getValue(), abbreviate(repeated.getKey()));
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
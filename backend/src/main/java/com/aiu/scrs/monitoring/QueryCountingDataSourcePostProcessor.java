@@ -0,0 +1,36 @@
+package com.aiu.scrs.monitoring;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource in a datasource-proxy that feeds {@link QueryCountingListener}
+ * and {@link SlowQueryListener}
+ */
+@Component
+public class QueryCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    // Resolved lazily: post-processors are created before regular beans
+    private final ObjectProvider<SlowQueryLog> slowQueryLog;
+
+    public QueryCountingDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new QueryCountingListener())
+                    .listener(new SlowQueryListener(slowQueryLog.getObject()))
+                    .build();
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,35 @@
+package com.aiu.scrs.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Query Counting Listener - Adds every statement executed through the proxied DataSource to the
+ * thread's open {@link QueryStatsContext} scope. A JDBC batch counts as one statement.
+ */
+public class QueryCountingListener implements QueryExecutionListener {
+
+    private static final String START_NANOS = "scrs.startNanos";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (QueryStatsContext.current() != null) {
+            execInfo.addCustomValue(START_NANOS, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryStats stats = QueryStatsContext.current();
+        if (stats == null) {
+            return;
+        }
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long nanos = start != null ? System.nanoTime() - start : execInfo.getElapsedTime() * 1_000_000L;
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        stats.record(sql, nanos);
+    }
+}
@@ -0,0 +1,58 @@
+package com.aiu.scrs.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Query Stats - SQL statements executed within one scope (a request, or a block measured by a test).
+ * Statements are also counted in the enclosing scope.
+ */
+public class QueryStats {
+
+    private final QueryStats parent;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private int queryCount;
+    private long timeNanos;
+
+    QueryStats(QueryStats parent) {
+        this.parent = parent;
+    }
+
+    void record(String sql, long nanos) {
+        for (QueryStats stats = this; stats != null; stats = stats.parent) {
+            stats.queryCount++;
+            stats.timeNanos += nanos;
+            stats.executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    QueryStats getParent() {
+        return parent;
+    }
+
+    public int getQueryCount() {
+        return queryCount;
+    }
+
+    public long getTimeNanos() {
+        return timeNanos;
+    }
+
+    public double getTimeMillis() {
+        return timeNanos / 1_000_000.0;
+    }
+
+    /**
+     * The statement executed most often in this scope, or null when nothing ran. The same statement
+     * executed many times in one request usually means lazy loading in a loop (N+1).
+     */
+    public Map.Entry<String, Integer> getMostRepeatedStatement() {
+        Map.Entry<String, Integer> most = null;
+        for (Map.Entry<String, Integer> entry : executionsBySql.entrySet()) {
+            if (most == null || entry.getValue() > most.getValue()) {
+                most = entry;
+            }
+        }
+        return most;
+    }
+}
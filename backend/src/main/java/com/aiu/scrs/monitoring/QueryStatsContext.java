@@ -0,0 +1,50 @@
+package com.aiu.scrs.monitoring;
+
+/**
+ * Query Stats Context - Thread-bound scopes that collect the SQL statements run on the current thread
+ */
+public final class QueryStatsContext {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private QueryStatsContext() {}
+
+    /**
+     * Start collecting into a new scope nested in the current one; close the scope to end it
+     */
+    public static Scope open() {
+        QueryStats stats = new QueryStats(CURRENT.get());
+        CURRENT.set(stats);
+        return new Scope(stats);
+    }
+
+    /**
+     * Innermost open scope of the current thread, or null when statements are not being collected
+     */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final QueryStats stats;
+
+        private Scope(QueryStats stats) {
+            this.stats = stats;
+        }
+
+        public QueryStats getStats() {
+            return stats;
+        }
+
+        @Override
+        public void close() {
+            QueryStats parent = stats.getParent();
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.aiu.scrs.monitoring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds X-Query-Count and X-Query-Time-Ms to response bodies, so developers can spot query-heavy
+ * endpoints from the browser. Counts cover the request up to the point the body is written.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "scrs.query-budget.expose-headers", havingValue = "true")
+public class QueryStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryStats stats = QueryStatsContext.current();
+        if (stats != null) {
+            response.getHeaders().set("X-Query-Count", Integer.toString(stats.getQueryCount()));
+            response.getHeaders().set("X-Query-Time-Ms", String.format("%.3f", stats.getTimeMillis()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,58 @@
+package com.aiu.scrs.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Repository Origin Aspect - Remembers which repository method the current thread is executing,
+ * e.g. ComplaintRepository.findTopVoted, so that SQL statements can be attributed to it
+ */
+@Aspect
+@Component
+public class RepositoryOriginAspect {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final Map<Class<?>, Map<Method, String>> names = new ConcurrentHashMap<>();
+
+    /**
+     * Innermost repository method running on this thread, or null outside repository calls
+     * (e.g. lazy loading or the flush at commit)
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object track(ProceedingJoinPoint joinPoint) throws Throwable {
+        String previous = CURRENT.get();
+        CURRENT.set(name(joinPoint));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    private String name(ProceedingJoinPoint joinPoint) {
+        Object repository = joinPoint.getThis();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return names.computeIfAbsent(repository.getClass(), type -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, m -> {
+                    Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(repository);
+                    return interfaces[0].getSimpleName() + "." + m.getName();
+                });
+    }
+}
@@ -0,0 +1,37 @@
+package com.aiu.scrs.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Slow Query Listener - Times every statement executed through the proxied DataSource into the
+ * {@link SlowQueryLog}, attributed to the repository method running on the thread
+ */
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private static final String START_NANOS = "scrs.slowQuery.startNanos";
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryListener(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long nanos = start != null ? System.nanoTime() - start : execInfo.getElapsedTime() * 1_000_000L;
+        slowQueryLog.record(queryInfoList.get(0).getQuery(), RepositoryOriginAspect.current(), nanos);
+    }
+}
@@ -0,0 +1,127 @@
+package com.aiu.scrs.monitoring;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Slow Query Log - Timing of every SQL statement grouped by {@link SqlFingerprint}, with the
+ * repository methods that issued it. Statements slower than the threshold are logged.
+ * Latencies are kept in HdrHistograms in microseconds, so percentiles stay exact to two
+ * significant digits at a fixed memory cost per fingerprint.
+ */
+@Component
+public class SlowQueryLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private static final String OTHER_STATEMENTS = "(other statements)";
+    private static final String OUTSIDE_REPOSITORY = "(outside repository call)";
+    private static final int MAX_ORIGINS = 8;
+    private static final int MAX_LOGGED_SQL_LENGTH = 500;
+    private static final long MAX_TRACKED_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final long thresholdNanos;
+    private final int maxFingerprints;
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+    private final Map<String, FingerprintStats> stats = new ConcurrentHashMap<>();
+
+    public SlowQueryLog(@Value("${scrs.slow-query.threshold-ms:250}") long thresholdMillis,
+                        @Value("${scrs.slow-query.max-fingerprints:500}") int maxFingerprints) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    /**
+     * Record one execution; origin is the repository method that issued it, or null
+     */
+    public void record(String sql, String origin, long nanos) {
+        String fingerprint = fingerprint(sql);
+        FingerprintStats entry = stats.get(fingerprint);
+        if (entry == null) {
+            String key = stats.size() < maxFingerprints ? fingerprint : OTHER_STATEMENTS;
+            entry = stats.computeIfAbsent(key, k -> new FingerprintStats());
+        }
+        String source = origin != null ? origin : OUTSIDE_REPOSITORY;
+        entry.record(nanos, source);
+
+        if (nanos >= thresholdNanos) {
+            logger.warn("Slow SQL ({} ms) from {}: {}", TimeUnit.NANOSECONDS.toMillis(nanos), source,
+                    fingerprint.length() <= MAX_LOGGED_SQL_LENGTH ? fingerprint : fingerprint.substring(0, MAX_LOGGED_SQL_LENGTH) + "...");
+        }
+    }
+
+    /**
+     * Fingerprints with the highest p99 latency first
+     */
+    public List<Map<String, Object>> getSlowest(int limit) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        stats.forEach((fingerprint, entry) -> rows.add(entry.toRow(fingerprint)));
+        rows.sort(Comparator.comparingDouble((Map<String, Object> row) -> (Double) row.get("p99Ms")).reversed());
+        return rows.subList(0, Math.min(limit, rows.size()));
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    private String fingerprint(String sql) {
+        String fingerprint = fingerprints.get(sql);
+        if (fingerprint == null) {
+            fingerprint = SqlFingerprint.of(sql);
+            // Statements with inlined values would grow the cache without bound
+            if (fingerprints.size() < maxFingerprints * 4) {
+                fingerprints.put(sql, fingerprint);
+            }
+        }
+        return fingerprint;
+    }
+
+    private static final class FingerprintStats {
+
+        private final Histogram micros = new ConcurrentHistogram(MAX_TRACKED_MICROS, 2);
+        private final LongAdder totalNanos = new LongAdder();
+        private final Set<String> origins = ConcurrentHashMap.newKeySet();
+
+        void record(long nanos, String origin) {
+            micros.recordValue(Math.min(Math.max(1, nanos / 1000), MAX_TRACKED_MICROS));
+            totalNanos.add(nanos);
+            if (origins.size() < MAX_ORIGINS) {
+                origins.add(origin);
+            }
+        }
+
+        Map<String, Object> toRow(String fingerprint) {
+            Histogram snapshot = micros.copy();
+            long count = snapshot.getTotalCount();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("fingerprint", fingerprint);
+            row.put("origins", new TreeSet<>(origins));
+            row.put("count", count);
+            row.put("totalMs", millis(totalNanos.sum() / 1000));
+            row.put("meanMs", count == 0 ? 0.0 : millis(totalNanos.sum() / 1000 / count));
+            row.put("p50Ms", millis(snapshot.getValueAtPercentile(50)));
+            row.put("p99Ms", millis(snapshot.getValueAtPercentile(99)));
+            row.put("maxMs", millis(snapshot.getMaxValue()));
+            return row;
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
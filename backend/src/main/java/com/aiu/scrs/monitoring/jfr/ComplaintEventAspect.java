@@ -0,0 +1,83 @@
+package com.aiu.scrs.monitoring.jfr;
+
+import com.aiu.scrs.entity.Complaint;
+import com.aiu.scrs.exception.DomainException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Complaint Event Aspect - Emits JFR events for methods annotated with {@link RecordComplaintEvent}.
+ * Runs outside the retry and transaction advice, so events cover retries and the commit.
+ * When no recording has the event enabled, the call proceeds after a single flag check.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ComplaintEventAspect {
+
+    private final Map<Method, ArgumentIndexes> argumentIndexes = new ConcurrentHashMap<>();
+
+    @Around("@annotation(recordComplaintEvent)")
+    public Object record(ProceedingJoinPoint joinPoint, RecordComplaintEvent recordComplaintEvent) throws Throwable {
+        ComplaintOperationEvent event = new ComplaintOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        Object result = null;
+        String outcome = "success";
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable e) {
+            outcome = e instanceof DomainException domainException
+                    ? domainException.getErrorCode().name() : e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+                ArgumentIndexes indexes = argumentIndexes.computeIfAbsent(signature.getMethod(),
+                        method -> ArgumentIndexes.of(signature.getParameterNames()));
+                Object[] args = joinPoint.getArgs();
+                event.operation = recordComplaintEvent.value();
+                event.complaintId = indexes.complaintId >= 0 ? id(args[indexes.complaintId])
+                        : result instanceof Complaint complaint ? id(complaint.getId()) : 0;
+                event.userId = indexes.userId >= 0 ? id(args[indexes.userId]) : 0;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    private static long id(Object value) {
+        return value instanceof Long id ? id : 0;
+    }
+
+    private record ArgumentIndexes(int complaintId, int userId) {
+
+        static ArgumentIndexes of(String[] parameterNames) {
+            int complaintId = -1;
+            int userId = -1;
+            for (int i = 0; i < parameterNames.length; i++) {
+                String name = parameterNames[i];
+                if (name.equals("complaintId")) {
+                    complaintId = i;
+                } else if (userId < 0 && (name.equals("userId") || name.endsWith("UserId"))) {
+                    userId = i;
+                }
+            }
+            return new ArgumentIndexes(complaintId, userId);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.aiu.scrs.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Complaint Operation Event - JFR event for one complaint mutation, including its transaction
+ * commit and any optimistic lock retries
+ */
+@Name("com.aiu.scrs.ComplaintOperation")
+@Label("Complaint Operation")
+@Category({"SCRS", "Complaints"})
+@Description("Create, vote, status change, assignment or deletion of a complaint")
+@StackTrace(false)
+public class ComplaintOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Complaint ID")
+    long complaintId;
+
+    @Label("User ID")
+    @Description("User performing the operation, or the assignee for assignments")
+    long userId;
+
+    @Label("Outcome")
+    @Description("success, the error code of a domain failure, or the exception type")
+    String outcome;
+}
@@ -0,0 +1,33 @@
+package com.aiu.scrs.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JWT Verification Event - JFR event for checking a bearer token and loading its user
+ */
+@Name("com.aiu.scrs.JwtVerification")
+@Label("JWT Verification")
+@Category({"SCRS", "Security"})
+@Description("Bearer token signature check and user details lookup of one request")
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    @Label("Username")
+    String username;
+
+    @Label("Authenticated")
+    boolean authenticated;
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public void setAuthenticated(boolean authenticated) {
+        this.authenticated = authenticated;
+    }
+}
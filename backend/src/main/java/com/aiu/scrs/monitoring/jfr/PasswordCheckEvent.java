@@ -0,0 +1,33 @@
+package com.aiu.scrs.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Password Check Event - JFR event for verifying a login password (dominated by BCrypt)
+ */
+@Name("com.aiu.scrs.PasswordCheck")
+@Label("Password Check")
+@Category({"SCRS", "Security"})
+@Description("Password verification of a login attempt")
+@StackTrace(false)
+public class PasswordCheckEvent extends Event {
+
+    @Label("Username or Email")
+    String login;
+
+    @Label("Success")
+    boolean success;
+
+    public void setLogin(String login) {
+        this.login = login;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+}
@@ -0,0 +1,23 @@
+package com.aiu.scrs.monitoring.jfr;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Emit a {@link ComplaintOperationEvent} for each call. The complaint ID is read from a parameter
+ * named complaintId, or from a returned complaint; the user ID from the first parameter named
+ * userId or ending in UserId.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RecordComplaintEvent {
+
+    /**
+     * Operation name recorded in the event, e.g. vote
+     */
+    String value();
+}
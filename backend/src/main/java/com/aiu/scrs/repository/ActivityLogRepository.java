@@ -0,0 +1,17 @@
+package com.aiu.scrs.repository;
+
+import com.aiu.scrs.entity.ActivityLogEntry;
+import com.aiu.scrs.entity.ActivityType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Activity Log Repository - Reads the persisted activity history; rows are inserted by the activity log writer
+ */
+@Repository
+public interface ActivityLogRepository extends JpaRepository<ActivityLogEntry, Long> {
+    
+    Page<ActivityLogEntry> findByType(ActivityType type, Pageable pageable);
+}
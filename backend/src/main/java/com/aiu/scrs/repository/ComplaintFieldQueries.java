@@ -0,0 +1,21 @@
+package com.aiu.scrs.repository;
+
+import com.aiu.scrs.entity.ComplaintStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sparse fieldset queries for Complaint that select only the requested response fields
+ */
+public interface ComplaintFieldQueries {
+    
+    /**
+     * Page of complaints with only the given ComplaintResponse fields, filtered like
+     * {@link ComplaintRepository#findFiltered}
+     */
+    Page<Map<String, Object>> findFilteredFields(List<String> fields, ComplaintStatus status, Long departmentId,
+                                                 String search, Pageable pageable);
+}
@@ -0,0 +1,57 @@
+package com.aiu.scrs.repository;
+
+import com.aiu.scrs.entity.Complaint;
+import com.aiu.scrs.entity.ComplaintStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Criteria implementation of {@link ComplaintFieldQueries}
+ */
+public class ComplaintFieldQueriesImpl implements ComplaintFieldQueries {
+    
+    private static final SparseFieldQuery<Complaint> FIELDS = new SparseFieldQuery<>(Complaint.class)
+            .field("id", (root, joins, cb) -> root.get("id"))
+            .field("title", (root, joins, cb) -> root.get("title"))
+            .field("description", (root, joins, cb) -> root.get("description"))
+            .field("type", (root, joins, cb) -> root.get("type"))
+            .field("status", (root, joins, cb) -> root.get("status"))
+            .field("createdAt", (root, joins, cb) -> root.get("createdAt"))
+            .field("updatedAt", (root, joins, cb) -> root.get("updatedAt"))
+            .field("submittedById", (root, joins, cb) -> root.get("createdBy").get("id"))
+            .field("submittedByUsername", (root, joins, cb) -> joins.apply("createdBy").get("username"))
+            .field("submittedByFullName", (root, joins, cb) -> cb.concat(
+                    cb.concat(joins.apply("createdBy").<String>get("firstName"), " "),
+                    joins.apply("createdBy").<String>get("lastName")))
+            .field("departmentId", (root, joins, cb) -> root.get("targetDepartment").get("id"))
+            .field("departmentName", (root, joins, cb) -> joins.apply("targetDepartment").get("name"))
+            .field("voteCount", (root, joins, cb) -> root.get("totalVotes"));
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public Page<Map<String, Object>> findFilteredFields(List<String> fields, ComplaintStatus status, Long departmentId,
+                                                        String search, Pageable pageable) {
+        return FIELDS.findPage(entityManager, fields, (root, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (departmentId != null) {
+                predicates.add(cb.equal(root.get("targetDepartment").get("id"), departmentId));
+            }
+            if (search != null) {
+                predicates.add(cb.like(cb.lower(root.get("title")), search));
+            }
+            return predicates.isEmpty() ? null : cb.and(predicates.toArray(new Predicate[0]));
+        }, pageable);
+    }
+}
@@ -1,22 +1,32 @@
 package com.aiu.scrs.repository;
 
+import com.aiu.scrs.dto.complaint.ComplaintExportRow;
 import com.aiu.scrs.entity.Complaint;
 import com.aiu.scrs.entity.ComplaintStatus;
 import com.aiu.scrs.entity.ComplaintType;
 import com.aiu.scrs.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Complaint Repository - Data access layer for Complaint entity
  */
 @Repository
-public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
+public interface ComplaintRepository extends JpaRepository<Complaint, Long>, ComplaintFieldQueries {
     
     /**
      * Find complaints by creator
@@ -96,6 +106,13 @@ public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
     @Query("SELECT c FROM Complaint c WHERE c.totalVotes > 0 ORDER BY c.totalVotes DESC, c.createdAt DESC")
     List<Complaint> findTopVotedComplaints();
     
+    /**
+     * Find the most voted complaints with submitter and department, most voted first
+     */
+    @Query("SELECT c FROM Complaint c JOIN FETCH c.createdBy LEFT JOIN FETCH c.targetDepartment " +
+           "WHERE c.totalVotes > 0 ORDER BY c.totalVotes DESC, c.createdAt DESC")
+    List<Complaint> findTopVoted(Pageable pageable);
+    
     /**
      * Find complaints by department and status
      */
@@ -121,9 +138,142 @@ public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
     @Query("SELECT c.type, COUNT(c) as count FROM Complaint c GROUP BY c.type")
     List<Object[]> getComplaintStatisticsByType();
     
+    /**
+     * Number of complaints per type and active target department: type, department ID, count
+     */
+    @Query("SELECT c.type, d.id, COUNT(c) FROM Complaint c JOIN c.targetDepartment d " +
+           "WHERE d.isActive = true GROUP BY c.type, d.id")
+    List<Object[]> countByTypeAndActiveDepartment();
+    
     /**
      * Get complaint statistics by status
      */
     @Query("SELECT c.status, COUNT(c) as count FROM Complaint c GROUP BY c.status")
     List<Object[]> getComplaintStatisticsByStatus();
+    
+    /**
+     * Count assigned complaints per assignee for the given statuses
+     */
+    @Query("SELECT c.assignedTo.id, COUNT(c) FROM Complaint c " +
+           "WHERE c.assignedTo IS NOT NULL AND c.status IN :statuses GROUP BY c.assignedTo.id")
+    List<Object[]> countAssignedByStatusIn(@Param("statuses") Collection<ComplaintStatus> statuses);
+    
+    /**
+     * Count assigned complaints per assignee and type for the given statuses
+     */
+    @Query("SELECT c.assignedTo.id, c.type, COUNT(c) FROM Complaint c " +
+           "WHERE c.assignedTo IS NOT NULL AND c.status IN :statuses GROUP BY c.assignedTo.id, c.type")
+    List<Object[]> countAssignedByTypeAndStatusIn(@Param("statuses") Collection<ComplaintStatus> statuses);
+    
+    /**
+     * Count complaints per type for one assignee and the given statuses
+     */
+    @Query("SELECT c.type, COUNT(c) FROM Complaint c " +
+           "WHERE c.assignedTo.id = :userId AND c.status IN :statuses GROUP BY c.type")
+    List<Object[]> countByTypeForAssigneeAndStatusIn(@Param("userId") Long userId,
+                                                     @Param("statuses") Collection<ComplaintStatus> statuses);
+    
+    /**
+     * Count complaints of an assignee in the given statuses
+     */
+    long countByAssignedToIdAndStatusIn(Long userId, Collection<ComplaintStatus> statuses);
+    
+    /**
+     * Load ID, status, assignee ID, type and department ID of several complaints in one query (for bulk operations)
+     */
+    @Query("SELECT c.id, c.status, a.id, c.type, d.id FROM Complaint c LEFT JOIN c.assignedTo a " +
+           "LEFT JOIN c.targetDepartment d WHERE c.id IN :ids")
+    List<Object[]> findStateByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Set the status of several complaints
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE VERSIONED Complaint c SET c.status = :status, c.updatedAt = :updatedAt WHERE c.id IN :ids")
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids,
+                         @Param("status") ComplaintStatus status,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * Set the status and student confirmation flag of several complaints
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE VERSIONED Complaint c SET c.status = :status, c.studentConfirmation = :confirmation, " +
+           "c.updatedAt = :updatedAt WHERE c.id IN :ids")
+    int bulkUpdateStatusAndConfirmation(@Param("ids") Collection<Long> ids,
+                                        @Param("status") ComplaintStatus status,
+                                        @Param("confirmation") Boolean confirmation,
+                                        @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * Assign several complaints to a staff member
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE VERSIONED Complaint c SET c.assignedTo = :staff, c.updatedAt = :updatedAt WHERE c.id IN :ids")
+    int bulkAssign(@Param("ids") Collection<Long> ids,
+                   @Param("staff") User staff,
+                   @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * Add to the vote count of a complaint in place, so concurrent votes never conflict. Touches
+     * updatedAt so the version stamp of lists containing the complaint changes too.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE VERSIONED Complaint c SET c.totalVotes = c.totalVotes + :delta, c.updatedAt = :updatedAt " +
+           "WHERE c.id = :id AND c.totalVotes + :delta >= 0")
+    int adjustTotalVotes(@Param("id") Long id, @Param("delta") int delta,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * Stream all complaints as export rows through a forward-only cursor; must be consumed inside a transaction
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.aiu.scrs.dto.complaint.ComplaintExportRow(c.id, c.title, c.description, c.type, c.status, " +
+           "d.name, cb.username, cb.firstName, cb.lastName, a.username, c.totalVotes, c.studentConfirmation, " +
+           "c.createdAt, c.updatedAt) " +
+           "FROM Complaint c JOIN c.targetDepartment d JOIN c.createdBy cb LEFT JOIN c.assignedTo a ORDER BY c.id")
+    Stream<ComplaintExportRow> streamAllForExport();
+    
+    /**
+     * Page of complaints with submitter and department, optionally filtered by status, department
+     * and a lowercase title pattern
+     */
+    @Query(value = "SELECT c FROM Complaint c JOIN FETCH c.createdBy JOIN FETCH c.targetDepartment " +
+           "WHERE (:status IS NULL OR c.status = :status) " +
+           "AND (:departmentId IS NULL OR c.targetDepartment.id = :departmentId) " +
+           "AND (:search IS NULL OR LOWER(c.title) LIKE :search)",
+           countQuery = "SELECT COUNT(c) FROM Complaint c " +
+           "WHERE (:status IS NULL OR c.status = :status) " +
+           "AND (:departmentId IS NULL OR c.targetDepartment.id = :departmentId) " +
+           "AND (:search IS NULL OR LOWER(c.title) LIKE :search)")
+    Page<Complaint> findFiltered(@Param("status") ComplaintStatus status,
+                                 @Param("departmentId") Long departmentId,
+                                 @Param("search") String search,
+                                 Pageable pageable);
+    
+    /**
+     * Version stamp of the complaints matching the same filters as {@link #findFiltered}, including
+     * the submitters and departments whose names the complaint responses carry
+     */
+    @Query("SELECT COUNT(c) AS count, MAX(c.updatedAt) AS lastUpdated, COALESCE(SUM(c.id), 0) AS idSum, " +
+           "MAX(u.updatedAt) AS submittersLastUpdated, MAX(d.updatedAt) AS departmentsLastUpdated " +
+           "FROM Complaint c LEFT JOIN c.createdBy u LEFT JOIN c.targetDepartment d " +
+           "WHERE (:status IS NULL OR c.status = :status) " +
+           "AND (:departmentId IS NULL OR d.id = :departmentId) " +
+           "AND (:search IS NULL OR LOWER(c.title) LIKE :search)")
+    ComplaintVersionStamp getVersionStamp(@Param("status") ComplaintStatus status,
+                                          @Param("departmentId") Long departmentId,
+                                          @Param("search") String search);
+    
+    /**
+     * Optimistic locking version of a complaint and the update times of its submitter and department,
+     * without loading them
+     */
+    @Query("SELECT c.version AS version, u.updatedAt AS submitterUpdated, d.updatedAt AS departmentUpdated " +
+           "FROM Complaint c LEFT JOIN c.createdBy u LEFT JOIN c.targetDepartment d WHERE c.id = :id")
+    Optional<ComplaintVersion> findVersionById(@Param("id") Long id);
 }
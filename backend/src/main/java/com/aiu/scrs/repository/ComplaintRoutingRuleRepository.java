@@ -0,0 +1,39 @@
+package com.aiu.scrs.repository;
+
+import com.aiu.scrs.entity.ComplaintRoutingRule;
+import com.aiu.scrs.entity.ComplaintType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * ComplaintRoutingRule Repository - Data access layer for ComplaintRoutingRule entity
+ */
+@Repository
+public interface ComplaintRoutingRuleRepository extends JpaRepository<ComplaintRoutingRule, Long> {
+
+    /**
+     * Find rules by complaint type
+     */
+    List<ComplaintRoutingRule> findByComplaintTypeOrderByPriorityAsc(ComplaintType complaintType);
+
+    /**
+     * Find all rules with their department, ordered for display
+     */
+    @Query("SELECT r FROM ComplaintRoutingRule r JOIN FETCH r.department ORDER BY r.complaintType, r.priority, r.id")
+    List<ComplaintRoutingRule> findAllWithDepartment();
+
+    /**
+     * Find active rules pointing at active departments - source of the in-memory routing table
+     */
+    @Query("SELECT r FROM ComplaintRoutingRule r JOIN FETCH r.department d " +
+           "WHERE r.isActive = true AND d.isActive = true ORDER BY r.priority, r.id")
+    List<ComplaintRoutingRule> findActiveRulesForRouting();
+
+    /**
+     * Delete rules pointing at a department
+     */
+    void deleteByDepartmentId(Long departmentId);
+}
@@ -16,7 +16,8 @@ import java.util.List;
  * ComplaintStatusHistory Repository - Data access layer for ComplaintStatusHistory entity
  */
 @Repository
-public interface ComplaintStatusHistoryRepository extends JpaRepository<ComplaintStatusHistory, Long> {
+public interface ComplaintStatusHistoryRepository extends JpaRepository<ComplaintStatusHistory, Long>,
+                                                          StatusHistoryBatchOperations {
     
     /**
      * Find status history by complaint
@@ -0,0 +1,19 @@
+package com.aiu.scrs.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Complaint Version - Optimistic locking version of a complaint plus the update times of its
+ * submitter and department, whose names are part of the complaint response
+ */
+public interface ComplaintVersion {
+    
+    Long getVersion();
+    
+    LocalDateTime getSubmitterUpdated();
+    
+    /**
+     * Null when the complaint has no target department
+     */
+    LocalDateTime getDepartmentUpdated();
+}
@@ -0,0 +1,21 @@
+package com.aiu.scrs.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Complaint Version Stamp - Version stamp of a complaint collection that also changes when a submitter
+ * or department shown in the complaints is updated. Queries alias the extra columns as
+ * submittersLastUpdated and departmentsLastUpdated.
+ */
+public interface ComplaintVersionStamp extends VersionStamp {
+    
+    /**
+     * Latest update time of any submitter of the complaints
+     */
+    LocalDateTime getSubmittersLastUpdated();
+    
+    /**
+     * Latest update time of any target department of the complaints, null when none has one
+     */
+    LocalDateTime getDepartmentsLastUpdated();
+}
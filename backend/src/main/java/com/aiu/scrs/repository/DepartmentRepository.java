@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,8 +44,20 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     List<Department> findActiveDepartmentsWithComplaints(@Param("isActive") Boolean isActive);
     
     /**
-     * Find departments by complaint type
+     * Name and ID of every department (lookup table for bulk imports)
      */
-    @Query("SELECT DISTINCT d FROM Department d JOIN d.complaints c WHERE c.type = :type AND d.isActive = true")
-    List<Department> findDepartmentsByComplaintType(@Param("type") com.aiu.scrs.entity.ComplaintType type);
+    @Query("SELECT d.name, d.id FROM Department d")
+    List<Object[]> findAllNameIds();
+    
+    /**
+     * Version stamp of all departments
+     */
+    @Query("SELECT COUNT(d) AS count, MAX(d.updatedAt) AS lastUpdated, COALESCE(SUM(d.id), 0) AS idSum FROM Department d")
+    VersionStamp getVersionStamp();
+    
+    /**
+     * Last update time of a department, without loading it
+     */
+    @Query("SELECT d.updatedAt FROM Department d WHERE d.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
 }
@@ -0,0 +1,133 @@
+package com.aiu.scrs.repository;
+
+import com.aiu.scrs.exception.InvalidRequestException;
+import com.aiu.scrs.util.Timestamps;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Sparse Field Query - Selects only the requested API fields of an entity through a Criteria tuple
+ * query and returns each row as a field-name-to-value map in the requested order. Joins are added
+ * only for fields that need them and are shared between fields of the same query.
+ */
+public class SparseFieldQuery<T> {
+
+    /**
+     * Selected expression of one API field
+     */
+    @FunctionalInterface
+    public interface Field<T> {
+        Expression<?> select(Root<T> root, Function<String, From<T, ?>> joins, CriteriaBuilder cb);
+    }
+
+    /**
+     * Row filter shared by the page and the count query; may return null for no filter
+     */
+    @FunctionalInterface
+    public interface Restriction<T> {
+        Predicate toPredicate(Root<T> root, CriteriaBuilder cb);
+    }
+
+    private final Class<T> entityType;
+    private final Map<String, Field<T>> fields = new LinkedHashMap<>();
+
+    public SparseFieldQuery(Class<T> entityType) {
+        this.entityType = entityType;
+    }
+
+    public SparseFieldQuery<T> field(String name, Field<T> field) {
+        fields.put(name, field);
+        return this;
+    }
+
+    public Set<String> getFieldNames() {
+        return Collections.unmodifiableSet(fields.keySet());
+    }
+
+    /**
+     * Load one page of rows with only the given fields. Unsorted pages are ordered by ID.
+     */
+    public Page<Map<String, Object>> findPage(EntityManager entityManager, List<String> fieldNames,
+                                             Restriction<T> restriction, Pageable pageable) {
+        if (fieldNames.isEmpty()) {
+            throw new InvalidRequestException("At least one field must be requested");
+        }
+        for (String name : fieldNames) {
+            if (!fields.containsKey(name)) {
+                throw new InvalidRequestException("Unknown field: " + name + ". Available: " + fields.keySet());
+            }
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityType);
+        Map<String, From<T, ?>> joinCache = new HashMap<>();
+        Function<String, From<T, ?>> joins = attribute -> joinCache.computeIfAbsent(attribute,
+                name -> root.join(name, JoinType.LEFT));
+
+        List<Selection<?>> selections = new ArrayList<>(fieldNames.size());
+        for (String name : fieldNames) {
+            selections.add(fields.get(name).select(root, joins, cb).alias(name));
+        }
+        query.multiselect(selections);
+        Predicate predicate = restriction.toPredicate(root, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : Sort.by("id");
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        List<Tuple> tuples = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (TupleElement<?> element : tuple.getElements()) {
+                Object value = tuple.get(element);
+                row.put(element.getAlias(), value instanceof LocalDateTime timestamp ? Timestamps.format(timestamp) : value);
+            }
+            rows.add(row);
+        }
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(entityManager, restriction));
+    }
+
+    private long count(EntityManager entityManager, Restriction<T> restriction) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityType);
+        query.select(cb.count(root));
+        Predicate predicate = restriction.toPredicate(root, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,17 @@
+package com.aiu.scrs.repository;
+
+import com.aiu.scrs.entity.ComplaintStatusHistory;
+
+import java.util.List;
+
+/**
+ * Batch write operations for ComplaintStatusHistory that bypass the persistence context
+ */
+public interface StatusHistoryBatchOperations {
+    
+    /**
+     * Insert status history rows in a single JDBC batch.
+     * Complaint and user may be lazy references; only their IDs are read.
+     */
+    void batchInsert(List<ComplaintStatusHistory> histories);
+}
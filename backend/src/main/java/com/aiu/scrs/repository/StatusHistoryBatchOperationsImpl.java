@@ -0,0 +1,41 @@
+package com.aiu.scrs.repository;
+
+import com.aiu.scrs.entity.ComplaintStatusHistory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link StatusHistoryBatchOperations}
+ */
+public class StatusHistoryBatchOperationsImpl implements StatusHistoryBatchOperations {
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO complaint_status_history (complaint_id, status, comment, changed_by, created_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    public StatusHistoryBatchOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public void batchInsert(List<ComplaintStatusHistory> histories) {
+        if (histories.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, histories, histories.size(), (ps, history) -> {
+            ps.setLong(1, history.getComplaint().getId());
+            ps.setString(2, history.getStatus().name());
+            ps.setString(3, history.getComment());
+            ps.setLong(4, history.getChangedBy().getId());
+            ps.setTimestamp(5, history.getCreatedAt() != null ? Timestamp.valueOf(history.getCreatedAt()) : now);
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package com.aiu.scrs.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sparse fieldset queries for User that select only the requested response fields
+ */
+public interface UserFieldQueries {
+    
+    /**
+     * Page of users with only the given UserResponse fields
+     */
+    Page<Map<String, Object>> findAllFields(List<String> fields, Pageable pageable);
+}
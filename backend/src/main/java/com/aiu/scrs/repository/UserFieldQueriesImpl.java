@@ -0,0 +1,36 @@
+package com.aiu.scrs.repository;
+
+import com.aiu.scrs.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Criteria implementation of {@link UserFieldQueries}
+ */
+public class UserFieldQueriesImpl implements UserFieldQueries {
+    
+    private static final SparseFieldQuery<User> FIELDS = new SparseFieldQuery<>(User.class)
+            .field("id", (root, joins, cb) -> root.get("id"))
+            .field("username", (root, joins, cb) -> root.get("username"))
+            .field("email", (root, joins, cb) -> root.get("email"))
+            .field("fullName", (root, joins, cb) -> cb.concat(
+                    cb.concat(root.<String>get("firstName"), " "), root.<String>get("lastName")))
+            .field("role", (root, joins, cb) -> root.get("role"))
+            .field("enabled", (root, joins, cb) -> root.get("isActive"))
+            .field("department", (root, joins, cb) -> joins.apply("department").get("name"))
+            .field("createdAt", (root, joins, cb) -> root.get("createdAt"))
+            .field("updatedAt", (root, joins, cb) -> root.get("updatedAt"));
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public Page<Map<String, Object>> findAllFields(List<String> fields, Pageable pageable) {
+        return FIELDS.findPage(entityManager, fields, (root, cb) -> null, pageable);
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,7 +16,7 @@ import java.util.Optional;
  * User Repository - Data access layer for User entity
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserFieldQueries {
     
     /**
      * Find user by username (AIU Student ID or Staff ID)
@@ -85,4 +87,34 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * Find active users
      */
     List<User> findByIsActive(Boolean isActive);
+    
+    /**
+     * Usernames among the given ones that are already taken
+     */
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+    
+    /**
+     * Emails among the given ones that are already taken
+     */
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
+    /**
+     * Find users by usernames
+     */
+    List<User> findByUsernameIn(Collection<String> usernames);
+    
+    /**
+     * Username, ID and role of every user (lookup table for bulk imports)
+     */
+    @Query("SELECT u.username, u.id, u.role FROM User u")
+    List<Object[]> findAllUsernameIdRoles();
+    
+    /**
+     * [date, count] of users created on each day since the given time
+     */
+    @Query("SELECT CAST(u.createdAt AS LocalDate), COUNT(u) FROM User u WHERE u.createdAt >= :since " +
+           "GROUP BY CAST(u.createdAt AS LocalDate)")
+    List<Object[]> countCreatedPerDaySince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,25 @@
+package com.aiu.scrs.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version Stamp - Aggregate that changes whenever a row of a collection is added, removed or updated.
+ * Queries alias their columns as count, lastUpdated and idSum.
+ */
+public interface VersionStamp {
+    
+    /**
+     * Number of rows
+     */
+    long getCount();
+    
+    /**
+     * Latest update time of any row, null for an empty collection
+     */
+    LocalDateTime getLastUpdated();
+    
+    /**
+     * Sum of the row IDs; tells apart collections of equal size whose members were swapped
+     */
+    Long getIdSum();
+}
@@ -0,0 +1,470 @@
+package com.aiu.scrs.service;
+
+import com.aiu.scrs.dto.importing.ImportReport;
+import com.aiu.scrs.entity.ComplaintStatus;
+import com.aiu.scrs.entity.ComplaintType;
+import com.aiu.scrs.entity.UserRole;
+import com.aiu.scrs.exception.InvalidRequestException;
+import com.aiu.scrs.repository.DepartmentRepository;
+import com.aiu.scrs.repository.UserRepository;
+import com.aiu.scrs.service.assignment.AssignmentEngine;
+import com.aiu.scrs.util.CsvReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Bulk Import Service - Loads users and historical complaints from CSV.
+ * Input is parsed one record at a time, validated and written in batches of {@link #BATCH_SIZE}
+ * rows with JDBC batch inserts, each batch in its own transaction. Invalid rows are skipped and reported.
+ * User passwords are hashed in parallel by {@link PasswordHashingService} outside the insert transaction.
+ */
+@Service
+public class BulkImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkImportService.class);
+
+    /**
+     * Rows validated and inserted per transaction
+     */
+    public static final int BATCH_SIZE = 500;
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (username, email, password, first_name, last_name, role, department_id, " +
+            "is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_COMPLAINT_SQL =
+            "INSERT INTO complaints (title, description, type, status, created_by, target_department_id, " +
+            "assigned_to, total_votes, student_confirmation, created_at, updated_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final UserRepository userRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ComplaintRoutingService routingService;
+    private final AssignmentEngine assignmentEngine;
+    private final PasswordHashingService passwordHashingService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public BulkImportService(UserRepository userRepository,
+                             DepartmentRepository departmentRepository,
+                             ComplaintRoutingService routingService,
+                             AssignmentEngine assignmentEngine,
+                             PasswordHashingService passwordHashingService,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.departmentRepository = departmentRepository;
+        this.routingService = routingService;
+        this.assignmentEngine = assignmentEngine;
+        this.passwordHashingService = passwordHashingService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Import users. Columns: username, email, password, firstName, lastName, role, department (name), active
+     */
+    public ImportReport importUsers(InputStream inputStream) throws IOException {
+        Map<String, Long> departmentIds = loadDepartmentIds();
+        Set<String> staffUsernames = new HashSet<>();
+
+        RowParser<UserRow> parser = row -> {
+            UserRow user = new UserRow();
+            user.username = row.require("username");
+            if (user.username.length() < 5 || user.username.length() > 50) {
+                throw new IllegalArgumentException("username must be 5 to 50 characters");
+            }
+            user.email = row.require("email");
+            if (!EMAIL_PATTERN.matcher(user.email).matches()) {
+                throw new IllegalArgumentException("email is not valid: " + user.email);
+            }
+            user.password = row.require("password");
+            if (user.password.length() < 6 || user.password.length() > 100) {
+                throw new IllegalArgumentException("password must be 6 to 100 characters");
+            }
+            user.firstName = row.requireMax("firstName", 100);
+            user.lastName = row.requireMax("lastName", 100);
+            user.role = row.requireEnum("role", UserRole.class);
+            String department = row.get("department");
+            if (department != null) {
+                user.departmentId = departmentIds.get(department.toLowerCase(Locale.ROOT));
+                if (user.departmentId == null) {
+                    throw new IllegalArgumentException("unknown department: " + department);
+                }
+            }
+            String active = row.get("active");
+            user.active = active == null || Boolean.parseBoolean(active);
+            return user;
+        };
+
+        BatchWriter<UserRow> writer = (batch, report) -> {
+            // Reject usernames and emails already in the database or repeated within the batch
+            Set<String> takenUsernames = new HashSet<>(userRepository.findExistingUsernames(
+                    batch.stream().map(r -> r.value.username).toList()));
+            Set<String> takenEmails = new HashSet<>(userRepository.findExistingEmails(
+                    batch.stream().map(r -> r.value.email).toList()));
+            List<UserRow> accepted = new ArrayList<>(batch.size());
+            for (ParsedRow<UserRow> row : batch) {
+                if (takenUsernames.contains(row.value.username)) {
+                    report.addError(row.line, "username already exists: " + row.value.username);
+                } else if (takenEmails.contains(row.value.email)) {
+                    report.addError(row.line, "email already exists: " + row.value.email);
+                } else {
+                    takenUsernames.add(row.value.username);
+                    takenEmails.add(row.value.email);
+                    accepted.add(row.value);
+                }
+            }
+            if (accepted.isEmpty()) {
+                return 0;
+            }
+
+            // Hash on all cores before the insert transaction starts
+            String[] hashes = passwordHashingService.encodeAll(accepted.stream().map(user -> user.password).toList());
+            for (int i = 0; i < hashes.length; i++) {
+                accepted.get(i).password = hashes[i];
+            }
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            inTransaction(() -> jdbcTemplate.batchUpdate(INSERT_USER_SQL, accepted, accepted.size(), (ps, user) -> {
+                ps.setString(1, user.username);
+                ps.setString(2, user.email);
+                ps.setString(3, user.password);
+                ps.setString(4, user.firstName);
+                ps.setString(5, user.lastName);
+                ps.setString(6, user.role.name());
+                setNullableLong(ps, 7, user.departmentId);
+                ps.setBoolean(8, user.active);
+                ps.setTimestamp(9, now);
+                ps.setTimestamp(10, now);
+            }));
+            for (UserRow user : accepted) {
+                if (user.role == UserRole.STAFF) {
+                    staffUsernames.add(user.username);
+                }
+            }
+            return accepted.size();
+        };
+
+        ImportReport report = runImport("users", inputStream,
+                List.of("username", "email", "password", "firstName", "lastName", "role"), parser, writer);
+
+        // Make imported staff available for auto-assignment
+        if (!staffUsernames.isEmpty()) {
+            userRepository.findByUsernameIn(staffUsernames).forEach(assignmentEngine::refreshStaff);
+        }
+        return report;
+    }
+
+    /**
+     * Import historical complaints. Columns: title, description, type, status, department (name),
+     * createdBy (username), assignedTo (username), totalVotes, createdAt, updatedAt.
+     * Rows without a department are routed with the complaint routing table.
+     */
+    public ImportReport importComplaints(InputStream inputStream) throws IOException {
+        Map<String, Long> departmentIds = loadDepartmentIds();
+        Map<String, Long> userIds = new HashMap<>();
+        Set<Long> staffIds = new HashSet<>();
+        for (Object[] row : userRepository.findAllUsernameIdRoles()) {
+            userIds.put((String) row[0], (Long) row[1]);
+            if (row[2] == UserRole.STAFF) {
+                staffIds.add((Long) row[1]);
+            }
+        }
+        Set<Long> affectedStaff = new HashSet<>();
+
+        RowParser<ComplaintRow> parser = row -> {
+            ComplaintRow complaint = new ComplaintRow();
+            complaint.title = row.requireMax("title", 200);
+            complaint.description = row.requireMax("description", 2000);
+            complaint.type = row.requireEnum("type", ComplaintType.class);
+            complaint.status = row.get("status") != null ? row.requireEnum("status", ComplaintStatus.class) : ComplaintStatus.NEW;
+
+            String department = row.get("department");
+            if (department != null) {
+                complaint.departmentId = departmentIds.get(department.toLowerCase(Locale.ROOT));
+                if (complaint.departmentId == null) {
+                    throw new IllegalArgumentException("unknown department: " + department);
+                }
+            } else {
+                complaint.departmentId = routingService.route(complaint.type, complaint.title + " " + complaint.description)
+                        .orElseThrow(() -> new IllegalArgumentException("no department given and no routing rule matches"));
+            }
+
+            String createdBy = row.require("createdBy");
+            complaint.createdById = userIds.get(createdBy);
+            if (complaint.createdById == null) {
+                throw new IllegalArgumentException("unknown user: " + createdBy);
+            }
+            String assignedTo = row.get("assignedTo");
+            if (assignedTo != null) {
+                complaint.assignedToId = userIds.get(assignedTo);
+                if (complaint.assignedToId == null || !staffIds.contains(complaint.assignedToId)) {
+                    throw new IllegalArgumentException("unknown staff member: " + assignedTo);
+                }
+            }
+
+            String votes = row.get("totalVotes");
+            try {
+                complaint.totalVotes = votes != null ? Integer.parseInt(votes) : 0;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("totalVotes is not a number: " + votes);
+            }
+            if (complaint.totalVotes < 0) {
+                throw new IllegalArgumentException("totalVotes must not be negative");
+            }
+            complaint.createdAt = row.getDateTime("createdAt", LocalDateTime.now());
+            complaint.updatedAt = row.getDateTime("updatedAt", complaint.createdAt);
+            return complaint;
+        };
+
+        BatchWriter<ComplaintRow> writer = (batch, report) -> {
+            inTransaction(() -> jdbcTemplate.batchUpdate(INSERT_COMPLAINT_SQL, batch, batch.size(), (ps, row) -> {
+                ComplaintRow complaint = row.value;
+                ps.setString(1, complaint.title);
+                ps.setString(2, complaint.description);
+                ps.setString(3, complaint.type.name());
+                ps.setString(4, complaint.status.name());
+                ps.setLong(5, complaint.createdById);
+                ps.setLong(6, complaint.departmentId);
+                setNullableLong(ps, 7, complaint.assignedToId);
+                ps.setInt(8, complaint.totalVotes);
+                ps.setBoolean(9, complaint.status == ComplaintStatus.CONFIRMED_BY_STUDENT);
+                ps.setTimestamp(10, Timestamp.valueOf(complaint.createdAt));
+                ps.setTimestamp(11, Timestamp.valueOf(complaint.updatedAt));
+            }));
+            for (ParsedRow<ComplaintRow> row : batch) {
+                if (row.value.assignedToId != null && AssignmentEngine.OPEN_STATUSES.contains(row.value.status)) {
+                    affectedStaff.add(row.value.assignedToId);
+                }
+            }
+            return batch.size();
+        };
+
+        ImportReport report = runImport("complaints", inputStream,
+                List.of("title", "description", "type", "createdBy"), parser, writer);
+
+        // Re-read workload counters of staff who received open complaints
+        if (!affectedStaff.isEmpty()) {
+            userRepository.findAllById(affectedStaff).forEach(assignmentEngine::refreshStaff);
+        }
+        return report;
+    }
+
+    /**
+     * Read the input in batches, parse and validate each row, and hand valid rows to the writer
+     */
+    private <T> ImportReport runImport(String entity, InputStream inputStream, List<String> requiredColumns,
+                                       RowParser<T> parser, BatchWriter<T> writer) throws IOException {
+        long started = System.currentTimeMillis();
+        ImportReport report = new ImportReport(entity);
+        long rows = 0;
+
+        try (CsvReader reader = new CsvReader(new BufferedReader(
+                new InputStreamReader(inputStream, StandardCharsets.UTF_8)))) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new InvalidRequestException("CSV file is empty");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            for (String column : requiredColumns) {
+                if (!columns.containsKey(column.toLowerCase(Locale.ROOT))) {
+                    throw new InvalidRequestException("CSV header is missing required column: " + column);
+                }
+            }
+
+            List<ParsedRow<T>> batch = new ArrayList<>(BATCH_SIZE);
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                rows++;
+                long line = reader.getRecordLine();
+                try {
+                    batch.add(new ParsedRow<>(line, parser.parse(new CsvRow(columns, record))));
+                } catch (IllegalArgumentException e) {
+                    report.addError(line, e.getMessage());
+                }
+                if (batch.size() == BATCH_SIZE) {
+                    writeBatch(batch, writer, report);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch, writer, report);
+            }
+        }
+
+        report.complete(rows, System.currentTimeMillis() - started);
+        logger.info("Imported {} of {} {} rows in {} ms ({} rows/s, {} failed)", report.getImportedRows(), rows,
+                entity, report.getDurationMs(), Math.round(report.getRowsPerSecond()), report.getFailedRows());
+        return report;
+    }
+
+    private <T> void writeBatch(List<ParsedRow<T>> batch, BatchWriter<T> writer, ImportReport report) {
+        report.addImported(writer.write(batch, report));
+    }
+
+    private void inTransaction(Runnable work) {
+        transactionTemplate.executeWithoutResult(status -> work.run());
+    }
+
+    private Map<String, Long> loadDepartmentIds() {
+        Map<String, Long> departmentIds = new HashMap<>();
+        for (Object[] row : departmentRepository.findAllNameIds()) {
+            departmentIds.put(((String) row[0]).toLowerCase(Locale.ROOT), (Long) row[1]);
+        }
+        return departmentIds;
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    /**
+     * Turns a CSV record into a row value; throws IllegalArgumentException for invalid rows
+     */
+    private interface RowParser<T> {
+        T parse(CsvRow row);
+    }
+
+    /**
+     * Validates a batch against the database and inserts the accepted rows in one transaction;
+     * returns the number inserted
+     */
+    private interface BatchWriter<T> {
+        int write(List<ParsedRow<T>> batch, ImportReport report);
+    }
+
+    private static class ParsedRow<T> {
+
+        final long line;
+        final T value;
+
+        ParsedRow(long line, T value) {
+            this.line = line;
+            this.value = value;
+        }
+    }
+
+    /**
+     * CSV record with access to fields by header name
+     */
+    private static class CsvRow {
+
+        private final Map<String, Integer> columns;
+        private final List<String> values;
+
+        CsvRow(Map<String, Integer> columns, List<String> values) {
+            this.columns = columns;
+            this.values = values;
+        }
+
+        /**
+         * Trimmed value of the column, or null if absent or blank
+         */
+        String get(String column) {
+            Integer index = columns.get(column.toLowerCase(Locale.ROOT));
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        String require(String column) {
+            String value = get(column);
+            if (value == null) {
+                throw new IllegalArgumentException(column + " is required");
+            }
+            return value;
+        }
+
+        String requireMax(String column, int maxLength) {
+            String value = require(column);
+            if (value.length() > maxLength) {
+                throw new IllegalArgumentException(column + " must not exceed " + maxLength + " characters");
+            }
+            return value;
+        }
+
+        <E extends Enum<E>> E requireEnum(String column, Class<E> type) {
+            String value = require(column);
+            try {
+                return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(column + " is not valid: " + value);
+            }
+        }
+
+        LocalDateTime getDateTime(String column, LocalDateTime defaultValue) {
+            String value = get(column);
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException(column + " is not an ISO date or date-time: " + value);
+            }
+        }
+    }
+
+    private static class UserRow {
+        String username;
+        String email;
+        String password;
+        String firstName;
+        String lastName;
+        UserRole role;
+        Long departmentId;
+        boolean active;
+    }
+
+    private static class ComplaintRow {
+        String title;
+        String description;
+        ComplaintType type;
+        ComplaintStatus status;
+        Long departmentId;
+        Long createdById;
+        Long assignedToId;
+        int totalVotes;
+        LocalDateTime createdAt;
+        LocalDateTime updatedAt;
+    }
+}
@@ -0,0 +1,130 @@
+package com.aiu.scrs.service;
+
+import com.aiu.scrs.dto.complaint.ComplaintExportRow;
+import com.aiu.scrs.exception.InvalidRequestException;
+import com.aiu.scrs.repository.ComplaintRepository;
+import com.aiu.scrs.util.CsvWriter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Complaint Export Service - Streams complaints as CSV or NDJSON straight from a database cursor.
+ * Rows are read-only projections, so memory use is independent of the table size.
+ */
+@Service
+public class ComplaintExportService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ComplaintExportService.class);
+    
+    /**
+     * Rows written between explicit flushes to the client
+     */
+    private static final int FLUSH_INTERVAL = 500;
+    
+    /**
+     * Supported export formats
+     */
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+        
+        private final String contentType;
+        private final String extension;
+        
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+        
+        public String getContentType() {
+            return contentType;
+        }
+        
+        public String getExtension() {
+            return extension;
+        }
+        
+        public static Format parse(String value) {
+            try {
+                return Format.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("Unsupported export format: " + value + ". Use csv or ndjson");
+            }
+        }
+    }
+    
+    private final ComplaintRepository complaintRepository;
+    private final ObjectWriter rowWriter;
+    
+    @Autowired
+    public ComplaintExportService(ComplaintRepository complaintRepository, ObjectMapper objectMapper) {
+        this.complaintRepository = complaintRepository;
+        this.rowWriter = objectMapper.writerFor(ComplaintExportRow.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+    }
+    
+    /**
+     * Write all complaints to the output stream; the cursor stays open for the whole transaction
+     */
+    @Transactional(readOnly = true)
+    public long exportComplaints(Format format, OutputStream outputStream) throws IOException {
+        long started = System.currentTimeMillis();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 16 * 1024);
+        long count;
+        try (Stream<ComplaintExportRow> rows = complaintRepository.streamAllForExport()) {
+            count = format == Format.CSV ? writeCsv(rows.iterator(), writer) : writeNdjson(rows.iterator(), writer);
+        }
+        writer.flush();
+        logger.info("Exported {} complaints as {} in {} ms", count, format, System.currentTimeMillis() - started);
+        return count;
+    }
+    
+    private long writeCsv(Iterator<ComplaintExportRow> rows, Writer writer) throws IOException {
+        CsvWriter csv = new CsvWriter(writer);
+        csv.writeRecord((Object[]) ComplaintExportRow.COLUMNS);
+        long count = 0;
+        while (rows.hasNext()) {
+            csv.writeRecord(rows.next().toValues());
+            if (++count % FLUSH_INTERVAL == 1) {
+                csv.flush();
+            }
+        }
+        return count;
+    }
+    
+    private long writeNdjson(Iterator<ComplaintExportRow> rows, Writer writer) throws IOException {
+        JsonGenerator generator = rowWriter.createGenerator(writer);
+        long count = 0;
+        while (rows.hasNext()) {
+            // The root value separator starts each row after the first on a new line
+            rowWriter.writeValue(generator, rows.next());
+            if (++count % FLUSH_INTERVAL == 1) {
+                generator.flush();
+            }
+        }
+        if (count > 0) {
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+        return count;
+    }
+}
@@ -0,0 +1,288 @@
+package com.aiu.scrs.service;
+
+import com.aiu.scrs.entity.ComplaintRoutingRule;
+import com.aiu.scrs.entity.ComplaintType;
+import com.aiu.scrs.entity.Department;
+import com.aiu.scrs.exception.ErrorCode;
+import com.aiu.scrs.exception.InvalidRequestException;
+import com.aiu.scrs.exception.ResourceNotFoundException;
+import com.aiu.scrs.repository.ComplaintRepository;
+import com.aiu.scrs.repository.ComplaintRoutingRuleRepository;
+import com.aiu.scrs.repository.DepartmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Complaint Routing Service - Resolves the target department for new complaints.
+ * Routing rules live in their own table and are compiled into an immutable in-memory
+ * table which is swapped atomically whenever an administrator changes the rules.
+ * Complaints that match no rule go to the fallback department. A database without any rules gets
+ * default rules derived from where complaints of each type went before.
+ */
+@Service
+@Transactional
+public class ComplaintRoutingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComplaintRoutingService.class);
+
+    private final ComplaintRoutingRuleRepository routingRuleRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ComplaintRepository complaintRepository;
+    private final String fallbackDepartmentName;
+    private final boolean seedDefaultRules;
+
+    private volatile RoutingTable routingTable = RoutingTable.EMPTY;
+
+    @Autowired
+    public ComplaintRoutingService(ComplaintRoutingRuleRepository routingRuleRepository,
+                                   DepartmentRepository departmentRepository,
+                                   ComplaintRepository complaintRepository,
+                                   @Value("${scrs.routing.fallback-department:}") String fallbackDepartmentName,
+                                   @Value("${scrs.routing.seed-default-rules:true}") boolean seedDefaultRules) {
+        this.routingRuleRepository = routingRuleRepository;
+        this.departmentRepository = departmentRepository;
+        this.complaintRepository = complaintRepository;
+        this.fallbackDepartmentName = fallbackDepartmentName;
+        this.seedDefaultRules = seedDefaultRules;
+    }
+
+    /**
+     * Build the routing table once the application is up, seeding default rules first when there are none
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRoutingTable() {
+        if (seedDefaultRules && routingRuleRepository.count() == 0) {
+            seedDefaultRules();
+        }
+        reloadRoutingTable();
+    }
+
+    /**
+     * Create one keyword-less rule per complaint type, pointing at the active department that received
+     * most complaints of that type (lowest ID on ties). Before routing rules, new complaints went to an
+     * active department that already had complaints of their type; this keeps that mapping for
+     * existing databases. Types without such a department are left to the fallback department.
+     */
+    private void seedDefaultRules() {
+        Map<ComplaintType, long[]> best = new EnumMap<>(ComplaintType.class);
+        for (Object[] row : complaintRepository.countByTypeAndActiveDepartment()) {
+            ComplaintType type = (ComplaintType) row[0];
+            long departmentId = (Long) row[1];
+            long count = (Long) row[2];
+            long[] current = best.get(type);
+            if (current == null || count > current[1] || (count == current[1] && departmentId < current[0])) {
+                best.put(type, new long[] {departmentId, count});
+            }
+        }
+
+        List<ComplaintRoutingRule> rules = new ArrayList<>();
+        best.forEach((type, department) -> rules.add(
+                new ComplaintRoutingRule(type, null, departmentRepository.getReferenceById(department[0]), 0)));
+        routingRuleRepository.saveAll(rules);
+        logger.info("Seeded {} default routing rules from existing complaints", rules.size());
+    }
+
+    /**
+     * Resolve the department ID for a complaint type and free text (title/description),
+     * falling back to the fallback department when no rule matches. Served entirely from memory;
+     * empty only when there is no active department at all.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<Long> route(ComplaintType type, String text) {
+        return routingTable.route(type, text);
+    }
+
+    /**
+     * Get all routing rules
+     */
+    @Transactional(readOnly = true)
+    public List<ComplaintRoutingRule> getAllRules() {
+        return routingRuleRepository.findAllWithDepartment();
+    }
+
+    /**
+     * Create a routing rule
+     */
+    public ComplaintRoutingRule createRule(ComplaintType type, String keyword, Long departmentId, Integer priority) {
+        logger.info("Creating routing rule for type {} to department {}", type, departmentId);
+
+        ComplaintRoutingRule rule = new ComplaintRoutingRule(type, normalizeKeyword(keyword),
+                getDepartment(departmentId), priority != null ? priority : 0);
+        ComplaintRoutingRule savedRule = routingRuleRepository.save(rule);
+
+        TransactionHooks.afterCommit(this::reloadRoutingTable);
+        logger.info("Routing rule created successfully with ID: {}", savedRule.getId());
+
+        return savedRule;
+    }
+
+    /**
+     * Update a routing rule
+     */
+    public ComplaintRoutingRule updateRule(Long ruleId, ComplaintType type, String keyword, Long departmentId,
+                                           Integer priority, Boolean isActive) {
+        logger.info("Updating routing rule with ID: {}", ruleId);
+
+        ComplaintRoutingRule rule = routingRuleRepository.findById(ruleId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.ROUTING_RULE_NOT_FOUND, "Routing rule not found with ID: " + ruleId));
+
+        if (type != null) {
+            rule.setComplaintType(type);
+        }
+        rule.setKeyword(normalizeKeyword(keyword));
+        if (departmentId != null) {
+            rule.setDepartment(getDepartment(departmentId));
+        }
+        if (priority != null) {
+            rule.setPriority(priority);
+        }
+        if (isActive != null) {
+            rule.setIsActive(isActive);
+        }
+
+        ComplaintRoutingRule savedRule = routingRuleRepository.save(rule);
+
+        TransactionHooks.afterCommit(this::reloadRoutingTable);
+        logger.info("Routing rule updated successfully with ID: {}", savedRule.getId());
+
+        return savedRule;
+    }
+
+    /**
+     * Delete a routing rule
+     */
+    public void deleteRule(Long ruleId) {
+        logger.info("Deleting routing rule with ID: {}", ruleId);
+
+        if (!routingRuleRepository.existsById(ruleId)) {
+            throw new ResourceNotFoundException(ErrorCode.ROUTING_RULE_NOT_FOUND, "Routing rule not found with ID: " + ruleId);
+        }
+
+        routingRuleRepository.deleteById(ruleId);
+
+        TransactionHooks.afterCommit(this::reloadRoutingTable);
+        logger.info("Routing rule deleted successfully with ID: {}", ruleId);
+    }
+
+    /**
+     * Delete all rules of a department (used before the department itself is removed)
+     */
+    public void deleteRulesForDepartment(Long departmentId) {
+        routingRuleRepository.deleteByDepartmentId(departmentId);
+        TransactionHooks.afterCommit(this::reloadRoutingTable);
+    }
+
+    /**
+     * Rebuild the routing table after the current transaction commits,
+     * e.g. when a department is activated or deactivated
+     */
+    public void refreshAfterCommit() {
+        TransactionHooks.afterCommit(this::reloadRoutingTable);
+    }
+
+    /**
+     * Rebuild the in-memory routing table from the database and swap it in
+     */
+    public void reloadRoutingTable() {
+        List<ComplaintRoutingRule> rules = routingRuleRepository.findActiveRulesForRouting();
+        Long fallbackDepartmentId = findFallbackDepartment().map(Department::getId).orElse(null);
+        routingTable = RoutingTable.of(rules, fallbackDepartmentId);
+        logger.info("Routing table loaded with {} active rules, fallback department {}", rules.size(), fallbackDepartmentId);
+    }
+
+    /**
+     * The configured fallback department when it exists and is active, otherwise the oldest active one
+     */
+    private Optional<Department> findFallbackDepartment() {
+        if (fallbackDepartmentName != null && !fallbackDepartmentName.isBlank()) {
+            Optional<Department> configured = departmentRepository.findByName(fallbackDepartmentName.trim())
+                    .filter(Department::getIsActive);
+            if (configured.isPresent()) {
+                return configured;
+            }
+            logger.warn("Fallback department '{}' does not exist or is inactive", fallbackDepartmentName);
+        }
+        return departmentRepository.findByIsActive(true).stream()
+                .min(Comparator.comparing(Department::getId));
+    }
+
+    private Department getDepartment(Long departmentId) {
+        Department department = departmentRepository.findById(departmentId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.DEPARTMENT_NOT_FOUND, "Department not found with ID: " + departmentId));
+        if (!department.getIsActive()) {
+            throw new InvalidRequestException(ErrorCode.DEPARTMENT_INACTIVE, "Department is not active");
+        }
+        return department;
+    }
+
+    private String normalizeKeyword(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        return keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Immutable snapshot of the active rules, grouped by complaint type in evaluation order
+     */
+    private static final class RoutingTable {
+
+        static final RoutingTable EMPTY = new RoutingTable(Collections.emptyMap(), null);
+
+        private final Map<ComplaintType, List<Route>> routesByType;
+        private final Long fallbackDepartmentId;
+
+        private RoutingTable(Map<ComplaintType, List<Route>> routesByType, Long fallbackDepartmentId) {
+            this.routesByType = routesByType;
+            this.fallbackDepartmentId = fallbackDepartmentId;
+        }
+
+        static RoutingTable of(List<ComplaintRoutingRule> rules, Long fallbackDepartmentId) {
+            Map<ComplaintType, List<Route>> routes = new EnumMap<>(ComplaintType.class);
+            for (ComplaintRoutingRule rule : rules) {
+                routes.computeIfAbsent(rule.getComplaintType(), type -> new ArrayList<>())
+                        .add(new Route(rule.getKeyword(), rule.getDepartment().getId()));
+            }
+            routes.replaceAll((type, list) -> List.copyOf(list));
+            return new RoutingTable(Collections.unmodifiableMap(routes), fallbackDepartmentId);
+        }
+
+        Optional<Long> route(ComplaintType type, String text) {
+            List<Route> routes = routesByType.getOrDefault(type, List.of());
+            String haystack = text != null ? text.toLowerCase(Locale.ROOT) : "";
+            for (Route route : routes) {
+                if (route.keyword == null || haystack.contains(route.keyword)) {
+                    return Optional.of(route.departmentId);
+                }
+            }
+            return Optional.ofNullable(fallbackDepartmentId);
+        }
+    }
+
+    private static final class Route {
+
+        private final String keyword;
+        private final Long departmentId;
+
+        Route(String keyword, Long departmentId) {
+            this.keyword = keyword;
+            this.departmentId = departmentId;
+        }
+    }
+}
@@ -1,10 +1,25 @@
 package com.aiu.scrs.service;
 
+import com.aiu.scrs.dto.complaint.BulkOperationResult;
 import com.aiu.scrs.entity.*;
+import com.aiu.scrs.exception.ConflictException;
+import com.aiu.scrs.exception.ErrorCode;
+import com.aiu.scrs.exception.InvalidRequestException;
+import com.aiu.scrs.exception.ResourceNotFoundException;
+import com.aiu.scrs.monitoring.jfr.RecordComplaintEvent;
 import com.aiu.scrs.repository.*;
+import com.aiu.scrs.service.activity.ActivityLog;
+import com.aiu.scrs.service.assignment.AssignmentEngine;
+import com.aiu.scrs.service.push.ComplaintUpdate;
+import com.aiu.scrs.service.push.DashboardHub;
+import com.aiu.scrs.service.retry.RetryOnOptimisticLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,12 +39,20 @@ public class ComplaintService {
     
     private static final Logger logger = LoggerFactory.getLogger(ComplaintService.class);
     
+    /**
+     * Maximum number of complaints accepted by one bulk operation
+     */
+    public static final int MAX_BULK_SIZE = 1000;
+    
     private final ComplaintRepository complaintRepository;
     private final ComplaintVoteRepository complaintVoteRepository;
     private final ComplaintStatusHistoryRepository statusHistoryRepository;
     private final ComplaintCommentRepository commentRepository;
     private final UserService userService;
     private final DepartmentService departmentService;
+    private final AssignmentEngine assignmentEngine;
+    private final ActivityLog activityLog;
+    private final DashboardHub dashboardHub;
     
     @Autowired
     public ComplaintService(ComplaintRepository complaintRepository,
@@ -37,18 +60,25 @@ public class ComplaintService {
                           ComplaintStatusHistoryRepository statusHistoryRepository,
                           ComplaintCommentRepository commentRepository,
                           UserService userService,
-                          DepartmentService departmentService) {
+                          DepartmentService departmentService,
+                          AssignmentEngine assignmentEngine,
+                          ActivityLog activityLog,
+                          DashboardHub dashboardHub) {
         this.complaintRepository = complaintRepository;
         this.complaintVoteRepository = complaintVoteRepository;
         this.statusHistoryRepository = statusHistoryRepository;
         this.commentRepository = commentRepository;
         this.userService = userService;
         this.departmentService = departmentService;
+        this.assignmentEngine = assignmentEngine;
+        this.activityLog = activityLog;
+        this.dashboardHub = dashboardHub;
     }
     
     /**
      * Create a new complaint
      */
+    @RecordComplaintEvent("create")
     public Complaint createComplaint(Complaint complaint, Long createdByUserId) {
         logger.info("Creating complaint with title: {}", complaint.getTitle());
         
@@ -56,12 +86,12 @@ public class ComplaintService {
         User creator;
         try {
             creator = userService.getUserById(createdByUserId);
-        } catch (RuntimeException e) {
-            throw new RuntimeException("Creator user not found with ID: " + createdByUserId);
+        } catch (ResourceNotFoundException e) {
+            throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, "Creator user not found with ID: " + createdByUserId);
         }
         
         if (!creator.getIsActive()) {
-            throw new RuntimeException("Creator user is not active");
+            throw new InvalidRequestException(ErrorCode.USER_INACTIVE, "Creator user is not active");
         }
         
         // Set initial values
@@ -73,11 +103,11 @@ public class ComplaintService {
         
         // Assign to appropriate department
         if (complaint.getTargetDepartment() == null) {
-            // Auto-assign based on complaint type
-            Optional<Department> departmentOpt = departmentService.getDepartmentByComplaintType(complaint.getType());
-            if (departmentOpt.isPresent()) {
-                complaint.setTargetDepartment(departmentOpt.get());
-            }
+            // Auto-assign based on the complaint routing table
+            Optional<Department> departmentOpt = departmentService.getDepartmentForComplaint(
+                    complaint.getType(), complaint.getTitle() + " " + complaint.getDescription());
+            complaint.setTargetDepartment(departmentOpt.orElseThrow(() -> new InvalidRequestException(
+                    ErrorCode.NO_DEPARTMENT_AVAILABLE, "No active department can take this complaint")));
         }
         
         Complaint savedComplaint = complaintRepository.save(complaint);
@@ -85,23 +115,44 @@ public class ComplaintService {
         // Create initial status history
         createStatusHistory(savedComplaint, null, ComplaintStatus.NEW, creator, "Initial complaint submission");
         
+        // Auto-assign to a staff member of the target department
+        if (assignmentEngine.isAutoAssignmentEnabled() && savedComplaint.getTargetDepartment() != null) {
+            autoAssignComplaint(savedComplaint, creator);
+        }
+        
+        activityLog.record(ActivityType.COMPLAINT_CREATED, "Complaint #" + savedComplaint.getId() + " submitted: "
+                + savedComplaint.getTitle(), createdByUserId, savedComplaint.getId());
+        dashboardHub.complaintChanged(ComplaintUpdate.of(ActivityType.COMPLAINT_CREATED, savedComplaint));
         logger.info("Complaint created successfully with ID: {}", savedComplaint.getId());
         
         return savedComplaint;
     }
     
     /**
-     * Update complaint
+     * Update the editable fields of a complaint (title, description, type, department)
      */
     public Complaint updateComplaint(Complaint complaint) {
         logger.info("Updating complaint with ID: {}", complaint.getId());
         
         Optional<Complaint> existingComplaintOpt = complaintRepository.findById(complaint.getId());
         if (existingComplaintOpt.isEmpty()) {
-            throw new RuntimeException("Complaint not found with ID: " + complaint.getId());
+            throw new ResourceNotFoundException(ErrorCode.COMPLAINT_NOT_FOUND, "Complaint not found with ID: " + complaint.getId());
         }
         
-        Complaint savedComplaint = complaintRepository.save(complaint);
+        // Edits made against an older version must not overwrite newer changes
+        Complaint existingComplaint = existingComplaintOpt.get();
+        if (complaint.getVersion() != null && !complaint.getVersion().equals(existingComplaint.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Complaint.class, complaint.getId());
+        }
+        
+        existingComplaint.setTitle(complaint.getTitle());
+        existingComplaint.setDescription(complaint.getDescription());
+        existingComplaint.setType(complaint.getType());
+        if (complaint.getTargetDepartment() != null) {
+            existingComplaint.setTargetDepartment(complaint.getTargetDepartment());
+        }
+        
+        Complaint savedComplaint = complaintRepository.save(existingComplaint);
         logger.info("Complaint updated successfully with ID: {}", savedComplaint.getId());
         
         return savedComplaint;
@@ -123,6 +174,39 @@ public class ComplaintService {
         return complaintRepository.findAll();
     }
     
+    /**
+     * Get a page of complaints filtered by status, department and title text
+     */
+    @Transactional(readOnly = true)
+    public Page<Complaint> getComplaints(ComplaintStatus status, Long departmentId, String search, Pageable pageable) {
+        return complaintRepository.findFiltered(status, departmentId, toTitlePattern(search), pageable);
+    }
+    
+    /**
+     * Get a page of complaints like {@link #getComplaints}, selecting only the given response fields
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getComplaintFields(List<String> fields, ComplaintStatus status, Long departmentId,
+                                                        String search, Pageable pageable) {
+        return complaintRepository.findFilteredFields(fields, status, departmentId, toTitlePattern(search), pageable);
+    }
+    
+    /**
+     * Get the version stamp of the complaints matching the same filters as {@link #getComplaints}
+     */
+    @Transactional(readOnly = true)
+    public ComplaintVersionStamp getComplaintsVersion(ComplaintStatus status, Long departmentId, String search) {
+        return complaintRepository.getVersionStamp(status, departmentId, toTitlePattern(search));
+    }
+    
+    /**
+     * Get the version of a complaint, its submitter and its department without loading them
+     */
+    @Transactional(readOnly = true)
+    public Optional<ComplaintVersion> getComplaintVersion(Long id) {
+        return complaintRepository.findVersionById(id);
+    }
+    
     /**
      * Get complaints by creator
      */
@@ -171,6 +255,14 @@ public class ComplaintService {
         return complaintRepository.findTopVotedComplaints();
     }
     
+    /**
+     * Get the given number of top voted complaints with submitter and department loaded
+     */
+    @Transactional(readOnly = true)
+    public List<Complaint> getTopVotedComplaints(int limit) {
+        return complaintRepository.findTopVoted(PageRequest.of(0, limit));
+    }
+    
     /**
      * Get complaints requiring student confirmation
      */
@@ -182,26 +274,27 @@ public class ComplaintService {
     /**
      * Vote on a complaint
      */
+    @RecordComplaintEvent("vote")
     public void voteComplaint(Long complaintId, Long userId) {
         logger.info("User {} voting for complaint {}", userId, complaintId);
         
         Optional<Complaint> complaintOpt = complaintRepository.findById(complaintId);
         if (complaintOpt.isEmpty()) {
-            throw new RuntimeException("Complaint not found with ID: " + complaintId);
+            throw new ResourceNotFoundException(ErrorCode.COMPLAINT_NOT_FOUND, "Complaint not found with ID: " + complaintId);
         }
         
         User user;
         try {
             user = userService.getUserById(userId);
-        } catch (RuntimeException e) {
-            throw new RuntimeException("User not found with ID: " + userId);
+        } catch (ResourceNotFoundException e) {
+            throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + userId);
         }
         
         Complaint complaint = complaintOpt.get();
         
         // Check if user already voted
         if (complaintVoteRepository.existsByUserAndComplaint(user, complaint)) {
-            throw new RuntimeException("User already voted for this complaint");
+            throw new ConflictException(ErrorCode.ALREADY_VOTED, "User already voted for this complaint");
         }
         
         // Create vote
@@ -209,10 +302,11 @@ public class ComplaintService {
         complaintVoteRepository.save(vote);
         
         // Update complaint vote count
-        complaint.setTotalVotes(complaint.getTotalVotes() + 1);
-        complaintRepository.save(complaint);
+        complaintRepository.adjustTotalVotes(complaintId, 1, LocalDateTime.now());
+        activityLog.record(ActivityType.COMPLAINT_VOTED, "Vote for complaint #" + complaintId, userId, complaintId);
+        dashboardHub.complaintChanged(ComplaintUpdate.of(ActivityType.COMPLAINT_VOTED, complaint));
         
-        logger.info("Vote recorded successfully. Total votes for complaint {}: {}", complaintId, complaint.getTotalVotes());
+        logger.info("Vote recorded successfully for complaint {}", complaintId);
     }
     
     /**
@@ -223,14 +317,14 @@ public class ComplaintService {
         
         Optional<Complaint> complaintOpt = complaintRepository.findById(complaintId);
         if (complaintOpt.isEmpty()) {
-            throw new RuntimeException("Complaint not found with ID: " + complaintId);
+            throw new ResourceNotFoundException(ErrorCode.COMPLAINT_NOT_FOUND, "Complaint not found with ID: " + complaintId);
         }
         
         User user;
         try {
             user = userService.getUserById(userId);
-        } catch (RuntimeException e) {
-            throw new RuntimeException("User not found with ID: " + userId);
+        } catch (ResourceNotFoundException e) {
+            throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + userId);
         }
         
         Complaint complaint = complaintOpt.get();
@@ -240,29 +334,33 @@ public class ComplaintService {
             complaintVoteRepository.delete(voteOpt.get());
             
             // Update complaint vote count
-            complaint.setTotalVotes(Math.max(0, complaint.getTotalVotes() - 1));
-            complaintRepository.save(complaint);
+            complaintRepository.adjustTotalVotes(complaintId, -1, LocalDateTime.now());
+            activityLog.record(ActivityType.COMPLAINT_VOTE_REMOVED, "Vote withdrawn from complaint #" + complaintId,
+                    userId, complaintId);
+            dashboardHub.complaintChanged(ComplaintUpdate.of(ActivityType.COMPLAINT_VOTE_REMOVED, complaint));
             
-            logger.info("Vote removed successfully. Total votes for complaint {}: {}", complaintId, complaint.getTotalVotes());
+            logger.info("Vote removed successfully from complaint {}", complaintId);
         }
     }
     
     /**
      * Change complaint status
      */
+    @RecordComplaintEvent("status-change")
+    @RetryOnOptimisticLock
     public void changeComplaintStatus(Long complaintId, ComplaintStatus newStatus, Long changedByUserId, String notes) {
         logger.info("Changing complaint {} status to {}", complaintId, newStatus);
         
         Optional<Complaint> complaintOpt = complaintRepository.findById(complaintId);
         if (complaintOpt.isEmpty()) {
-            throw new RuntimeException("Complaint not found with ID: " + complaintId);
+            throw new ResourceNotFoundException(ErrorCode.COMPLAINT_NOT_FOUND, "Complaint not found with ID: " + complaintId);
         }
         
         User changedBy;
         try {
             changedBy = userService.getUserById(changedByUserId);
-        } catch (RuntimeException e) {
-            throw new RuntimeException("User not found with ID: " + changedByUserId);
+        } catch (ResourceNotFoundException e) {
+            throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + changedByUserId);
         }
         
         Complaint complaint = complaintOpt.get();
@@ -283,6 +381,15 @@ public class ComplaintService {
         
         // Create status history
         createStatusHistory(complaint, oldStatus, newStatus, changedBy, notes);
+        recordStatusChange(complaintId, oldStatus, newStatus, changedByUserId);
+        dashboardHub.complaintChanged(ComplaintUpdate.of(statusChangeType(newStatus), complaint));
+        
+        // Keep the assignee's open workload in step with the new status
+        if (complaint.getAssignedTo() != null) {
+            Long assigneeId = complaint.getAssignedTo().getId();
+            ComplaintType type = complaint.getType();
+            TransactionHooks.afterCommit(() -> assignmentEngine.onStatusChanged(assigneeId, type, oldStatus, newStatus));
+        }
         
         logger.info("Complaint status changed from {} to {}", oldStatus, newStatus);
     }
@@ -290,25 +397,28 @@ public class ComplaintService {
     /**
      * Assign complaint to staff member
      */
+    @RecordComplaintEvent("assign")
+    @RetryOnOptimisticLock
     public void assignComplaint(Long complaintId, Long staffUserId, Long assignedByUserId) {
         logger.info("Assigning complaint {} to staff {}", complaintId, staffUserId);
         
         Optional<Complaint> complaintOpt = complaintRepository.findById(complaintId);
         if (complaintOpt.isEmpty()) {
-            throw new RuntimeException("Complaint not found with ID: " + complaintId);
+            throw new ResourceNotFoundException(ErrorCode.COMPLAINT_NOT_FOUND, "Complaint not found with ID: " + complaintId);
         }
         
         User staff;
         try {
             staff = userService.getUserById(staffUserId);
-        } catch (RuntimeException e) {
-            throw new RuntimeException("Staff user not found with ID: " + staffUserId);
+        } catch (ResourceNotFoundException e) {
+            throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, "Staff user not found with ID: " + staffUserId);
         }
         if (staff.getRole() != UserRole.STAFF) {
-            throw new RuntimeException("User is not a staff member");
+            throw new InvalidRequestException(ErrorCode.USER_NOT_STAFF, "User is not a staff member");
         }
         
         Complaint complaint = complaintOpt.get();
+        Long previousStaffId = complaint.getAssignedTo() != null ? complaint.getAssignedTo().getId() : null;
         complaint.setAssignedTo(staff);
         complaint.setUpdatedAt(LocalDateTime.now());
         
@@ -319,6 +429,14 @@ public class ComplaintService {
             complaintRepository.save(complaint);
         }
         
+        ComplaintStatus currentStatus = complaint.getStatus();
+        TransactionHooks.afterCommit(() -> assignmentEngine.onAssigned(previousStaffId, staffUserId, currentStatus));
+        activityLog.record(ActivityType.COMPLAINT_ASSIGNED, "Complaint #" + complaintId + " assigned to "
+                + staff.getUsername(), assignedByUserId, complaintId);
+        dashboardHub.complaintChanged(new ComplaintUpdate(ActivityType.COMPLAINT_ASSIGNED, complaintId, currentStatus,
+                complaint.getTargetDepartment() != null ? complaint.getTargetDepartment().getId() : null,
+                staffUserId, previousStaffId, LocalDateTime.now()));
+        
         logger.info("Complaint assigned to staff member: {}", staff.getUsername());
     }
     
@@ -330,20 +448,22 @@ public class ComplaintService {
         
         Optional<Complaint> complaintOpt = complaintRepository.findById(complaintId);
         if (complaintOpt.isEmpty()) {
-            throw new RuntimeException("Complaint not found with ID: " + complaintId);
+            throw new ResourceNotFoundException(ErrorCode.COMPLAINT_NOT_FOUND, "Complaint not found with ID: " + complaintId);
         }
         
         User user;
         try {
             user = userService.getUserById(userId);
-        } catch (RuntimeException e) {
-            throw new RuntimeException("User not found with ID: " + userId);
+        } catch (ResourceNotFoundException e) {
+            throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + userId);
         }
         
         Complaint complaint = complaintOpt.get();
         
         ComplaintComment complaintComment = new ComplaintComment(comment, complaint, user, isResolutionAnnouncement);
         commentRepository.save(complaintComment);
+        activityLog.record(ActivityType.COMPLAINT_COMMENTED, "Comment on complaint #" + complaintId, userId, complaintId);
+        dashboardHub.complaintChanged(ComplaintUpdate.of(ActivityType.COMPLAINT_COMMENTED, complaint));
         
         logger.info("Comment added to complaint {}", complaintId);
     }
@@ -351,13 +471,20 @@ public class ComplaintService {
     /**
      * Delete complaint
      */
+    @RecordComplaintEvent("delete")
     public void deleteComplaint(Long complaintId) {
         logger.info("Deleting complaint with ID: {}", complaintId);
         
-        if (!complaintRepository.existsById(complaintId)) {
-            throw new RuntimeException("Complaint not found with ID: " + complaintId);
+        Optional<Complaint> complaintOpt = complaintRepository.findById(complaintId);
+        if (complaintOpt.isEmpty()) {
+            throw new ResourceNotFoundException(ErrorCode.COMPLAINT_NOT_FOUND, "Complaint not found with ID: " + complaintId);
         }
         
+        Complaint complaint = complaintOpt.get();
+        Long assigneeId = complaint.getAssignedTo() != null ? complaint.getAssignedTo().getId() : null;
+        Long departmentId = complaint.getTargetDepartment() != null ? complaint.getTargetDepartment().getId() : null;
+        ComplaintStatus status = complaint.getStatus();
+        
         // Delete related records first
         commentRepository.deleteByComplaintId(complaintId);
         complaintVoteRepository.deleteByComplaintId(complaintId);
@@ -366,6 +493,11 @@ public class ComplaintService {
         // Delete complaint
         complaintRepository.deleteById(complaintId);
         
+        TransactionHooks.afterCommit(() -> assignmentEngine.onComplaintRemoved(assigneeId, status));
+        activityLog.record(ActivityType.COMPLAINT_DELETED, "Complaint #" + complaintId + " deleted", null, complaintId);
+        dashboardHub.complaintChanged(new ComplaintUpdate(ActivityType.COMPLAINT_DELETED, complaintId, null,
+                departmentId, assigneeId, null, LocalDateTime.now()));
+        
         logger.info("Complaint deleted successfully with ID: {}", complaintId);
     }
     
@@ -491,6 +623,241 @@ public class ComplaintService {
         };
     }
     
+    /**
+     * Change the status of several complaints with one validation query, one update statement
+     * and one batched history insert. Complaints that cannot be changed are reported, not thrown.
+     */
+    public BulkOperationResult bulkChangeStatus(List<Long> complaintIds, ComplaintStatus newStatus,
+                                                Long changedByUserId, String notes) {
+        Set<Long> ids = validateBulkIds(complaintIds);
+        logger.info("Bulk changing status of {} complaints to {}", ids.size(), newStatus);
+        
+        User changedBy;
+        try {
+            changedBy = userService.getUserById(changedByUserId);
+        } catch (ResourceNotFoundException e) {
+            throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + changedByUserId);
+        }
+        
+        BulkOperationResult result = new BulkOperationResult(ids.size());
+        Map<Long, Object[]> states = loadComplaintStates(ids);
+        List<Object[]> changed = new ArrayList<>();
+        for (Long id : ids) {
+            Object[] state = states.get(id);
+            if (state == null) {
+                result.addFailure(id, "Complaint not found");
+            } else if (state[1] == newStatus) {
+                result.addFailure(id, "Complaint is already " + newStatus);
+            } else {
+                changed.add(state);
+                result.addSuccess(id);
+            }
+        }
+        if (changed.isEmpty()) {
+            return result;
+        }
+        
+        List<Long> changedIds = result.getSucceededIds();
+        LocalDateTime now = LocalDateTime.now();
+        if (newStatus == ComplaintStatus.CONFIRMED_BY_STUDENT) {
+            complaintRepository.bulkUpdateStatusAndConfirmation(changedIds, newStatus, true, now);
+        } else if (newStatus == ComplaintStatus.RESOLUTION_ANNOUNCED) {
+            complaintRepository.bulkUpdateStatusAndConfirmation(changedIds, newStatus, false, now);
+        } else {
+            complaintRepository.bulkUpdateStatus(changedIds, newStatus, now);
+        }
+        
+        List<ComplaintStatusHistory> histories = new ArrayList<>(changed.size());
+        for (Object[] state : changed) {
+            histories.add(buildStatusHistory((Long) state[0], (ComplaintStatus) state[1], newStatus, changedBy, notes, now));
+        }
+        statusHistoryRepository.batchInsert(histories);
+        for (Object[] state : changed) {
+            recordStatusChange((Long) state[0], (ComplaintStatus) state[1], newStatus, changedByUserId);
+            dashboardHub.complaintChanged(new ComplaintUpdate(statusChangeType(newStatus), (Long) state[0], newStatus,
+                    (Long) state[4], (Long) state[2], null, now));
+        }
+        
+        TransactionHooks.afterCommit(() -> {
+            for (Object[] state : changed) {
+                assignmentEngine.onStatusChanged((Long) state[2], (ComplaintType) state[3], (ComplaintStatus) state[1], newStatus);
+            }
+        });
+        
+        logger.info("Bulk status change to {}: {} succeeded, {} failed", newStatus, result.getSucceeded(), result.getFailed());
+        return result;
+    }
+    
+    /**
+     * Assign several complaints to one staff member; NEW complaints move to ASSIGNED
+     */
+    public BulkOperationResult bulkAssign(List<Long> complaintIds, Long staffUserId, Long assignedByUserId) {
+        Set<Long> ids = validateBulkIds(complaintIds);
+        logger.info("Bulk assigning {} complaints to staff {}", ids.size(), staffUserId);
+        
+        User staff;
+        try {
+            staff = userService.getUserById(staffUserId);
+        } catch (ResourceNotFoundException e) {
+            throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, "Staff user not found with ID: " + staffUserId);
+        }
+        if (staff.getRole() != UserRole.STAFF) {
+            throw new InvalidRequestException(ErrorCode.USER_NOT_STAFF, "User is not a staff member");
+        }
+        if (!staff.getIsActive()) {
+            throw new InvalidRequestException(ErrorCode.USER_INACTIVE, "Staff user is not active");
+        }
+        
+        User assignedBy;
+        try {
+            assignedBy = userService.getUserById(assignedByUserId);
+        } catch (ResourceNotFoundException e) {
+            throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + assignedByUserId);
+        }
+        
+        BulkOperationResult result = new BulkOperationResult(ids.size());
+        Map<Long, Object[]> states = loadComplaintStates(ids);
+        List<Object[]> changed = new ArrayList<>();
+        List<Long> newIds = new ArrayList<>();
+        for (Long id : ids) {
+            Object[] state = states.get(id);
+            if (state == null) {
+                result.addFailure(id, "Complaint not found");
+            } else if (staffUserId.equals(state[2])) {
+                result.addFailure(id, "Complaint is already assigned to this staff member");
+            } else {
+                changed.add(state);
+                result.addSuccess(id);
+                if (state[1] == ComplaintStatus.NEW) {
+                    newIds.add(id);
+                }
+            }
+        }
+        if (changed.isEmpty()) {
+            return result;
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        complaintRepository.bulkAssign(result.getSucceededIds(), staff, now);
+        
+        // Auto-change status to ASSIGNED for complaints that were still NEW
+        if (!newIds.isEmpty()) {
+            complaintRepository.bulkUpdateStatus(newIds, ComplaintStatus.ASSIGNED, now);
+            List<ComplaintStatusHistory> histories = new ArrayList<>(newIds.size());
+            for (Long id : newIds) {
+                histories.add(buildStatusHistory(id, ComplaintStatus.NEW, ComplaintStatus.ASSIGNED, assignedBy,
+                        "Auto-assigned to staff member", now));
+            }
+            statusHistoryRepository.batchInsert(histories);
+        }
+        for (Object[] state : changed) {
+            activityLog.record(ActivityType.COMPLAINT_ASSIGNED, "Complaint #" + state[0] + " assigned to "
+                    + staff.getUsername(), assignedByUserId, (Long) state[0]);
+            ComplaintStatus status = state[1] == ComplaintStatus.NEW ? ComplaintStatus.ASSIGNED : (ComplaintStatus) state[1];
+            dashboardHub.complaintChanged(new ComplaintUpdate(ActivityType.COMPLAINT_ASSIGNED, (Long) state[0], status,
+                    (Long) state[4], staffUserId, (Long) state[2], now));
+        }
+        
+        TransactionHooks.afterCommit(() -> {
+            for (Object[] state : changed) {
+                ComplaintStatus status = state[1] == ComplaintStatus.NEW ? ComplaintStatus.ASSIGNED : (ComplaintStatus) state[1];
+                assignmentEngine.onAssigned((Long) state[2], staffUserId, status);
+            }
+        });
+        
+        logger.info("Bulk assignment to {}: {} succeeded, {} failed", staff.getUsername(), result.getSucceeded(), result.getFailed());
+        return result;
+    }
+    
+    /**
+     * Assign a freshly created complaint using the configured assignment strategy
+     */
+    private void autoAssignComplaint(Complaint complaint, User createdBy) {
+        Optional<Long> staffIdOpt = assignmentEngine.reserve(complaint.getTargetDepartment().getId(), complaint.getType());
+        if (staffIdOpt.isEmpty()) {
+            logger.info("No active staff available for auto-assignment of complaint {}", complaint.getId());
+            return;
+        }
+        
+        Long staffId = staffIdOpt.get();
+        TransactionHooks.afterRollback(() -> assignmentEngine.release(staffId));
+        
+        User staff = userService.getUserById(staffId);
+        complaint.setAssignedTo(staff);
+        complaint.setStatus(ComplaintStatus.ASSIGNED);
+        complaintRepository.save(complaint);
+        
+        createStatusHistory(complaint, ComplaintStatus.NEW, ComplaintStatus.ASSIGNED, createdBy,
+                "Auto-assigned to staff member " + staff.getUsername());
+        activityLog.record(ActivityType.COMPLAINT_ASSIGNED, "Complaint #" + complaint.getId()
+                + " auto-assigned to " + staff.getUsername(), null, complaint.getId());
+        logger.info("Complaint {} auto-assigned to staff member: {}", complaint.getId(), staff.getUsername());
+    }
+    
+    /**
+     * Record a status change; announcing a resolution is reported as the complaint being resolved
+     */
+    private void recordStatusChange(Long complaintId, ComplaintStatus oldStatus, ComplaintStatus newStatus, Long userId) {
+        activityLog.record(statusChangeType(newStatus), "Complaint #" + complaintId + " moved from " + oldStatus
+                + " to " + newStatus, userId, complaintId);
+    }
+    
+    private static ActivityType statusChangeType(ComplaintStatus newStatus) {
+        return newStatus == ComplaintStatus.RESOLUTION_ANNOUNCED
+                ? ActivityType.COMPLAINT_RESOLVED : ActivityType.COMPLAINT_STATUS_CHANGED;
+    }
+    
+    /**
+     * Lowercase LIKE pattern for a title search, or null for no search
+     */
+    private String toTitlePattern(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        return "%" + search.trim().toLowerCase(Locale.ROOT) + "%";
+    }
+    
+    /**
+     * De-duplicate and bound the IDs of a bulk request
+     */
+    private Set<Long> validateBulkIds(List<Long> complaintIds) {
+        if (complaintIds == null || complaintIds.isEmpty()) {
+            throw new InvalidRequestException("At least one complaint ID is required");
+        }
+        Set<Long> ids = new LinkedHashSet<>(complaintIds);
+        ids.remove(null);
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new InvalidRequestException("Bulk operations are limited to " + MAX_BULK_SIZE + " complaints");
+        }
+        return ids;
+    }
+    
+    /**
+     * Load [id, status, assigneeId, type, departmentId] of the given complaints keyed by ID
+     */
+    private Map<Long, Object[]> loadComplaintStates(Collection<Long> ids) {
+        Map<Long, Object[]> states = new HashMap<>();
+        for (Object[] row : complaintRepository.findStateByIdIn(ids)) {
+            states.put((Long) row[0], row);
+        }
+        return states;
+    }
+    
+    /**
+     * Build a status history record for batch insertion without loading the complaint
+     */
+    private ComplaintStatusHistory buildStatusHistory(Long complaintId, ComplaintStatus fromStatus, ComplaintStatus toStatus,
+                                                      User changedBy, String notes, LocalDateTime createdAt) {
+        String comment = "Status changed from " + fromStatus + " to " + toStatus;
+        if (notes != null && !notes.isEmpty()) {
+            comment += ": " + notes;
+        }
+        ComplaintStatusHistory history = new ComplaintStatusHistory(
+                complaintRepository.getReferenceById(complaintId), toStatus, comment, changedBy);
+        history.setCreatedAt(createdAt);
+        return history;
+    }
+    
     /**
      * Create status history record
      */
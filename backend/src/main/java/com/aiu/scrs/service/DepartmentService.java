@@ -1,16 +1,23 @@
 package com.aiu.scrs.service;
 
+import com.aiu.scrs.entity.ActivityType;
 import com.aiu.scrs.entity.ComplaintType;
 import com.aiu.scrs.entity.Department;
 import com.aiu.scrs.entity.User;
+import com.aiu.scrs.exception.ConflictException;
+import com.aiu.scrs.exception.ErrorCode;
+import com.aiu.scrs.exception.ResourceNotFoundException;
 import com.aiu.scrs.repository.DepartmentRepository;
 import com.aiu.scrs.repository.UserRepository;
+import com.aiu.scrs.repository.VersionStamp;
+import com.aiu.scrs.service.activity.ActivityLog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,11 +32,16 @@ public class DepartmentService {
     
     private final DepartmentRepository departmentRepository;
     private final UserRepository userRepository;
+    private final ComplaintRoutingService routingService;
+    private final ActivityLog activityLog;
     
     @Autowired
-    public DepartmentService(DepartmentRepository departmentRepository, UserRepository userRepository) {
+    public DepartmentService(DepartmentRepository departmentRepository, UserRepository userRepository,
+                           ComplaintRoutingService routingService, ActivityLog activityLog) {
         this.departmentRepository = departmentRepository;
         this.userRepository = userRepository;
+        this.routingService = routingService;
+        this.activityLog = activityLog;
     }
     
     /**
@@ -40,13 +52,15 @@ public class DepartmentService {
         
         // Check if department name already exists
         if (departmentRepository.existsByName(department.getName())) {
-            throw new RuntimeException("Department name already exists: " + department.getName());
+            throw new ConflictException(ErrorCode.DEPARTMENT_NAME_TAKEN, "Department name already exists: " + department.getName());
         }
         
         // Set default values
         department.setIsActive(true);
         
         Department savedDepartment = departmentRepository.save(department);
+        routingService.refreshAfterCommit();
+        activityLog.record(ActivityType.DEPARTMENT_CREATED, "Department created: " + savedDepartment.getName(), null, null);
         logger.info("Department created successfully with ID: {}", savedDepartment.getId());
         
         return savedDepartment;
@@ -60,7 +74,7 @@ public class DepartmentService {
         
         Optional<Department> existingDepartmentOpt = departmentRepository.findById(department.getId());
         if (existingDepartmentOpt.isEmpty()) {
-            throw new RuntimeException("Department not found with ID: " + department.getId());
+            throw new ResourceNotFoundException(ErrorCode.DEPARTMENT_NOT_FOUND, "Department not found with ID: " + department.getId());
         }
         
         Department existingDepartment = existingDepartmentOpt.get();
@@ -68,10 +82,11 @@ public class DepartmentService {
         // Check name uniqueness (excluding current department)
         if (!existingDepartment.getName().equals(department.getName()) && 
             departmentRepository.existsByName(department.getName())) {
-            throw new RuntimeException("Department name already exists: " + department.getName());
+            throw new ConflictException(ErrorCode.DEPARTMENT_NAME_TAKEN, "Department name already exists: " + department.getName());
         }
         
         Department savedDepartment = departmentRepository.save(department);
+        routingService.refreshAfterCommit();
         logger.info("Department updated successfully with ID: {}", savedDepartment.getId());
         
         return savedDepartment;
@@ -101,6 +116,22 @@ public class DepartmentService {
         return departmentRepository.findAll();
     }
     
+    /**
+     * Get the version stamp of all departments
+     */
+    @Transactional(readOnly = true)
+    public VersionStamp getDepartmentsVersion() {
+        return departmentRepository.getVersionStamp();
+    }
+    
+    /**
+     * Get the last update time of a department without loading it
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> getDepartmentVersion(Long id) {
+        return departmentRepository.findUpdatedAtById(id);
+    }
+    
     /**
      * Get active departments
      */
@@ -130,8 +161,16 @@ public class DepartmentService {
      */
     @Transactional(readOnly = true)
     public Optional<Department> getDepartmentByComplaintType(ComplaintType type) {
-        List<Department> departments = departmentRepository.findDepartmentsByComplaintType(type);
-        return departments.isEmpty() ? Optional.empty() : Optional.of(departments.get(0));
+        return getDepartmentForComplaint(type, null);
+    }
+    
+    /**
+     * Get department for a new complaint from the in-memory routing table.
+     * Returns a reference without hitting the database.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Department> getDepartmentForComplaint(ComplaintType type, String text) {
+        return routingService.route(type, text).map(departmentRepository::getReferenceById);
     }
     
     /**
@@ -163,9 +202,10 @@ public class DepartmentService {
             Department department = departmentOpt.get();
             department.setIsActive(false);
             departmentRepository.save(department);
+            routingService.refreshAfterCommit();
             logger.info("Department deactivated successfully with ID: {}", departmentId);
         } else {
-            throw new RuntimeException("Department not found with ID: " + departmentId);
+            throw new ResourceNotFoundException(ErrorCode.DEPARTMENT_NOT_FOUND, "Department not found with ID: " + departmentId);
         }
     }
     
@@ -180,9 +220,10 @@ public class DepartmentService {
             Department department = departmentOpt.get();
             department.setIsActive(true);
             departmentRepository.save(department);
+            routingService.refreshAfterCommit();
             logger.info("Department activated successfully with ID: {}", departmentId);
         } else {
-            throw new RuntimeException("Department not found with ID: " + departmentId);
+            throw new ResourceNotFoundException(ErrorCode.DEPARTMENT_NOT_FOUND, "Department not found with ID: " + departmentId);
         }
     }
     
@@ -193,9 +234,10 @@ public class DepartmentService {
         logger.info("Deleting department with ID: {}", departmentId);
         
         if (!departmentRepository.existsById(departmentId)) {
-            throw new RuntimeException("Department not found with ID: " + departmentId);
+            throw new ResourceNotFoundException(ErrorCode.DEPARTMENT_NOT_FOUND, "Department not found with ID: " + departmentId);
         }
         
+        routingService.deleteRulesForDepartment(departmentId);
         departmentRepository.deleteById(departmentId);
         logger.info("Department deleted successfully with ID: {}", departmentId);
     }
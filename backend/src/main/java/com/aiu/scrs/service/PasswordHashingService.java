@@ -0,0 +1,106 @@
+package com.aiu.scrs.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Password Hashing Service - Hashes many passwords at once on a dedicated fork/join pool.
+ * BCrypt is CPU-bound, so the pool is sized to the available cores by default and kept
+ * separate from the common pool and the request threads.
+ */
+@Service
+public class PasswordHashingService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingService.class);
+    
+    /**
+     * Passwords hashed by one task without further splitting
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 8;
+    
+    private final PasswordEncoder passwordEncoder;
+    private final ForkJoinPool pool;
+    
+    @Autowired
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${scrs.password-hashing.parallelism:0}") int parallelism) {
+        this.passwordEncoder = passwordEncoder;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("password-hash-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        logger.info("Password hashing pool started with {} threads", threads);
+    }
+    
+    /**
+     * Hash a single password on the calling thread
+     */
+    public String encode(String rawPassword) {
+        return passwordEncoder.encode(rawPassword);
+    }
+    
+    /**
+     * Hash all passwords in parallel; the result has the same order as the input
+     */
+    public String[] encodeAll(List<String> rawPasswords) {
+        String[] hashes = rawPasswords.toArray(new String[0]);
+        if (hashes.length == 0) {
+            return hashes;
+        }
+        long started = System.nanoTime();
+        pool.invoke(new HashTask(hashes, 0, hashes.length));
+        long elapsedMs = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        logger.debug("Hashed {} passwords in {} ms ({} per second)", hashes.length, elapsedMs,
+                hashes.length * 1000L / elapsedMs);
+        return hashes;
+    }
+    
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+    
+    /**
+     * Replaces raw passwords with their hashes in place, splitting the range in halves
+     */
+    private class HashTask extends RecursiveAction {
+        
+        private final String[] passwords;
+        private final int from;
+        private final int to;
+        
+        HashTask(String[] passwords, int from, int to) {
+            this.passwords = passwords;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    passwords[i] = passwordEncoder.encode(passwords[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new HashTask(passwords, from, middle), new HashTask(passwords, middle, to));
+        }
+    }
+}
@@ -5,15 +5,24 @@ import com.aiu.scrs.dto.auth.AuthResponse;
 import com.aiu.scrs.dto.auth.LoginRequest;
 import com.aiu.scrs.dto.auth.RegisterRequest;
 import com.aiu.scrs.dto.user.UserResponse;
+import com.aiu.scrs.entity.ActivityType;
 import com.aiu.scrs.entity.User;
 import com.aiu.scrs.entity.UserRole;
+import com.aiu.scrs.exception.AuthenticationFailedException;
+import com.aiu.scrs.exception.ConflictException;
+import com.aiu.scrs.exception.ErrorCode;
+import com.aiu.scrs.exception.ResourceNotFoundException;
+import com.aiu.scrs.monitoring.jfr.PasswordCheckEvent;
 import com.aiu.scrs.repository.UserRepository;
+import com.aiu.scrs.service.activity.ActivityLog;
+import com.aiu.scrs.service.assignment.AssignmentEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -25,7 +34,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.ArrayList;
 import java.util.stream.Collectors;
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -43,14 +52,19 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
+    private final AssignmentEngine assignmentEngine;
+    private final ActivityLog activityLog;
     
     @Autowired
     public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, 
-                      AuthenticationManager authenticationManager, JwtTokenProvider tokenProvider) {
+                      AuthenticationManager authenticationManager, JwtTokenProvider tokenProvider,
+                      AssignmentEngine assignmentEngine, ActivityLog activityLog) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
         this.tokenProvider = tokenProvider;
+        this.assignmentEngine = assignmentEngine;
+        this.activityLog = activityLog;
     }
     
     /**
@@ -61,12 +75,12 @@ public class UserService {
         
         // Check if username already exists
         if (userRepository.existsByUsername(user.getUsername())) {
-            throw new RuntimeException("Username already exists: " + user.getUsername());
+            throw new ConflictException(ErrorCode.USERNAME_TAKEN, "Username already exists: " + user.getUsername());
         }
         
         // Check if email already exists
         if (userRepository.existsByEmail(user.getEmail())) {
-            throw new RuntimeException("Email already exists: " + user.getEmail());
+            throw new ConflictException(ErrorCode.EMAIL_TAKEN, "Email already exists: " + user.getEmail());
         }
         
         // Encode password
@@ -76,6 +90,9 @@ public class UserService {
         user.setIsActive(true);
         
         User savedUser = userRepository.save(user);
+        refreshAssignability(savedUser);
+        activityLog.record(ActivityType.USER_REGISTERED, "New user registered: " + savedUser.getUsername()
+                + " (" + savedUser.getRole() + ")", savedUser.getId(), null);
         logger.info("User created successfully with ID: {}", savedUser.getId());
         
         return savedUser;
@@ -89,7 +106,7 @@ public class UserService {
         
         Optional<User> existingUserOpt = userRepository.findById(user.getId());
         if (existingUserOpt.isEmpty()) {
-            throw new RuntimeException("User not found with ID: " + user.getId());
+            throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + user.getId());
         }
         
         User existingUser = existingUserOpt.get();
@@ -97,16 +114,17 @@ public class UserService {
         // Check username uniqueness (excluding current user)
         if (!existingUser.getUsername().equals(user.getUsername()) && 
             userRepository.existsByUsername(user.getUsername())) {
-            throw new RuntimeException("Username already exists: " + user.getUsername());
+            throw new ConflictException(ErrorCode.USERNAME_TAKEN, "Username already exists: " + user.getUsername());
         }
         
         // Check email uniqueness (excluding current user)
         if (!existingUser.getEmail().equals(user.getEmail()) && 
             userRepository.existsByEmail(user.getEmail())) {
-            throw new RuntimeException("Email already exists: " + user.getEmail());
+            throw new ConflictException(ErrorCode.EMAIL_TAKEN, "Email already exists: " + user.getEmail());
         }
         
         User savedUser = userRepository.save(user);
+        refreshAssignability(savedUser);
         logger.info("User updated successfully with ID: {}", savedUser.getId());
         
         return savedUser;
@@ -118,7 +136,7 @@ public class UserService {
     @Transactional(readOnly = true)
     public User getUserById(Long id) {
         Optional<User> userOpt = userRepository.findById(id);
-        return userOpt.orElseThrow(() -> new RuntimeException("User not found with ID: " + id));
+        return userOpt.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + id));
     }
     
     /**
@@ -204,9 +222,11 @@ public class UserService {
             User user = userOpt.get();
             user.setIsActive(false);
             userRepository.save(user);
+            refreshAssignability(user);
+            recordStatusToggle(user);
             logger.info("User deactivated successfully with ID: {}", userId);
         } else {
-            throw new RuntimeException("User not found with ID: " + userId);
+            throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + userId);
         }
     }
     
@@ -221,9 +241,11 @@ public class UserService {
             User user = userOpt.get();
             user.setIsActive(true);
             userRepository.save(user);
+            refreshAssignability(user);
+            recordStatusToggle(user);
             logger.info("User activated successfully with ID: {}", userId);
         } else {
-            throw new RuntimeException("User not found with ID: " + userId);
+            throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + userId);
         }
     }
     
@@ -234,10 +256,12 @@ public class UserService {
         logger.info("Deleting user with ID: {}", userId);
         
         if (!userRepository.existsById(userId)) {
-            throw new RuntimeException("User not found with ID: " + userId);
+            throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + userId);
         }
         
         userRepository.deleteById(userId);
+        TransactionHooks.afterCommit(() -> assignmentEngine.removeStaff(userId));
+        activityLog.record(ActivityType.USER_DELETED, "User #" + userId + " deleted", userId, null);
         logger.info("User deleted successfully with ID: {}", userId);
     }
     
@@ -254,7 +278,7 @@ public class UserService {
             userRepository.save(user);
             logger.info("Password changed successfully for user with ID: {}", userId);
         } else {
-            throw new RuntimeException("User not found with ID: " + userId);
+            throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + userId);
         }
     }
     
@@ -282,12 +306,12 @@ public class UserService {
         
         // Check if username already exists
         if (userRepository.existsByUsername(registerRequest.getUsername())) {
-            throw new RuntimeException("Username already exists: " + registerRequest.getUsername());
+            throw new ConflictException(ErrorCode.USERNAME_TAKEN, "Username already exists: " + registerRequest.getUsername());
         }
         
         // Check if email already exists
         if (userRepository.existsByEmail(registerRequest.getEmail())) {
-            throw new RuntimeException("Email already exists: " + registerRequest.getEmail());
+            throw new ConflictException(ErrorCode.EMAIL_TAKEN, "Email already exists: " + registerRequest.getEmail());
         }
         
         // Create user entity from request
@@ -305,7 +329,8 @@ public class UserService {
         logger.info("User registered successfully with ID: {}", savedUser.getId());
         
         // Generate JWT token
-        String jwt = tokenProvider.generateToken(savedUser.getUsername());
+        String jwt = tokenProvider.generateTokenFromUserId(savedUser.getId(), savedUser.getUsername(),
+            savedUser.getRole().name());
         
         return new AuthResponse(jwt, savedUser.getId(), savedUser.getUsername(), 
             savedUser.getEmail(), savedUser.getFullName(), savedUser.getRole(), savedUser.getIsActive());
@@ -317,44 +342,52 @@ public class UserService {
     public AuthResponse authenticateUser(LoginRequest loginRequest) {
         logger.info("Authenticating user: {}", loginRequest.getUsernameOrEmail());
         
+        // Failed logins are expected traffic: report them without stack traces
+        Authentication authentication;
+        PasswordCheckEvent passwordCheck = new PasswordCheckEvent();
+        passwordCheck.begin();
         try {
-            // Authenticate user
-            Authentication authentication = authenticationManager.authenticate(
+            authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                     loginRequest.getUsernameOrEmail(),
                     loginRequest.getPassword()
                 )
             );
-            
-            // Set authentication in security context
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            
-            // Find user by username or email
-            Optional<User> userOpt = userRepository.findByUsername(loginRequest.getUsernameOrEmail())
-                    .or(() -> userRepository.findByEmail(loginRequest.getUsernameOrEmail()));
-            if (userOpt.isEmpty()) {
-                throw new RuntimeException("User not found");
-            }
-            
-            User user = userOpt.get();
-            
-            // Check if user is active
-            if (!user.getIsActive()) {
-                throw new RuntimeException("User account is deactivated");
-            }
-            
-            // Generate JWT token
-            String jwt = tokenProvider.generateToken(user.getUsername());
-            
-            logger.info("User authenticated successfully: {}", user.getUsername());
-            
-            return new AuthResponse(jwt, user.getId(), user.getUsername(), 
-                user.getEmail(), user.getFullName(), user.getRole(), user.getIsActive());
-            
-        } catch (Exception e) {
-            logger.error("Authentication failed for user: {}", loginRequest.getUsernameOrEmail(), e);
-            throw new RuntimeException("Invalid username or password");
+            passwordCheck.setSuccess(true);
+        } catch (AuthenticationException e) {
+            logger.info("Authentication failed for user {}: {}", loginRequest.getUsernameOrEmail(), e.getMessage());
+            throw new AuthenticationFailedException("Invalid username or password");
+        } finally {
+            passwordCheck.setLogin(loginRequest.getUsernameOrEmail());
+            passwordCheck.commit();
+        }
+        
+        // Set authentication in security context
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        
+        // Find user by username or email
+        Optional<User> userOpt = userRepository.findByUsername(loginRequest.getUsernameOrEmail())
+                .or(() -> userRepository.findByEmail(loginRequest.getUsernameOrEmail()));
+        if (userOpt.isEmpty()) {
+            logger.info("Authentication failed for user {}: user not found", loginRequest.getUsernameOrEmail());
+            throw new AuthenticationFailedException("Invalid username or password");
+        }
+        
+        User user = userOpt.get();
+        
+        // Check if user is active
+        if (!user.getIsActive()) {
+            logger.info("Authentication failed for user {}: account is deactivated", user.getUsername());
+            throw new AuthenticationFailedException("Invalid username or password");
         }
+        
+        // Generate JWT token
+        String jwt = tokenProvider.generateTokenFromUserId(user.getId(), user.getUsername(), user.getRole().name());
+        
+        logger.info("User authenticated successfully: {}", user.getUsername());
+        
+        return new AuthResponse(jwt, user.getId(), user.getUsername(), 
+            user.getEmail(), user.getFullName(), user.getRole(), user.getIsActive());
     }
 
     /**
@@ -363,7 +396,7 @@ public class UserService {
     public User findByUsername(String username) {
         Optional<User> userOpt = userRepository.findByUsername(username);
         if (userOpt.isEmpty()) {
-            throw new RuntimeException("User not found with username: " + username);
+            throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, "User not found with username: " + username);
         }
         return userOpt.get();
     }
@@ -378,6 +411,14 @@ public class UserService {
         return userRepository.findAll(pageable);
     }
 
+    /**
+     * Get a page of users selecting only the given response fields (for AdminController)
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllUserFields(List<String> fields, Pageable pageable) {
+        return userRepository.findAllFields(fields, pageable);
+    }
+
     /**
      * Update user with map of updates (for AdminController)
      */
@@ -387,7 +428,7 @@ public class UserService {
         if (updates.containsKey("username")) {
             String newUsername = (String) updates.get("username");
             if (!user.getUsername().equals(newUsername) && userRepository.existsByUsername(newUsername)) {
-                throw new RuntimeException("Username already exists: " + newUsername);
+                throw new ConflictException(ErrorCode.USERNAME_TAKEN, "Username already exists: " + newUsername);
             }
             user.setUsername(newUsername);
         }
@@ -404,7 +445,7 @@ public class UserService {
         if (updates.containsKey("email")) {
             String newEmail = (String) updates.get("email");
             if (!user.getEmail().equals(newEmail) && userRepository.existsByEmail(newEmail)) {
-                throw new RuntimeException("Email already exists: " + newEmail);
+                throw new ConflictException(ErrorCode.EMAIL_TAKEN, "Email already exists: " + newEmail);
             }
             user.setEmail(newEmail);
         }
@@ -417,7 +458,9 @@ public class UserService {
             // TODO: Set department if needed
         }
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        refreshAssignability(savedUser);
+        return savedUser;
     }
 
     /**
@@ -427,6 +470,8 @@ public class UserService {
         User user = getUserById(id);
         user.setIsActive(enabled);
         userRepository.save(user);
+        refreshAssignability(user);
+        recordStatusToggle(user);
     }
 
     /**
@@ -446,58 +491,46 @@ public class UserService {
     }
 
     /**
-     * Get recent activity (for AdminController)
-     */
-    @Transactional(readOnly = true)
-    public List<Map<String, Object>> getRecentActivity() {
-        List<Map<String, Object>> activities = new ArrayList<>();
-
-        // Mock recent activities - in real implementation, this would come from an activity log table
-        Map<String, Object> activity1 = new HashMap<>();
-        activity1.put("type", "USER_REGISTERED");
-        activity1.put("description", "New user registered");
-        activity1.put("timestamp", LocalDateTime.now().minusHours(2));
-        activities.add(activity1);
-
-        Map<String, Object> activity2 = new HashMap<>();
-        activity2.put("type", "COMPLAINT_CREATED");
-        activity2.put("description", "New complaint submitted");
-        activity2.put("timestamp", LocalDateTime.now().minusHours(4));
-        activities.add(activity2);
-
-        Map<String, Object> activity3 = new HashMap<>();
-        activity3.put("type", "COMPLAINT_RESOLVED");
-        activity3.put("description", "Complaint resolved");
-        activity3.put("timestamp", LocalDateTime.now().minusHours(6));
-        activities.add(activity3);
-
-        return activities;
-    }
-
-    /**
-     * Get user registration trends (for AdminController)
+     * Users created on each of the last seven days, oldest first (for AdminController)
      */
     @Transactional(readOnly = true)
     public Map<String, Object> getUserRegistrationTrends() {
-        Map<String, Object> trends = new HashMap<>();
-
-        // Mock data - in real implementation, this would aggregate from database
+        LocalDate today = LocalDate.now();
+        LocalDate firstDay = today.minusDays(6);
+        Map<LocalDate, Long> counts = new HashMap<>();
+        for (Object[] row : userRepository.countCreatedPerDaySince(firstDay.atStartOfDay())) {
+            counts.put((LocalDate) row[0], (Long) row[1]);
+        }
+        
         List<String> labels = new ArrayList<>();
         List<Long> data = new ArrayList<>();
-
-        LocalDateTime now = LocalDateTime.now();
-        for (int i = 6; i >= 0; i--) {
-            LocalDateTime date = now.minusDays(i);
+        for (LocalDate date = firstDay; !date.isAfter(today); date = date.plusDays(1)) {
             labels.add(date.format(DateTimeFormatter.ofPattern("MMM dd")));
-            data.add((long) (Math.random() * 10 + 1)); // Mock data
+            data.add(counts.getOrDefault(date, 0L));
         }
-
+        
+        Map<String, Object> trends = new HashMap<>();
         trends.put("labels", labels);
         trends.put("data", data);
-
         return trends;
     }
     
+    /**
+     * Record that an account was activated or deactivated
+     */
+    private void recordStatusToggle(User user) {
+        boolean active = Boolean.TRUE.equals(user.getIsActive());
+        activityLog.record(active ? ActivityType.USER_ACTIVATED : ActivityType.USER_DEACTIVATED,
+                "User " + user.getUsername() + (active ? " activated" : " deactivated"), user.getId(), null);
+    }
+    
+    /**
+     * Re-evaluate whether the user can receive auto-assigned complaints once the change commits
+     */
+    private void refreshAssignability(User user) {
+        TransactionHooks.afterCommit(() -> assignmentEngine.refreshStaff(user));
+    }
+    
     /**
      * Convert User entity to UserResponse DTO
      */
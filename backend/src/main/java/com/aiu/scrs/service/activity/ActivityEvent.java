@@ -0,0 +1,23 @@
+package com.aiu.scrs.service.activity;
+
+import com.aiu.scrs.entity.ActivityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Activity Event - One immutable entry of the activity stream
+ *
+ * @param sequence    position in the stream, assigned when the event is published
+ * @param type        kind of event
+ * @param description human-readable summary
+ * @param userId      acting user, may be null
+ * @param complaintId complaint concerned, may be null
+ * @param timestamp   when the operation happened
+ */
+public record ActivityEvent(long sequence, ActivityType type, String description, Long userId, Long complaintId,
+                            LocalDateTime timestamp) {
+
+    ActivityEvent withSequence(long sequence) {
+        return new ActivityEvent(sequence, type, description, userId, complaintId, timestamp);
+    }
+}
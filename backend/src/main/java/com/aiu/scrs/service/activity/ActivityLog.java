@@ -0,0 +1,73 @@
+package com.aiu.scrs.service.activity;
+
+import com.aiu.scrs.entity.ActivityLogEntry;
+import com.aiu.scrs.entity.ActivityType;
+import com.aiu.scrs.repository.ActivityLogRepository;
+import com.aiu.scrs.service.TransactionHooks;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Activity Log - Stream of domain events. Events are published to an in-memory ring buffer
+ * when the originating transaction commits, so rolled-back operations never appear and the
+ * transaction itself does no extra work. Recent events are served from the buffer; the
+ * {@link ActivityLogWriter} copies them to the activity_log table in the background.
+ */
+@Service
+public class ActivityLog {
+    
+    private final ActivityRingBuffer buffer;
+    private final ActivityLogRepository activityLogRepository;
+    
+    @Autowired
+    public ActivityLog(ActivityLogRepository activityLogRepository,
+                       @Value("${scrs.activity.buffer-size:8192}") int bufferSize) {
+        this.activityLogRepository = activityLogRepository;
+        this.buffer = new ActivityRingBuffer(bufferSize);
+    }
+    
+    /**
+     * Record an event once the current transaction commits, or now when there is none
+     */
+    public void record(ActivityType type, String description, Long userId, Long complaintId) {
+        ActivityEvent event = new ActivityEvent(-1, type, description, userId, complaintId, LocalDateTime.now());
+        TransactionHooks.afterCommit(() -> buffer.publish(event));
+    }
+    
+    /**
+     * Most recent events, newest first, without touching the database
+     */
+    public List<ActivityEvent> getRecent(int limit) {
+        return buffer.latest(Math.max(1, Math.min(limit, buffer.capacity())));
+    }
+    
+    /**
+     * Persisted history, optionally of one type
+     */
+    @Transactional(readOnly = true)
+    public Page<ActivityLogEntry> getHistory(ActivityType type, Pageable pageable) {
+        return type != null ? activityLogRepository.findByType(type, pageable) : activityLogRepository.findAll(pageable);
+    }
+    
+    /**
+     * Number of events published since startup
+     */
+    public long getPublishedCount() {
+        return buffer.getNextSequence();
+    }
+    
+    public int getBufferCapacity() {
+        return buffer.capacity();
+    }
+    
+    ActivityRingBuffer.Drain drain(long fromSequence, int maxEvents) {
+        return buffer.drain(fromSequence, maxEvents);
+    }
+}
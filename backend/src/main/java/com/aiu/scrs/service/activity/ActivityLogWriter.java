@@ -0,0 +1,119 @@
+package com.aiu.scrs.service.activity;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Activity Log Writer - Appends activity events to the activity_log table from a single
+ * background thread. Each run drains the ring buffer from where the last run stopped and
+ * inserts in JDBC batches, one transaction per batch. A failed batch is retried on the next
+ * run; events the buffer overwrites before they are written are counted as lost.
+ */
+@Component
+public class ActivityLogWriter {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ActivityLogWriter.class);
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO activity_log (stream_sequence, type, description, user_id, complaint_id, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+    
+    private final ActivityLog activityLog;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final ScheduledExecutorService executor;
+    
+    /**
+     * Only touched by the writer thread, and by the final flush after it has stopped
+     */
+    private long nextSequence;
+    private volatile long persistedCount;
+    private volatile long lostCount;
+    
+    @Autowired
+    public ActivityLogWriter(ActivityLog activityLog, JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${scrs.activity.batch-size:500}") int batchSize,
+                             @Value("${scrs.activity.flush-interval-ms:500}") long flushIntervalMs) {
+        this.activityLog = activityLog;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "activity-log-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Write everything published so far
+     */
+    void flush() {
+        try {
+            while (true) {
+                ActivityRingBuffer.Drain drain = activityLog.drain(nextSequence, batchSize);
+                if (!drain.events().isEmpty()) {
+                    insert(drain.events());
+                    persistedCount += drain.events().size();
+                }
+                if (drain.lost() > 0) {
+                    lostCount += drain.lost();
+                    logger.warn("Activity buffer overwrote {} events before they were persisted", drain.lost());
+                }
+                nextSequence = drain.nextSequence();
+                if (drain.events().size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Persisting activity events failed, retrying on the next run: {}", e.getMessage());
+        }
+    }
+    
+    private void insert(List<ActivityEvent> events) {
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+                ps.setLong(1, event.sequence());
+                ps.setString(2, event.type().name());
+                ps.setString(3, event.description());
+                ps.setObject(4, event.userId(), Types.BIGINT);
+                ps.setObject(5, event.complaintId(), Types.BIGINT);
+                ps.setTimestamp(6, Timestamp.valueOf(event.timestamp()));
+            }));
+    }
+    
+    public long getPersistedCount() {
+        return persistedCount;
+    }
+    
+    public long getLostCount() {
+        return lostCount;
+    }
+    
+    /**
+     * Stop the background thread and write what is still buffered
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+    }
+}
@@ -0,0 +1,105 @@
+package com.aiu.scrs.service.activity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Activity Ring Buffer - Fixed-size, lock-free buffer of the latest activity events.
+ * Publishers claim a sequence with one atomic increment and store the event in its slot;
+ * nothing blocks and the oldest events are overwritten. Readers check each slot's sequence,
+ * so they skip slots that are not yet published or already reused instead of returning
+ * the wrong event.
+ */
+public class ActivityRingBuffer {
+
+    private final AtomicReferenceArray<ActivityEvent> slots;
+    private final int mask;
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    /**
+     * Capacity is rounded up to a power of two
+     */
+    public ActivityRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Store the event under the next sequence and return the stored event
+     */
+    public ActivityEvent publish(ActivityEvent event) {
+        long sequence = nextSequence.getAndIncrement();
+        ActivityEvent published = event.withSequence(sequence);
+        slots.setRelease(index(sequence), published);
+        return published;
+    }
+
+    /**
+     * Up to limit of the most recent events, newest first
+     */
+    public List<ActivityEvent> latest(int limit) {
+        long head = nextSequence.get();
+        long oldest = Math.max(0, head - capacity());
+        List<ActivityEvent> events = new ArrayList<>(Math.min(limit, capacity()));
+        for (long sequence = head - 1; sequence >= oldest && events.size() < limit; sequence--) {
+            ActivityEvent event = slots.getAcquire(index(sequence));
+            if (event != null && event.sequence() == sequence) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Events from the given sequence on, oldest first, stopping at the first slot that is
+     * claimed but not yet published. Events already overwritten are counted as lost.
+     */
+    public Drain drain(long fromSequence, int maxEvents) {
+        long head = nextSequence.get();
+        long sequence = fromSequence;
+        long lost = 0;
+        List<ActivityEvent> events = new ArrayList<>(Math.min(maxEvents, capacity()));
+        while (sequence < head && events.size() < maxEvents) {
+            ActivityEvent event = slots.getAcquire(index(sequence));
+            if (event != null && event.sequence() == sequence) {
+                events.add(event);
+            } else if ((event != null && event.sequence() > sequence) || head - sequence > capacity()) {
+                // Overwritten by a later lap before it was drained
+                lost++;
+            } else {
+                // Claimed but not yet stored; pick it up on the next drain
+                break;
+            }
+            sequence++;
+        }
+        return new Drain(events, sequence, lost);
+    }
+
+    /**
+     * Sequence the next published event will get; also the number of events published so far
+     */
+    public long getNextSequence() {
+        return nextSequence.get();
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask);
+    }
+
+    /**
+     * Result of a drain
+     *
+     * @param events       drained events, oldest first
+     * @param nextSequence sequence to continue from
+     * @param lost         events skipped because they were overwritten
+     */
+    public record Drain(List<ActivityEvent> events, long nextSequence, long lost) {
+    }
+}
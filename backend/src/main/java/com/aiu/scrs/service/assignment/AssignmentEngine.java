@@ -0,0 +1,296 @@
+package com.aiu.scrs.service.assignment;
+
+import com.aiu.scrs.entity.ComplaintStatus;
+import com.aiu.scrs.entity.ComplaintType;
+import com.aiu.scrs.entity.User;
+import com.aiu.scrs.entity.UserRole;
+import com.aiu.scrs.repository.ComplaintRepository;
+import com.aiu.scrs.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Assignment Engine - Keeps per-staff open workload counters in memory and picks
+ * assignees for new complaints. Counters are seeded from the database on startup and
+ * kept current by ComplaintService (assignments, status transitions, deletions) and
+ * UserService (staff activation, role or department changes).
+ */
+@Service
+public class AssignmentEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssignmentEngine.class);
+
+    /**
+     * Statuses that count towards a staff member's open workload
+     */
+    public static final Set<ComplaintStatus> OPEN_STATUSES = EnumSet.of(
+            ComplaintStatus.NEW, ComplaintStatus.ASSIGNED,
+            ComplaintStatus.IN_PROGRESS, ComplaintStatus.RESOLUTION_ANNOUNCED);
+
+    private static final Set<ComplaintStatus> RESOLVED_STATUSES = EnumSet.complementOf(EnumSet.copyOf(OPEN_STATUSES));
+
+    private final ComplaintRepository complaintRepository;
+    private final UserRepository userRepository;
+    private final Map<String, AssignmentStrategy> strategies;
+
+    private final Map<Long, DepartmentPool> pools = new ConcurrentHashMap<>();
+    private final Map<Long, StaffWorkload> workloads = new ConcurrentHashMap<>();
+
+    private volatile boolean autoAssignmentEnabled;
+    private volatile AssignmentStrategy strategy;
+
+    @Autowired
+    public AssignmentEngine(ComplaintRepository complaintRepository,
+                            UserRepository userRepository,
+                            List<AssignmentStrategy> strategies,
+                            @Value("${scrs.assignment.auto-enabled:true}") boolean autoAssignmentEnabled,
+                            @Value("${scrs.assignment.strategy:" + LeastLoadedStrategy.NAME + "}") String strategyName) {
+        this.complaintRepository = complaintRepository;
+        this.userRepository = userRepository;
+        this.strategies = strategies.stream()
+                .collect(Collectors.toUnmodifiableMap(AssignmentStrategy::getName, Function.identity()));
+        this.autoAssignmentEnabled = autoAssignmentEnabled;
+        this.strategy = resolveStrategy(strategyName);
+    }
+
+    /**
+     * Seed the pools and counters once the application is up
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Map<Long, Integer> openCounts = new HashMap<>();
+        for (Object[] row : complaintRepository.countAssignedByStatusIn(OPEN_STATUSES)) {
+            openCounts.put((Long) row[0], ((Long) row[1]).intValue());
+        }
+        Map<Long, Map<ComplaintType, Integer>> resolvedCounts = new HashMap<>();
+        for (Object[] row : complaintRepository.countAssignedByTypeAndStatusIn(RESOLVED_STATUSES)) {
+            resolvedCounts.computeIfAbsent((Long) row[0], id -> new HashMap<>())
+                    .put((ComplaintType) row[1], ((Long) row[2]).intValue());
+        }
+
+        int staffCount = 0;
+        for (User staff : userRepository.findByRoleAndIsActive(UserRole.STAFF, true)) {
+            if (staff.getDepartment() == null) {
+                continue;
+            }
+            StaffWorkload workload = new StaffWorkload(staff.getId(), staff.getDepartment().getId());
+            workload.setOpenComplaints(openCounts.getOrDefault(staff.getId(), 0));
+            resolvedCounts.getOrDefault(staff.getId(), Map.of()).forEach(workload::setResolvedCount);
+            addToPool(workload);
+            staffCount++;
+        }
+        logger.info("Assignment engine initialized with {} staff in {} departments using strategy {}",
+                staffCount, pools.size(), strategy.getName());
+    }
+
+    public boolean isAutoAssignmentEnabled() {
+        return autoAssignmentEnabled;
+    }
+
+    public void setAutoAssignmentEnabled(boolean autoAssignmentEnabled) {
+        logger.info("Auto-assignment {}", autoAssignmentEnabled ? "enabled" : "disabled");
+        this.autoAssignmentEnabled = autoAssignmentEnabled;
+    }
+
+    public String getStrategyName() {
+        return strategy.getName();
+    }
+
+    public List<String> getAvailableStrategies() {
+        return strategies.keySet().stream().sorted().collect(Collectors.toList());
+    }
+
+    public void setStrategy(String strategyName) {
+        this.strategy = resolveStrategy(strategyName);
+        logger.info("Assignment strategy set to {}", strategyName);
+    }
+
+    /**
+     * Pick a staff member of the department and count the complaint against them immediately,
+     * so concurrent submissions spread out. Callers must {@link #release} on rollback.
+     */
+    public Optional<Long> reserve(Long departmentId, ComplaintType type) {
+        DepartmentPool pool = pools.get(departmentId);
+        if (pool == null) {
+            return Optional.empty();
+        }
+        ReentrantLock lock = pool.lock();
+        lock.lock();
+        try {
+            StaffWorkload selected = strategy.select(pool, type);
+            if (selected == null) {
+                return Optional.empty();
+            }
+            pool.adjustOpen(selected, 1);
+            return Optional.of(selected.getStaffId());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Undo a reservation
+     */
+    public void release(Long staffId) {
+        adjust(staffId, -1, null);
+    }
+
+    /**
+     * Move an open complaint from one assignee to another
+     */
+    public void onAssigned(Long previousStaffId, Long newStaffId, ComplaintStatus status) {
+        if (!OPEN_STATUSES.contains(status) || (previousStaffId != null && previousStaffId.equals(newStaffId))) {
+            return;
+        }
+        if (previousStaffId != null) {
+            adjust(previousStaffId, -1, null);
+        }
+        if (newStaffId != null) {
+            adjust(newStaffId, 1, null);
+        }
+    }
+
+    /**
+     * Account for a status transition of an assigned complaint
+     */
+    public void onStatusChanged(Long staffId, ComplaintType type, ComplaintStatus from, ComplaintStatus to) {
+        if (staffId == null) {
+            return;
+        }
+        boolean wasOpen = from == null || OPEN_STATUSES.contains(from);
+        boolean isOpen = OPEN_STATUSES.contains(to);
+        if (wasOpen && !isOpen) {
+            adjust(staffId, -1, type);
+        } else if (!wasOpen && isOpen) {
+            adjust(staffId, 1, null);
+        }
+    }
+
+    /**
+     * Account for a deleted complaint
+     */
+    public void onComplaintRemoved(Long staffId, ComplaintStatus status) {
+        if (staffId != null && OPEN_STATUSES.contains(status)) {
+            adjust(staffId, -1, null);
+        }
+    }
+
+    /**
+     * Re-read a user's assignability after activation, role or department changes
+     */
+    public void refreshStaff(User user) {
+        removeStaff(user.getId());
+        if (user.getRole() != UserRole.STAFF || !Boolean.TRUE.equals(user.getIsActive()) || user.getDepartment() == null) {
+            return;
+        }
+        StaffWorkload workload = new StaffWorkload(user.getId(), user.getDepartment().getId());
+        workload.setOpenComplaints((int) complaintRepository.countByAssignedToIdAndStatusIn(user.getId(), OPEN_STATUSES));
+        for (Object[] row : complaintRepository.countByTypeForAssigneeAndStatusIn(user.getId(), RESOLVED_STATUSES)) {
+            workload.setResolvedCount((ComplaintType) row[0], ((Long) row[1]).intValue());
+        }
+        addToPool(workload);
+    }
+
+    /**
+     * Stop assigning complaints to a user
+     */
+    public void removeStaff(Long staffId) {
+        StaffWorkload workload = workloads.remove(staffId);
+        if (workload == null) {
+            return;
+        }
+        DepartmentPool pool = pools.get(workload.getDepartmentId());
+        if (pool != null) {
+            pool.lock().lock();
+            try {
+                pool.remove(workload);
+            } finally {
+                pool.lock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Current workload per department, least-loaded first
+     */
+    public Map<Long, List<Map<String, Object>>> getWorkloadSnapshot() {
+        Map<Long, List<Map<String, Object>>> snapshot = new LinkedHashMap<>();
+        for (DepartmentPool pool : pools.values()) {
+            List<StaffWorkload> members;
+            pool.lock().lock();
+            try {
+                members = pool.snapshot();
+            } finally {
+                pool.lock().unlock();
+            }
+            List<Map<String, Object>> entries = new ArrayList<>();
+            for (StaffWorkload member : members) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("staffId", member.getStaffId());
+                entry.put("openComplaints", member.getOpenComplaints());
+                entries.add(entry);
+            }
+            snapshot.put(pool.getDepartmentId(), entries);
+        }
+        return snapshot;
+    }
+
+    private void addToPool(StaffWorkload workload) {
+        DepartmentPool pool = pools.computeIfAbsent(workload.getDepartmentId(), DepartmentPool::new);
+        pool.lock().lock();
+        try {
+            pool.add(workload);
+            workloads.put(workload.getStaffId(), workload);
+        } finally {
+            pool.lock().unlock();
+        }
+    }
+
+    private void adjust(Long staffId, int delta, ComplaintType resolvedType) {
+        StaffWorkload workload = workloads.get(staffId);
+        if (workload == null) {
+            return;
+        }
+        DepartmentPool pool = pools.get(workload.getDepartmentId());
+        pool.lock().lock();
+        try {
+            // The staff member may have been removed while we were waiting for the lock
+            if (workloads.get(staffId) != workload) {
+                return;
+            }
+            pool.adjustOpen(workload, delta);
+            if (resolvedType != null) {
+                pool.recordResolved(workload, resolvedType);
+            }
+        } finally {
+            pool.lock().unlock();
+        }
+    }
+
+    private AssignmentStrategy resolveStrategy(String strategyName) {
+        AssignmentStrategy resolved = strategies.get(strategyName);
+        if (resolved == null) {
+            throw new IllegalArgumentException("Unknown assignment strategy: " + strategyName
+                    + ". Available: " + getAvailableStrategies());
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,20 @@
+package com.aiu.scrs.service.assignment;
+
+import com.aiu.scrs.entity.ComplaintType;
+
+/**
+ * Assignment Strategy - Picks a staff member from a department pool.
+ * Called while the pool lock is held; implementations must not block.
+ */
+public interface AssignmentStrategy {
+
+    /**
+     * Strategy name used in configuration and admin settings
+     */
+    String getName();
+
+    /**
+     * Select a staff member for a complaint of the given type, or null if the pool is empty
+     */
+    StaffWorkload select(DepartmentPool pool, ComplaintType type);
+}
@@ -0,0 +1,96 @@
+package com.aiu.scrs.service.assignment;
+
+import com.aiu.scrs.entity.ComplaintType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Department Pool - Active staff of one department, indexed by open workload.
+ * The load-ordered set keeps the least-loaded member at its head, so picking and
+ * re-ranking a member are O(log n). All access goes through {@link #lock()}.
+ */
+public class DepartmentPool {
+
+    private static final Comparator<StaffWorkload> BY_LOAD = Comparator
+            .comparingInt(StaffWorkload::getOpenComplaints)
+            .thenComparing(StaffWorkload::getStaffId);
+
+    private final Long departmentId;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TreeSet<StaffWorkload> byLoad = new TreeSet<>(BY_LOAD);
+    private final List<StaffWorkload> members = new ArrayList<>();
+    private int roundRobinCursor;
+
+    public DepartmentPool(Long departmentId) {
+        this.departmentId = departmentId;
+    }
+
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+
+    ReentrantLock lock() {
+        return lock;
+    }
+
+    public boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    /**
+     * Least-loaded member, ties broken by lowest staff ID
+     */
+    public StaffWorkload leastLoaded() {
+        return byLoad.isEmpty() ? null : byLoad.first();
+    }
+
+    /**
+     * Next member in round-robin order
+     */
+    public StaffWorkload nextInRotation() {
+        if (members.isEmpty()) {
+            return null;
+        }
+        roundRobinCursor = (roundRobinCursor + 1) % members.size();
+        return members.get(roundRobinCursor);
+    }
+
+    /**
+     * Members in insertion order, for strategies that score every candidate
+     */
+    public List<StaffWorkload> members() {
+        return members;
+    }
+
+    void add(StaffWorkload workload) {
+        members.add(workload);
+        byLoad.add(workload);
+    }
+
+    void remove(StaffWorkload workload) {
+        members.remove(workload);
+        byLoad.remove(workload);
+    }
+
+    void adjustOpen(StaffWorkload workload, int delta) {
+        byLoad.remove(workload);
+        workload.setOpenComplaints(workload.getOpenComplaints() + delta);
+        byLoad.add(workload);
+    }
+
+    void recordResolved(StaffWorkload workload, ComplaintType type) {
+        workload.setResolvedCount(type, workload.getResolvedCount(type) + 1);
+    }
+
+    List<StaffWorkload> snapshot() {
+        return new ArrayList<>(byLoad);
+    }
+}
@@ -0,0 +1,23 @@
+package com.aiu.scrs.service.assignment;
+
+import com.aiu.scrs.entity.ComplaintType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Least-Loaded Strategy - Assigns to the staff member with the fewest open complaints, O(log n)
+ */
+@Component
+public class LeastLoadedStrategy implements AssignmentStrategy {
+
+    public static final String NAME = "least-loaded";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public StaffWorkload select(DepartmentPool pool, ComplaintType type) {
+        return pool.leastLoaded();
+    }
+}
@@ -0,0 +1,23 @@
+package com.aiu.scrs.service.assignment;
+
+import com.aiu.scrs.entity.ComplaintType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Round-Robin Strategy - Rotates through the department staff regardless of workload, O(1)
+ */
+@Component
+public class RoundRobinStrategy implements AssignmentStrategy {
+
+    public static final String NAME = "round-robin";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public StaffWorkload select(DepartmentPool pool, ComplaintType type) {
+        return pool.nextInRotation();
+    }
+}
@@ -0,0 +1,35 @@
+package com.aiu.scrs.service.assignment;
+
+import com.aiu.scrs.entity.ComplaintType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Skill-Weighted Strategy - Prefers staff who have resolved many complaints of the same type,
+ * discounted by their current workload. The score depends on the complaint type, so the
+ * pool is scanned linearly, O(n) in the department size.
+ */
+@Component
+public class SkillWeightedStrategy implements AssignmentStrategy {
+
+    public static final String NAME = "skill-weighted";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public StaffWorkload select(DepartmentPool pool, ComplaintType type) {
+        StaffWorkload best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (StaffWorkload candidate : pool.members()) {
+            // Lower is better: open load per unit of experience with this complaint type
+            double score = (candidate.getOpenComplaints() + 1.0) / (1.0 + Math.log1p(candidate.getResolvedCount(type)));
+            if (score < bestScore || (score == bestScore && candidate.getStaffId() < best.getStaffId())) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+}
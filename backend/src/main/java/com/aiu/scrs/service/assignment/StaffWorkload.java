@@ -0,0 +1,56 @@
+package com.aiu.scrs.service.assignment;
+
+import com.aiu.scrs.entity.ComplaintType;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Staff Workload - In-memory counters for one staff member.
+ * Mutated only while holding the lock of the owning {@link DepartmentPool}.
+ */
+public class StaffWorkload {
+
+    private final Long staffId;
+    private final Long departmentId;
+    private int openComplaints;
+    private final Map<ComplaintType, Integer> resolvedByType = new EnumMap<>(ComplaintType.class);
+
+    public StaffWorkload(Long staffId, Long departmentId) {
+        this.staffId = staffId;
+        this.departmentId = departmentId;
+    }
+
+    public Long getStaffId() {
+        return staffId;
+    }
+
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+
+    public int getOpenComplaints() {
+        return openComplaints;
+    }
+
+    void setOpenComplaints(int openComplaints) {
+        this.openComplaints = Math.max(0, openComplaints);
+    }
+
+    public int getResolvedCount(ComplaintType type) {
+        return resolvedByType.getOrDefault(type, 0);
+    }
+
+    void setResolvedCount(ComplaintType type, int count) {
+        resolvedByType.put(type, count);
+    }
+
+    @Override
+    public String toString() {
+        return "StaffWorkload{" +
+                "staffId=" + staffId +
+                ", departmentId=" + departmentId +
+                ", openComplaints=" + openComplaints +
+                '}';
+    }
+}
@@ -0,0 +1,52 @@
+package com.aiu.scrs.service.coalescing;
+
+import com.aiu.scrs.monitoring.CoalescingMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read Coalescer - Registry of the named single-flight caches used by hot public read endpoints
+ */
+@Component
+public class ReadCoalescer {
+
+    private final long ttlMillis;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, SingleFlightCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    public ReadCoalescer(@Value("${scrs.read-coalescing.ttl-ms:500}") long ttlMillis, MeterRegistry meterRegistry) {
+        this.ttlMillis = ttlMillis;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Cache registered under the name, created on first use with the configured TTL
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> SingleFlightCache<K, V> cache(String name) {
+        SingleFlightCache<?, ?> cache = caches.get(name);
+        if (cache == null) {
+            SingleFlightCache<?, ?> created = new SingleFlightCache<>(name, ttlMillis);
+            cache = caches.putIfAbsent(name, created);
+            if (cache == null) {
+                CoalescingMetrics.bind(meterRegistry, created);
+                cache = created;
+            }
+        }
+        return (SingleFlightCache<K, V>) cache;
+    }
+
+    /**
+     * Counters of every cache by name
+     */
+    public Map<String, Map<String, Object>> getStats() {
+        Map<String, Map<String, Object>> stats = new TreeMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.getStats()));
+        return stats;
+    }
+}
@@ -0,0 +1,126 @@
+package com.aiu.scrs.service.coalescing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-Flight Cache - Concurrent calls for the same key share one in-flight load, and the
+ * result is served from memory for a short time after it completes. Failed loads are not cached.
+ * Values are handed to every caller, so they must be treated as immutable.
+ */
+public class SingleFlightCache<K, V> {
+
+    private final String name;
+    private final long ttlNanos;
+    private final Map<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public SingleFlightCache(String name, long ttlMillis) {
+        this.name = name;
+        this.ttlNanos = Math.max(0, ttlMillis) * 1_000_000L;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Value for the key: joins a load already in flight, returns a fresh cached result, or runs
+     * the loader on the calling thread
+     */
+    public V get(K key, Supplier<V> loader) {
+        Flight<V> flight = flights.get(key);
+        if (flight != null && !flight.isStale(System.nanoTime())) {
+            return join(flight);
+        }
+
+        Flight<V> mine = new Flight<>();
+        Flight<V> current = flights.compute(key,
+                (k, existing) -> existing == null || existing.isStale(System.nanoTime()) ? mine : existing);
+        if (current != mine) {
+            return join(current);
+        }
+
+        executed.increment();
+        try {
+            V value = loader.get();
+            // Publish the expiry before completing so that waiters see it
+            mine.expiresAt = System.nanoTime() + ttlNanos;
+            mine.future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            failures.increment();
+            flights.remove(key, mine);
+            mine.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Counters since startup: executed loads, calls that joined a load in flight, and cache hits
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("executed", executed.sum());
+        stats.put("coalesced", coalesced.sum());
+        stats.put("cacheHits", cacheHits.sum());
+        stats.put("failures", failures.sum());
+        stats.put("ttlMillis", ttlNanos / 1_000_000L);
+        stats.put("keys", flights.size());
+        return stats;
+    }
+
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long getCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    private V join(Flight<V> flight) {
+        if (flight.future.isDone()) {
+            cacheHits.increment();
+        } else {
+            coalesced.increment();
+        }
+        try {
+            return flight.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Flight<V> {
+
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        volatile long expiresAt;
+
+        boolean isStale(long now) {
+            return future.isDone() && (future.isCompletedExceptionally() || now - expiresAt >= 0);
+        }
+    }
+}
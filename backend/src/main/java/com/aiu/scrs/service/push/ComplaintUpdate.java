@@ -0,0 +1,41 @@
+package com.aiu.scrs.service.push;
+
+import com.aiu.scrs.entity.ActivityType;
+import com.aiu.scrs.entity.Complaint;
+import com.aiu.scrs.entity.ComplaintStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Complaint Update - A committed change to a complaint, routed to the dashboards of its
+ * department and assignees
+ *
+ * @param type               what happened
+ * @param complaintId        complaint concerned
+ * @param status             status after the change, null when the complaint was deleted
+ * @param departmentId       target department, may be null
+ * @param assigneeId         assigned staff member after the change, may be null
+ * @param previousAssigneeId assigned staff member before a reassignment, otherwise null
+ * @param timestamp          when the change happened
+ */
+public record ComplaintUpdate(ActivityType type, Long complaintId, ComplaintStatus status, Long departmentId,
+                              Long assigneeId, Long previousAssigneeId, LocalDateTime timestamp) {
+
+    /**
+     * Update carrying the current status, department and assignee of a complaint
+     */
+    public static ComplaintUpdate of(ActivityType type, Complaint complaint) {
+        return new ComplaintUpdate(type, complaint.getId(), complaint.getStatus(),
+                complaint.getTargetDepartment() != null ? complaint.getTargetDepartment().getId() : null,
+                complaint.getAssignedTo() != null ? complaint.getAssignedTo().getId() : null,
+                null, LocalDateTime.now());
+    }
+
+    /**
+     * Whether the change can alter the complaint counts shown on the admin dashboard
+     */
+    public boolean affectsStats() {
+        return type != ActivityType.COMPLAINT_VOTED && type != ActivityType.COMPLAINT_VOTE_REMOVED
+                && type != ActivityType.COMPLAINT_COMMENTED;
+    }
+}
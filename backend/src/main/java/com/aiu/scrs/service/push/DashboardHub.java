@@ -0,0 +1,309 @@
+package com.aiu.scrs.service.push;
+
+import com.aiu.scrs.service.TransactionHooks;
+import com.aiu.scrs.util.Timestamps;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dashboard Hub - Pushes committed complaint changes to open dashboards over Server-Sent Events.
+ * Subscribers listen on channels (a department, an assignee, all complaints or the admin stats).
+ * Publishing only serializes the event once and offers it to each subscriber's bounded queue;
+ * each subscriber's queue is written to its connection by its own sender thread, so a slow client
+ * never holds up the publisher or other clients. A subscriber whose queue overflows is
+ * disconnected; its client reconnects and reloads instead of receiving a partial stream.
+ */
+@Component
+public class DashboardHub {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DashboardHub.class);
+    
+    /**
+     * Channel of every complaint change (admin dashboards)
+     */
+    public static final String ALL_COMPLAINTS = "complaints";
+    
+    /**
+     * Channel of complaint counts, refreshed by {@link DashboardStatsPublisher}
+     */
+    public static final String STATS = "stats";
+    
+    private final ObjectMapper objectMapper;
+    private final int queueCapacity;
+    private final long emitterTimeoutMs;
+    private final Map<String, Set<Subscriber>> channels = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final AtomicBoolean statsDirty = new AtomicBoolean(true);
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeat;
+    private final Counter slowConsumerDisconnects;
+    
+    @Autowired
+    public DashboardHub(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                        @Value("${scrs.push.queue-capacity:256}") int queueCapacity,
+                        @Value("${scrs.push.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                        @Value("${scrs.push.heartbeat-ms:15000}") long heartbeatMs) {
+        this.objectMapper = objectMapper;
+        this.queueCapacity = queueCapacity;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        Gauge.builder("scrs.push.subscribers", subscribers, Set::size)
+                .description("Open dashboard event streams")
+                .register(meterRegistry);
+        this.slowConsumerDisconnects = Counter.builder("scrs.push.slow.consumer.disconnects")
+                .description("Event streams closed because the client fell behind")
+                .register(meterRegistry);
+        // Platform threads: SseEmitter.send is synchronized, so a virtual thread blocked writing to a
+        // stalled client would pin its carrier and stall the senders of every other stream
+        AtomicLong senderIds = new AtomicLong();
+        this.senders = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-sender-" + senderIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+    
+    public static String department(Long departmentId) {
+        return "department:" + departmentId;
+    }
+    
+    public static String assignee(Long userId) {
+        return "assignee:" + userId;
+    }
+    
+    /**
+     * Open an event stream on the given channels. The first event, ready, lists the channels;
+     * clients reload their data on it, which also covers anything missed while reconnecting.
+     */
+    public SseEmitter subscribe(Collection<String> channelNames) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, Set.copyOf(channelNames));
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(error -> unregister(subscriber));
+        
+        subscribers.add(subscriber);
+        for (String channel : subscriber.channels) {
+            channels.computeIfAbsent(channel, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+        if (subscriber.channels.contains(STATS)) {
+            statsDirty.set(true);
+        }
+        subscriber.offer(frame("ready", Map.of("channels", subscriber.channels)));
+        return emitter;
+    }
+    
+    /**
+     * Push the update once the current transaction commits, or now when there is none
+     */
+    public void complaintChanged(ComplaintUpdate update) {
+        TransactionHooks.afterCommit(() -> publish(update));
+    }
+    
+    /**
+     * Send an event to every subscriber of the channel
+     */
+    public void broadcast(String channel, String eventName, Object data) {
+        Set<Subscriber> targets = channels.get(channel);
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        Frame frame = frame(eventName, data);
+        for (Subscriber subscriber : targets) {
+            subscriber.offer(frame);
+        }
+    }
+    
+    public boolean hasSubscribers(String channel) {
+        Set<Subscriber> targets = channels.get(channel);
+        return targets != null && !targets.isEmpty();
+    }
+    
+    /**
+     * Whether complaint counts may have changed since the last call
+     */
+    public boolean takeStatsDirty() {
+        return statsDirty.getAndSet(false);
+    }
+    
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+    
+    private void publish(ComplaintUpdate update) {
+        if (update.affectsStats()) {
+            statsDirty.set(true);
+        }
+        Set<Subscriber> targets = new LinkedHashSet<>();
+        addTargets(targets, ALL_COMPLAINTS);
+        if (update.departmentId() != null) {
+            addTargets(targets, department(update.departmentId()));
+        }
+        if (update.assigneeId() != null) {
+            addTargets(targets, assignee(update.assigneeId()));
+        }
+        if (update.previousAssigneeId() != null) {
+            addTargets(targets, assignee(update.previousAssigneeId()));
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+        
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("type", update.type());
+        data.put("complaintId", update.complaintId());
+        data.put("status", update.status());
+        data.put("departmentId", update.departmentId());
+        data.put("assigneeId", update.assigneeId());
+        data.put("previousAssigneeId", update.previousAssigneeId());
+        data.put("timestamp", Timestamps.format(update.timestamp()));
+        Frame frame = frame("complaint", data);
+        for (Subscriber subscriber : targets) {
+            subscriber.offer(frame);
+        }
+    }
+    
+    private void addTargets(Set<Subscriber> targets, String channel) {
+        Set<Subscriber> channelSubscribers = channels.get(channel);
+        if (channelSubscribers != null) {
+            targets.addAll(channelSubscribers);
+        }
+    }
+    
+    private Frame frame(String eventName, Object data) {
+        try {
+            return new Frame(eventIds.incrementAndGet(), eventName, objectMapper.writeValueAsString(data));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Dashboard event is not serializable", e);
+        }
+    }
+    
+    private void sendHeartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(Frame.HEARTBEAT);
+        }
+    }
+    
+    private void unregister(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscriber.queue.clear();
+        subscribers.remove(subscriber);
+        for (String channel : subscriber.channels) {
+            Set<Subscriber> channelSubscribers = channels.get(channel);
+            if (channelSubscribers != null) {
+                channelSubscribers.remove(subscriber);
+            }
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        for (Subscriber subscriber : List.copyOf(subscribers)) {
+            unregister(subscriber);
+            subscriber.emitter.complete();
+        }
+        senders.shutdown();
+    }
+    
+    /**
+     * One serialized event; a null name marks a heartbeat comment
+     */
+    private record Frame(long id, String name, String json) {
+        
+        static final Frame HEARTBEAT = new Frame(0, null, null);
+        
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().id(Long.toString(id)).name(name).data(json);
+        }
+    }
+    
+    /**
+     * One open stream with its bounded queue. At most one sender drains the queue at a time.
+     */
+    private final class Subscriber {
+        
+        final SseEmitter emitter;
+        final Set<String> channels;
+        final BlockingQueue<Frame> queue = new ArrayBlockingQueue<>(queueCapacity);
+        final AtomicBoolean sending = new AtomicBoolean();
+        volatile boolean closed;
+        
+        Subscriber(SseEmitter emitter, Set<String> channels) {
+            this.emitter = emitter;
+            this.channels = channels;
+        }
+        
+        void offer(Frame frame) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(frame)) {
+                disconnectSlowConsumer();
+                return;
+            }
+            if (sending.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+        
+        private void drain() {
+            try {
+                do {
+                    Frame frame;
+                    while (!closed && (frame = queue.poll()) != null) {
+                        emitter.send(frame.toEvent());
+                    }
+                    sending.set(false);
+                } while (!closed && !queue.isEmpty() && sending.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the stream already ended
+                unregister(this);
+            }
+        }
+        
+        private void disconnectSlowConsumer() {
+            unregister(this);
+            slowConsumerDisconnects.increment();
+            logger.debug("Closing dashboard event stream on {}: client fell {} events behind", channels, queueCapacity);
+            // Completing waits for a send in progress, so do not block the publisher on it
+            senders.execute(emitter::complete);
+        }
+    }
+}
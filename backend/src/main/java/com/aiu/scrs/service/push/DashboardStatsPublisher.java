@@ -0,0 +1,58 @@
+package com.aiu.scrs.service.push;
+
+import com.aiu.scrs.service.ComplaintService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dashboard Stats Publisher - Recomputes complaint counts at most once per interval, and only
+ * when a change may have affected them and an admin dashboard is listening, then pushes them
+ * on the stats channel. Many open dashboards cost one stats query per interval instead of one
+ * per dashboard refresh.
+ */
+@Component
+public class DashboardStatsPublisher {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DashboardStatsPublisher.class);
+    
+    private final ComplaintService complaintService;
+    private final DashboardHub dashboardHub;
+    private final ScheduledExecutorService executor;
+    
+    @Autowired
+    public DashboardStatsPublisher(ComplaintService complaintService, DashboardHub dashboardHub,
+                                   @Value("${scrs.push.stats-interval-ms:2000}") long intervalMs) {
+        this.complaintService = complaintService;
+        this.dashboardHub = dashboardHub;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-stats");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::publish, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+    
+    void publish() {
+        if (!dashboardHub.hasSubscribers(DashboardHub.STATS) || !dashboardHub.takeStatsDirty()) {
+            return;
+        }
+        try {
+            dashboardHub.broadcast(DashboardHub.STATS, "stats", complaintService.getComplaintStats());
+        } catch (RuntimeException e) {
+            logger.warn("Publishing dashboard stats failed: {}", e.getMessage());
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
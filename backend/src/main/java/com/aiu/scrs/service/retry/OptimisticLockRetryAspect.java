@@ -0,0 +1,79 @@
+package com.aiu.scrs.service.retry;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Optimistic Lock Retry Aspect - Retries {@link RetryOnOptimisticLock} methods with capped
+ * exponential backoff and full jitter. Ordered ahead of the transaction interceptor so that
+ * every attempt runs in its own transaction and re-reads the current version.
+ */
+@Aspect
+@Component
+@Order(OptimisticLockRetryAspect.ORDER)
+public class OptimisticLockRetryAspect {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticLockRetryAspect.class);
+
+    /**
+     * Just outside the transaction interceptor, which Spring Boot registers with the lowest precedence
+     */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+
+    public OptimisticLockRetryAspect(@Value("${scrs.optimistic-retry.max-attempts:10}") int maxAttempts,
+                                     @Value("${scrs.optimistic-retry.initial-backoff-ms:10}") long initialBackoffMs,
+                                     @Value("${scrs.optimistic-retry.max-backoff-ms:250}") long maxBackoffMs) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("scrs.optimistic-retry.max-attempts must be at least 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = Math.max(1, initialBackoffMs);
+        this.maxBackoffMs = Math.max(this.initialBackoffMs, maxBackoffMs);
+    }
+
+    @Around("@annotation(com.aiu.scrs.service.retry.RetryOnOptimisticLock)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        // Inside a caller's transaction the stale state belongs to the caller, so only it can retry
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    logger.warn("{} still conflicting after {} attempts", joinPoint.getSignature().toShortString(), attempt);
+                    throw e;
+                }
+                long backoff = backoff(attempt);
+                logger.debug("{} lost an optimistic lock race (attempt {}), retrying in {} ms",
+                        joinPoint.getSignature().toShortString(), attempt, backoff);
+                Thread.sleep(backoff);
+            }
+        }
+    }
+
+    /**
+     * Random delay between 0 and the capped exponential backoff for the attempt
+     */
+    private long backoff(int attempt) {
+        long cap = initialBackoffMs << Math.min(attempt - 1, 20);
+        return ThreadLocalRandom.current().nextLong(Math.min(cap, maxBackoffMs) + 1);
+    }
+}
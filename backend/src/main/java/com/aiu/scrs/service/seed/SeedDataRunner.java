@@ -0,0 +1,48 @@
+package com.aiu.scrs.service.seed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seed Data Runner - Generates the synthetic dataset at startup when {@code scrs.seed.enabled} is
+ * set (the seed profile). Runs before the application reports ready, so caches and workload
+ * counters built at that point already see the data. Skipped when complaints already exist.
+ */
+@Component
+@ConditionalOnProperty(name = "scrs.seed.enabled", havingValue = "true")
+public class SeedDataRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeedDataRunner.class);
+
+    private final SyntheticDataGenerator generator;
+    private final JdbcTemplate jdbcTemplate;
+    private final Environment environment;
+
+    @Autowired
+    public SeedDataRunner(SyntheticDataGenerator generator, JdbcTemplate jdbcTemplate, Environment environment) {
+        this.generator = generator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.environment = environment;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long complaints = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM complaints", Long.class);
+        if (complaints != null && complaints > 0) {
+            logger.warn("Database already has {} complaints; skipping synthetic data generation", complaints);
+            return;
+        }
+        SeedPlan plan = Binder.get(environment).bind("scrs.seed", SeedPlan.class).orElseGet(SeedPlan::new);
+        logger.info("Generating synthetic data: {} users, {} complaints, {} votes, {} comments",
+                plan.getUsers(), plan.getComplaints(), plan.getVotes(), plan.getComments());
+        generator.generate(plan);
+    }
+}
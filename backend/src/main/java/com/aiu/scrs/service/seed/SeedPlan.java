@@ -0,0 +1,174 @@
+package com.aiu.scrs.service.seed;
+
+/**
+ * Seed Plan - Volumes and skew of a synthetic dataset. The defaults approximate a full semester
+ * of a large university; bound from the {@code scrs.seed.*} properties by {@link SeedDataRunner}.
+ */
+public class SeedPlan {
+
+    private int departments = 12;
+    private int users = 50_000;
+    private double staffShare = 0.02;
+    private int admins = 5;
+    private int complaints = 500_000;
+    private long votes = 5_000_000;
+    private long comments = 1_000_000;
+
+    /**
+     * Length of the simulated semester, ending now
+     */
+    private int days = 120;
+
+    /**
+     * Zipf exponents: popularity of complaints for votes and comments, and size of departments
+     */
+    private double voteSkew = 1.0;
+    private double commentSkew = 0.8;
+    private double departmentSkew = 1.0;
+
+    /**
+     * Most votes a single complaint gets, as a share of all students
+     */
+    private double maxVoteShare = 0.1;
+
+    /**
+     * Share of complaints created around semester start, midterms and finals
+     */
+    private double burstShare = 0.5;
+
+    private int batchSize = 5_000;
+    private long randomSeed = 42;
+
+    /**
+     * Password of every seeded user, hashed once
+     */
+    private String password = "password123";
+
+    public int getDepartments() {
+        return departments;
+    }
+
+    public void setDepartments(int departments) {
+        this.departments = departments;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public void setUsers(int users) {
+        this.users = users;
+    }
+
+    public double getStaffShare() {
+        return staffShare;
+    }
+
+    public void setStaffShare(double staffShare) {
+        this.staffShare = staffShare;
+    }
+
+    public int getAdmins() {
+        return admins;
+    }
+
+    public void setAdmins(int admins) {
+        this.admins = admins;
+    }
+
+    public int getComplaints() {
+        return complaints;
+    }
+
+    public void setComplaints(int complaints) {
+        this.complaints = complaints;
+    }
+
+    public long getVotes() {
+        return votes;
+    }
+
+    public void setVotes(long votes) {
+        this.votes = votes;
+    }
+
+    public long getComments() {
+        return comments;
+    }
+
+    public void setComments(long comments) {
+        this.comments = comments;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public void setDays(int days) {
+        this.days = days;
+    }
+
+    public double getVoteSkew() {
+        return voteSkew;
+    }
+
+    public void setVoteSkew(double voteSkew) {
+        this.voteSkew = voteSkew;
+    }
+
+    public double getCommentSkew() {
+        return commentSkew;
+    }
+
+    public void setCommentSkew(double commentSkew) {
+        this.commentSkew = commentSkew;
+    }
+
+    public double getDepartmentSkew() {
+        return departmentSkew;
+    }
+
+    public void setDepartmentSkew(double departmentSkew) {
+        this.departmentSkew = departmentSkew;
+    }
+
+    public double getMaxVoteShare() {
+        return maxVoteShare;
+    }
+
+    public void setMaxVoteShare(double maxVoteShare) {
+        this.maxVoteShare = maxVoteShare;
+    }
+
+    public double getBurstShare() {
+        return burstShare;
+    }
+
+    public void setBurstShare(double burstShare) {
+        this.burstShare = burstShare;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
+    public void setRandomSeed(long randomSeed) {
+        this.randomSeed = randomSeed;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+}
@@ -0,0 +1,583 @@
+package com.aiu.scrs.service.seed;
+
+import com.aiu.scrs.entity.ComplaintStatus;
+import com.aiu.scrs.entity.ComplaintType;
+import com.aiu.scrs.entity.UserRole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Synthetic Data Generator - Fills the database with a large, realistically skewed dataset:
+ * departments of Zipf-distributed size, staff spread over them, complaints created in bursts
+ * around semester start, midterms and finals and during waking hours, statuses that advance with
+ * age, and votes and comments concentrated on a few popular complaints (Zipf). Rows are written
+ * with JDBC batch inserts, each batch in its own transaction. The same plan and random seed
+ * always produce the same data.
+ */
+@Service
+public class SyntheticDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final long DAY_SECONDS = TimeUnit.DAYS.toSeconds(1);
+
+    /**
+     * Status lifecycle in order; a complaint at stage s went through every earlier status
+     */
+    private static final ComplaintStatus[] STAGES = {
+            ComplaintStatus.NEW, ComplaintStatus.ASSIGNED, ComplaintStatus.IN_PROGRESS,
+            ComplaintStatus.RESOLUTION_ANNOUNCED, ComplaintStatus.CONFIRMED_BY_STUDENT, ComplaintStatus.CLOSED
+    };
+    private static final double STAGE_MEAN_DAYS = 2.0;
+    private static final double STALL_PROBABILITY = 0.2;
+
+    /**
+     * Burst centers as fractions of the semester (start, midterms, finals) and their spread
+     */
+    private static final double[] BURST_CENTERS = {0.04, 0.45, 0.9};
+    private static final double BURST_SPREAD_DAYS = 2.0;
+
+    /**
+     * Relative complaint volume per hour of day
+     */
+    private static final double[] HOURLY_CUMULATIVE = cumulative(new double[] {
+            1, 0.5, 0.3, 0.2, 0.2, 0.3, 1, 3, 6, 8, 9, 10, 9, 8, 8, 9, 9, 8, 8, 9, 10, 9, 6, 3});
+
+    private static final double VOTE_MEAN_DAYS = 2.0;
+    private static final double COMMENT_MEAN_DAYS = 3.0;
+    private static final double STAFF_COMMENT_SHARE = 0.35;
+    private static final double INTERNAL_COMMENT_SHARE = 0.3;
+
+    private static final String[] DEPARTMENT_NAMES = {
+            "Facilities", "IT Services", "Dormitory", "Academic Affairs", "Library", "Cafeteria",
+            "Registrar", "Computer Science", "Security", "Student Affairs", "Sports Center", "Transport"
+    };
+    private static final ComplaintType[] DEPARTMENT_TYPES = {
+            ComplaintType.FACILITY, ComplaintType.FACILITY, ComplaintType.FACILITY, ComplaintType.ACADEMIC,
+            ComplaintType.FACILITY, ComplaintType.FACILITY, ComplaintType.ACADEMIC, ComplaintType.ACADEMIC,
+            ComplaintType.FACILITY, ComplaintType.ACADEMIC, ComplaintType.FACILITY, ComplaintType.FACILITY
+    };
+
+    private static final String[] FACILITY_TITLES = {
+            "Air conditioner not working in room %d", "Broken chair in classroom %d",
+            "No hot water on floor %d of the dormitory", "Wi-Fi keeps dropping in block %d",
+            "Leaking ceiling in corridor %d", "Projector broken in lab %d", "Elevator %d out of service"
+    };
+    private static final String[] ACADEMIC_TITLES = {
+            "Grade for exam %d not published", "Schedule conflict for course CS%d",
+            "Attendance missing for lecture %d", "Registration error for section %d",
+            "Course %d does not follow the syllabus"
+    };
+    private static final String[] DESCRIPTIONS = {
+            "This has been going on for more than a week and affects the whole group. Please look into it.",
+            "Reported this to the front desk twice already but nothing has changed.",
+            "Several students are affected. We would appreciate a quick response.",
+            "The problem started after the last maintenance and happens every day in the afternoon."
+    };
+    private static final String[] COMMENTS = {
+            "Same problem here.", "Any update on this?", "We are looking into it.",
+            "A technician has been scheduled.", "Still not fixed as of today.", "Thanks, it works now.",
+            "Please provide the exact room number.", "This affects our exam preparation."
+    };
+    private static final String[] FIRST_NAMES = {
+            "Aibek", "Aigerim", "Nurlan", "Bakyt", "Aizada", "Timur", "Elnura", "Daniyar", "Saltanat", "Ermek",
+            "Asel", "Bektur", "Meerim", "Kanat", "Dinara", "Azamat", "Cholpon", "Ruslan", "Zarina", "Islam"
+    };
+    private static final String[] LAST_NAMES = {
+            "Abdyldaev", "Toktogulova", "Sydykov", "Mamatova", "Bekov", "Asanova", "Omurbekov", "Isakova",
+            "Kadyrov", "Nurlanova", "Alymkulov", "Dzhumabaeva", "Usenov", "Sultanova", "Kasymov"
+    };
+
+    private static final String INSERT_DEPARTMENT_SQL =
+            "INSERT INTO departments (name, description, is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+    private static final int[] DEPARTMENT_TYPES_SQL = {Types.VARCHAR, Types.VARCHAR, Types.BOOLEAN, Types.TIMESTAMP, Types.TIMESTAMP};
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (username, email, password, first_name, last_name, role, department_id, " +
+            "is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] USER_TYPES = {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.BIGINT, Types.BOOLEAN, Types.TIMESTAMP, Types.TIMESTAMP};
+
+    private static final String INSERT_COMPLAINT_SQL =
+            "INSERT INTO complaints (title, description, type, status, created_by, target_department_id, " +
+            "assigned_to, total_votes, student_confirmation, resolution_announced_at, confirmed_by_student_at, " +
+            "created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final int[] COMPLAINT_TYPES = {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BIGINT,
+            Types.BIGINT, Types.BIGINT, Types.INTEGER, Types.BOOLEAN, Types.TIMESTAMP, Types.TIMESTAMP, Types.TIMESTAMP,
+            Types.TIMESTAMP};
+
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO complaint_status_history (complaint_id, status, comment, changed_by, created_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+    private static final int[] HISTORY_TYPES = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.BIGINT, Types.TIMESTAMP};
+
+    private static final String INSERT_VOTE_SQL =
+            "INSERT INTO complaint_votes (complaint_id, user_id, created_at) VALUES (?, ?, ?)";
+    private static final int[] VOTE_TYPES = {Types.BIGINT, Types.BIGINT, Types.TIMESTAMP};
+
+    private static final String INSERT_COMMENT_SQL =
+            "INSERT INTO complaint_comments (comment, complaint_id, user_id, is_internal, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final int[] COMMENT_TYPES = {Types.VARCHAR, Types.BIGINT, Types.BIGINT, Types.BOOLEAN, Types.TIMESTAMP,
+            Types.TIMESTAMP};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder,
+                                  PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Generate and insert the dataset of the plan. Returns the number of rows per table and the duration.
+     */
+    public Map<String, Object> generate(SeedPlan plan) {
+        if (plan.getDepartments() < 1 || plan.getDays() < 1 || plan.getBatchSize() < 1) {
+            throw new IllegalArgumentException("Seed plan needs at least one department, one day and a positive batch size");
+        }
+        if (plan.getUsers() < plan.getAdmins() + 2) {
+            throw new IllegalArgumentException("Seed plan needs room for at least one staff member and one student");
+        }
+        long started = System.nanoTime();
+        Map<String, Object> report = new Run(plan).execute();
+        report.put("durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        logger.info("Synthetic dataset generated: {}", report);
+        return report;
+    }
+
+    /**
+     * State of one generation: the random source and the in-memory model that later tables refer to
+     */
+    private final class Run {
+
+        private final SeedPlan plan;
+        private final SplittableRandom random;
+        private final long end;
+        private final long start;
+
+        private long[] departmentIds;
+        private ComplaintType[] departmentTypes;
+
+        private long[] userIds;
+        private int firstStudent;
+        private int students;
+        private int[][] staffByDepartment;
+
+        private long[] complaintIds;
+        private long[] createdAt;
+        private int[] department;
+        private int[] creator;
+        private int[] assignee;
+        private byte[] stage;
+        private long[] stageAt;
+        private int[] voteCount;
+        private int[] commentCount;
+
+        Run(SeedPlan plan) {
+            this.plan = plan;
+            this.random = new SplittableRandom(plan.getRandomSeed());
+            this.end = LocalDateTime.now().withNano(0).toEpochSecond(ZoneOffset.UTC);
+            this.start = end - plan.getDays() * DAY_SECONDS;
+        }
+
+        Map<String, Object> execute() {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("departments", timed("departments", this::insertDepartments));
+            report.put("users", timed("users", this::insertUsers));
+            planComplaints();
+            report.put("complaints", timed("complaints", this::insertComplaints));
+            report.put("statusHistory", timed("status history rows", this::insertStatusHistory));
+            report.put("votes", timed("votes", this::insertVotes));
+            report.put("comments", timed("comments", this::insertComments));
+            return report;
+        }
+
+        private long insertDepartments() {
+            int count = plan.getDepartments();
+            long maxId = maxId("departments");
+            departmentTypes = new ComplaintType[count];
+            BatchInserter inserter = new BatchInserter(INSERT_DEPARTMENT_SQL, DEPARTMENT_TYPES_SQL, plan.getBatchSize());
+            Timestamp createdAt = timestamp(start - 365 * DAY_SECONDS);
+            for (int i = 0; i < count; i++) {
+                String name = i < DEPARTMENT_NAMES.length ? DEPARTMENT_NAMES[i] : "Department " + (i + 1);
+                departmentTypes[i] = i < DEPARTMENT_TYPES.length ? DEPARTMENT_TYPES[i]
+                        : ComplaintType.values()[i % ComplaintType.values().length];
+                inserter.add(name, "Handles " + departmentTypes[i].name().toLowerCase() + " complaints",
+                        true, createdAt, createdAt);
+            }
+            long inserted = inserter.finish();
+            departmentIds = idsAfter("departments", maxId, count);
+            return inserted;
+        }
+
+        /**
+         * Admins first, then staff (at least one per department while there are enough), then students
+         */
+        private long insertUsers() {
+            int total = plan.getUsers();
+            int admins = plan.getAdmins();
+            int staff = (int) Math.max(Math.min(Math.round(total * plan.getStaffShare()), total - admins - 1), 1);
+            firstStudent = admins + staff;
+            students = total - firstStudent;
+
+            ZipfSampler departmentSampler = new ZipfSampler(departmentIds.length, plan.getDepartmentSkew());
+            int[] staffDepartment = new int[staff];
+            int[] staffPerDepartment = new int[departmentIds.length];
+            for (int i = 0; i < staff; i++) {
+                staffDepartment[i] = i < departmentIds.length ? i : departmentSampler.sample(random);
+                staffPerDepartment[staffDepartment[i]]++;
+            }
+            staffByDepartment = new int[departmentIds.length][];
+            for (int d = 0; d < departmentIds.length; d++) {
+                staffByDepartment[d] = new int[staffPerDepartment[d]];
+                staffPerDepartment[d] = 0;
+            }
+            for (int i = 0; i < staff; i++) {
+                int d = staffDepartment[i];
+                staffByDepartment[d][staffPerDepartment[d]++] = admins + i;
+            }
+
+            String password = passwordEncoder.encode(plan.getPassword());
+            long maxId = maxId("users");
+            BatchInserter inserter = new BatchInserter(INSERT_USER_SQL, USER_TYPES, plan.getBatchSize());
+            for (int i = 0; i < total; i++) {
+                UserRole role;
+                String username;
+                Long departmentId = null;
+                if (i < admins) {
+                    role = UserRole.ADMIN;
+                    username = String.format("admin%03d", i + 1);
+                } else if (i < firstStudent) {
+                    role = UserRole.STAFF;
+                    username = String.format("staff%05d", i - admins + 1);
+                    departmentId = departmentIds[staffDepartment[i - admins]];
+                } else {
+                    role = UserRole.STUDENT;
+                    username = String.format("student%06d", i - firstStudent + 1);
+                }
+                Timestamp registeredAt = timestamp(start - (long) (random.nextDouble() * 365 * DAY_SECONDS));
+                inserter.add(username, username + "@seed.aiu.edu.kg", password, pick(FIRST_NAMES), pick(LAST_NAMES),
+                        role.name(), departmentId, true, registeredAt, registeredAt);
+            }
+            long inserted = inserter.finish();
+            userIds = idsAfter("users", maxId, total);
+            return inserted;
+        }
+
+        /**
+         * Decide every complaint before inserting anything, so vote and comment totals are known up front
+         */
+        private void planComplaints() {
+            int count = plan.getComplaints();
+            createdAt = new long[count];
+            for (int i = 0; i < count; i++) {
+                createdAt[i] = creationTime();
+            }
+            // Identity IDs then follow creation time, as they would in production
+            Arrays.sort(createdAt);
+
+            ZipfSampler departmentSampler = new ZipfSampler(departmentIds.length, plan.getDepartmentSkew());
+            department = new int[count];
+            creator = new int[count];
+            assignee = new int[count];
+            stage = new byte[count];
+            stageAt = new long[count * (STAGES.length - 1)];
+            for (int i = 0; i < count; i++) {
+                int d = departmentSampler.sample(random);
+                department[i] = d;
+                creator[i] = firstStudent + random.nextInt(students);
+                assignee[i] = -1;
+                int[] staff = staffByDepartment[d];
+                if (staff.length == 0) {
+                    continue;
+                }
+                long at = createdAt[i];
+                int reached = 0;
+                while (reached < STAGES.length - 1 && random.nextDouble() >= STALL_PROBABILITY) {
+                    at += (long) (exponential(STAGE_MEAN_DAYS) * DAY_SECONDS);
+                    if (at >= end) {
+                        break;
+                    }
+                    stageAt[i * (STAGES.length - 1) + reached] = at;
+                    reached++;
+                }
+                stage[i] = (byte) reached;
+                if (reached > 0) {
+                    assignee[i] = staff[random.nextInt(staff.length)];
+                }
+            }
+
+            int[] popularity = permutation(count);
+            int maxVotes = (int) Math.max(1, Math.min(students, Math.round(students * plan.getMaxVoteShare())));
+            long votes = Math.min(plan.getVotes(), (long) count * maxVotes);
+            voteCount = spread(votes, popularity, plan.getVoteSkew(), maxVotes);
+            commentCount = spread(plan.getComments(), popularity, plan.getCommentSkew(), Integer.MAX_VALUE);
+        }
+
+        private long insertComplaints() {
+            long maxId = maxId("complaints");
+            BatchInserter inserter = new BatchInserter(INSERT_COMPLAINT_SQL, COMPLAINT_TYPES, plan.getBatchSize());
+            for (int i = 0; i < createdAt.length; i++) {
+                int d = department[i];
+                int reached = stage[i];
+                String[] titles = departmentTypes[d] == ComplaintType.ACADEMIC ? ACADEMIC_TITLES : FACILITY_TITLES;
+                inserter.add(String.format(pick(titles), 100 + random.nextInt(500)), pick(DESCRIPTIONS),
+                        departmentTypes[d].name(), STAGES[reached].name(), userIds[creator[i]], departmentIds[d],
+                        assignee[i] >= 0 ? userIds[assignee[i]] : null, voteCount[i], reached >= 4,
+                        reached >= 3 ? timestamp(stageTime(i, 3)) : null,
+                        reached >= 4 ? timestamp(stageTime(i, 4)) : null,
+                        timestamp(createdAt[i]), timestamp(reached > 0 ? stageTime(i, reached) : createdAt[i]));
+            }
+            long inserted = inserter.finish();
+            complaintIds = idsAfter("complaints", maxId, createdAt.length);
+            return inserted;
+        }
+
+        /**
+         * One row per status a complaint went through; the student confirms, staff do the rest
+         */
+        private long insertStatusHistory() {
+            BatchInserter inserter = new BatchInserter(INSERT_HISTORY_SQL, HISTORY_TYPES, plan.getBatchSize());
+            for (int i = 0; i < complaintIds.length; i++) {
+                inserter.add(complaintIds[i], ComplaintStatus.NEW.name(), "Initial complaint submission",
+                        userIds[creator[i]], timestamp(createdAt[i]));
+                for (int s = 1; s <= stage[i]; s++) {
+                    int changedBy = STAGES[s] == ComplaintStatus.CONFIRMED_BY_STUDENT ? creator[i] : assignee[i];
+                    inserter.add(complaintIds[i], STAGES[s].name(),
+                            "Status changed from " + STAGES[s - 1] + " to " + STAGES[s],
+                            userIds[changedBy], timestamp(stageTime(i, s)));
+                }
+            }
+            return inserter.finish();
+        }
+
+        /**
+         * Voters of a complaint walk the students with a stride coprime to their count, so they are distinct
+         */
+        private long insertVotes() {
+            BatchInserter inserter = new BatchInserter(INSERT_VOTE_SQL, VOTE_TYPES, plan.getBatchSize());
+            for (int i = 0; i < complaintIds.length; i++) {
+                int votes = voteCount[i];
+                if (votes == 0) {
+                    continue;
+                }
+                long first = random.nextInt(students);
+                long stride = coprimeStride(students);
+                for (int v = 0; v < votes; v++) {
+                    int voter = firstStudent + (int) ((first + v * stride) % students);
+                    inserter.add(complaintIds[i], userIds[voter], timestamp(after(createdAt[i], VOTE_MEAN_DAYS)));
+                }
+            }
+            return inserter.finish();
+        }
+
+        private long insertComments() {
+            BatchInserter inserter = new BatchInserter(INSERT_COMMENT_SQL, COMMENT_TYPES, plan.getBatchSize());
+            for (int i = 0; i < complaintIds.length; i++) {
+                for (int c = 0; c < commentCount[i]; c++) {
+                    int author;
+                    boolean internal = false;
+                    if (assignee[i] >= 0 && random.nextDouble() < STAFF_COMMENT_SHARE) {
+                        author = assignee[i];
+                        internal = random.nextDouble() < INTERNAL_COMMENT_SHARE;
+                    } else {
+                        author = random.nextBoolean() ? creator[i] : firstStudent + random.nextInt(students);
+                    }
+                    Timestamp at = timestamp(after(createdAt[i], COMMENT_MEAN_DAYS));
+                    inserter.add(pick(COMMENTS), complaintIds[i], userIds[author], internal, at, at);
+                }
+            }
+            return inserter.finish();
+        }
+
+        private long creationTime() {
+            double day;
+            if (random.nextDouble() < plan.getBurstShare()) {
+                double center = BURST_CENTERS[random.nextInt(BURST_CENTERS.length)] * plan.getDays();
+                day = center + random.nextGaussian() * BURST_SPREAD_DAYS;
+            } else {
+                day = random.nextDouble() * plan.getDays();
+            }
+            long dayIndex = Math.max(0, Math.min(plan.getDays() - 1, (long) Math.floor(day)));
+            int hour = weighted(HOURLY_CUMULATIVE);
+            long at = start + dayIndex * DAY_SECONDS + hour * 3600L + random.nextInt(3600);
+            return Math.min(at, end - 1);
+        }
+
+        /**
+         * Distribute a total over complaints by Zipf rank, capping each complaint at the given maximum
+         */
+        private int[] spread(long total, int[] popularity, double skew, int max) {
+            int[] counts = new int[popularity.length];
+            ZipfSampler sampler = new ZipfSampler(popularity.length, skew);
+            for (long n = 0; n < total; n++) {
+                int c = popularity[sampler.sample(random)];
+                for (int tries = 0; counts[c] >= max; tries++) {
+                    c = tries < 64 ? popularity[sampler.sample(random)] : (c + 1) % counts.length;
+                }
+                counts[c]++;
+            }
+            return counts;
+        }
+
+        private long stageTime(int complaint, int reached) {
+            return stageAt[complaint * (STAGES.length - 1) + reached - 1];
+        }
+
+        private long after(long from, double meanDays) {
+            return Math.min(from + (long) (exponential(meanDays) * DAY_SECONDS), end);
+        }
+
+        private double exponential(double mean) {
+            return -Math.log(1 - random.nextDouble()) * mean;
+        }
+
+        private int weighted(double[] cumulative) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+        }
+
+        private int[] permutation(int count) {
+            int[] order = new int[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            for (int i = count - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+            return order;
+        }
+
+        private long coprimeStride(int modulus) {
+            if (modulus == 1) {
+                return 1;
+            }
+            long stride;
+            do {
+                stride = 1 + random.nextInt(modulus - 1);
+            } while (gcd(stride, modulus) != 1);
+            return stride;
+        }
+
+        private String pick(String[] values) {
+            return values[random.nextInt(values.length)];
+        }
+
+        private long timed(String table, LongSupplier step) {
+            long started = System.nanoTime();
+            long rows = step.getAsLong();
+            logger.info("Seeded {} {} in {} ms", rows, table, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return rows;
+        }
+    }
+
+    /**
+     * Buffers rows and writes them with one JDBC batch per transaction
+     */
+    private final class BatchInserter {
+
+        private final String sql;
+        private final int[] types;
+        private final int batchSize;
+        private final List<Object[]> rows;
+        private long inserted;
+
+        BatchInserter(String sql, int[] types, int batchSize) {
+            this.sql = sql;
+            this.types = types;
+            this.batchSize = batchSize;
+            this.rows = new ArrayList<>(batchSize);
+        }
+
+        void add(Object... values) {
+            rows.add(values);
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        long finish() {
+            flush();
+            return inserted;
+        }
+
+        private void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows, types));
+            inserted += rows.size();
+            rows.clear();
+        }
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return max != null ? max : 0;
+    }
+
+    /**
+     * IDs of the rows just inserted, in insertion order
+     */
+    private long[] idsAfter(String table, long maxId, int expected) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE id > ? ORDER BY id", Long.class, maxId);
+        if (ids.size() != expected) {
+            throw new IllegalStateException("Expected " + expected + " new rows in " + table + " but found " + ids.size()
+                    + "; seed into a database nobody else is writing to");
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static Timestamp timestamp(long epochSecond) {
+        return Timestamp.valueOf(LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC));
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < weights.length; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
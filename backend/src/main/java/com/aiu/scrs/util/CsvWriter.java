@@ -0,0 +1,54 @@
+package com.aiu.scrs.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * CSV Writer - Writes RFC 4180 records to a character stream without buffering rows
+ */
+public class CsvWriter {
+    
+    private final Writer writer;
+    
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+    
+    /**
+     * Write one record; null values become empty fields
+     */
+    public void writeRecord(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeField(values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+    
+    public void flush() throws IOException {
+        writer.flush();
+    }
+    
+    private void writeField(String value) throws IOException {
+        // Neutralize spreadsheet formulas in user-supplied text
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
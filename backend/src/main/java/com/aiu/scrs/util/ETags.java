@@ -0,0 +1,30 @@
+package com.aiu.scrs.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * ETag helpers - Builds strong entity tags from version information instead of response bodies
+ */
+public final class ETags {
+    
+    private ETags() {}
+    
+    /**
+     * Quoted strong ETag for a resource kind and the values that identify its current version
+     */
+    public static String strong(String kind, Object... versionParts) {
+        StringBuilder source = new StringBuilder(kind);
+        for (Object part : versionParts) {
+            source.append('|').append(part);
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + kind + "-" + HexFormat.of().formatHex(digest, 0, 12) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.aiu.scrs.util;
+
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sparse fieldset helpers - Parses the fields= query parameter of list endpoints
+ */
+public final class SparseFields {
+    
+    private SparseFields() {}
+    
+    /**
+     * Requested field names in order without duplicates, or null when no fields were requested
+     */
+    public static List<String> parse(String fields) {
+        if (!StringUtils.hasText(fields)) {
+            return null;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                names.add(name.trim());
+            }
+        }
+        return names.isEmpty() ? null : new ArrayList<>(names);
+    }
+}
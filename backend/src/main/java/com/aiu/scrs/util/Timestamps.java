@@ -0,0 +1,51 @@
+package com.aiu.scrs.util;
+
+import java.time.LocalDateTime;
+
+/**
+ * Timestamp helpers - Formats timestamps for API responses as fixed-width ISO-8601 local
+ * date-times with milliseconds (2024-03-01T09:05:00.000). Unlike LocalDateTime.toString(),
+ * the width never changes, and formatting fills a single char array.
+ */
+public final class Timestamps {
+
+    private static final int LENGTH = 23;
+
+    private Timestamps() {}
+
+    /**
+     * Format a timestamp, or return null for a null timestamp
+     */
+    public static String format(LocalDateTime timestamp) {
+        if (timestamp == null) {
+            return null;
+        }
+        int year = timestamp.getYear();
+        if (year < 0 || year > 9999) {
+            // Outside the fixed-width range; fall back to the standard representation
+            return timestamp.toString();
+        }
+        char[] chars = new char[LENGTH];
+        writeDigits(chars, 0, year, 4);
+        chars[4] = '-';
+        writeDigits(chars, 5, timestamp.getMonthValue(), 2);
+        chars[7] = '-';
+        writeDigits(chars, 8, timestamp.getDayOfMonth(), 2);
+        chars[10] = 'T';
+        writeDigits(chars, 11, timestamp.getHour(), 2);
+        chars[13] = ':';
+        writeDigits(chars, 14, timestamp.getMinute(), 2);
+        chars[16] = ':';
+        writeDigits(chars, 17, timestamp.getSecond(), 2);
+        chars[19] = '.';
+        writeDigits(chars, 20, timestamp.getNano() / 1_000_000, 3);
+        return new String(chars);
+    }
+
+    private static void writeDigits(char[] chars, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.aiu.scrs;
+
+import com.aiu.scrs.entity.Complaint;
+import com.aiu.scrs.entity.ComplaintType;
+import com.aiu.scrs.entity.Department;
+import com.aiu.scrs.entity.User;
+import com.aiu.scrs.entity.UserRole;
+import com.aiu.scrs.repository.ComplaintRepository;
+import com.aiu.scrs.repository.DepartmentRepository;
+import com.aiu.scrs.repository.UserRepository;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test Data - Saves the users, departments and complaints an integration test needs. Names are
+ * unique, so tests sharing one application context do not collide.
+ */
+@TestComponent
+public class TestData {
+
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    private final UserRepository userRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ComplaintRepository complaintRepository;
+
+    public TestData(UserRepository userRepository, DepartmentRepository departmentRepository,
+                    ComplaintRepository complaintRepository) {
+        this.userRepository = userRepository;
+        this.departmentRepository = departmentRepository;
+        this.complaintRepository = complaintRepository;
+    }
+
+    public Department department() {
+        return departmentRepository.save(new Department("Test Department " + sequence.incrementAndGet(), "Test"));
+    }
+
+    public User user(UserRole role) {
+        String username = role.name().toLowerCase() + sequence.incrementAndGet();
+        return userRepository.save(new User(username, username + "@test.aiu.edu", "not-a-real-hash", "Test", "User", role));
+    }
+
+    public Complaint complaint(User createdBy, Department department) {
+        Complaint complaint = new Complaint("Test complaint " + sequence.incrementAndGet(), "Details",
+                ComplaintType.FACILITY, createdBy, department);
+        complaint.setCreatedAt(LocalDateTime.now());
+        complaint.setUpdatedAt(LocalDateTime.now());
+        return complaintRepository.save(complaint);
+    }
+}
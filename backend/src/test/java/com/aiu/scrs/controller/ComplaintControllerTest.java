@@ -0,0 +1,122 @@
+package com.aiu.scrs.controller;
+
+import com.aiu.scrs.TestData;
+import com.aiu.scrs.entity.Complaint;
+import com.aiu.scrs.entity.Department;
+import com.aiu.scrs.entity.User;
+import com.aiu.scrs.entity.UserRole;
+import com.aiu.scrs.service.ComplaintService;
+import com.aiu.scrs.service.DepartmentService;
+import com.aiu.scrs.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "STAFF")
+@Import(TestData.class)
+class ComplaintControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private ComplaintService complaintService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void pageSizeUpToTheLimitIsServed() throws Exception {
+        mockMvc.perform(get("/api/complaints").param("size", "100"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.size").value(100));
+    }
+
+    @Test
+    void oversizedPageIsRejected() throws Exception {
+        mockMvc.perform(get("/api/complaints").param("size", "101"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("VALIDATION_FAILED"));
+    }
+
+    @Test
+    void emptyOrNegativePageIsRejected() throws Exception {
+        mockMvc.perform(get("/api/complaints").param("size", "0"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/complaints").param("page", "-1"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void voteChangesTheListETag() throws Exception {
+        Department department = testData.department();
+        User student = testData.user(UserRole.STUDENT);
+        Complaint complaint = testData.complaint(student, department);
+        String path = "/api/complaints?department=" + department.getId();
+
+        String etag = mockMvc.perform(get(path))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        complaintService.voteComplaint(complaint.getId(), testData.user(UserRole.STUDENT).getId());
+
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+            .andExpect(jsonPath("$.data.content[0].voteCount").value(1));
+    }
+
+    @Test
+    void departmentRenameChangesTheListETag() throws Exception {
+        Department department = testData.department();
+        testData.complaint(testData.user(UserRole.STUDENT), department);
+        String path = "/api/complaints?department=" + department.getId();
+        String etag = mockMvc.perform(get(path))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        department.setName(department.getName() + " (renamed)");
+        departmentService.updateDepartment(department);
+
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content[0].departmentName").value(department.getName()));
+    }
+
+    @Test
+    void submitterRenameChangesTheDetailETag() throws Exception {
+        User student = testData.user(UserRole.STUDENT);
+        Complaint complaint = testData.complaint(student, testData.department());
+        String path = "/api/complaints/" + complaint.getId();
+        String etag = mockMvc.perform(get(path))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        userService.updateUser(student.getId(), Map.of("fullName", "Renamed Student"));
+
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.submittedByFullName").value("Renamed Student"));
+    }
+}
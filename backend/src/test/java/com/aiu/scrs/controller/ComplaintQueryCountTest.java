@@ -0,0 +1,91 @@
+package com.aiu.scrs.controller;
+
+import com.aiu.scrs.TestData;
+import com.aiu.scrs.entity.Complaint;
+import com.aiu.scrs.entity.Department;
+import com.aiu.scrs.entity.UserRole;
+import com.aiu.scrs.service.ComplaintService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.aiu.scrs.monitoring.QueryAssertions.assertMaxQueries;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the SQL statements per request of the complaint read endpoints. Every complaint has its
+ * own submitter, so loading submitters one by one (N+1) would exceed the budgets.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "STAFF")
+@Import(TestData.class)
+class ComplaintQueryCountTest {
+
+    private static final int COMPLAINTS = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private ComplaintService complaintService;
+
+    private Department department;
+    private List<Complaint> complaints;
+
+    @BeforeEach
+    void setUp() {
+        department = testData.department();
+        complaints = new ArrayList<>();
+        for (int i = 0; i < COMPLAINTS; i++) {
+            Complaint complaint = testData.complaint(testData.user(UserRole.STUDENT), department);
+            complaintService.voteComplaint(complaint.getId(), testData.user(UserRole.STUDENT).getId());
+            complaints.add(complaint);
+        }
+    }
+
+    @Test
+    void complaintListPage() throws Exception {
+        // Version stamp, page and count
+        assertMaxQueries(3, () -> perform(get("/api/complaints").param("department", department.getId().toString())))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content.length()").value(COMPLAINTS));
+    }
+
+    @Test
+    void complaintDetail() throws Exception {
+        // Version, complaint, then its submitter and department
+        assertMaxQueries(4, () -> perform(get("/api/complaints/" + complaints.get(0).getId())))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void topVoted() throws Exception {
+        // A limit no other test uses, so the shared top-voted result cannot answer from its cache
+        assertMaxQueries(1, () -> perform(get("/api/complaints/top-voted").param("limit", "37")))
+            .andExpect(status().isOk());
+    }
+
+    private ResultActions perform(RequestBuilder request) {
+        try {
+            return mockMvc.perform(request);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
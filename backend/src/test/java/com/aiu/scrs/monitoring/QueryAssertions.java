@@ -0,0 +1,35 @@
+package com.aiu.scrs.monitoring;
+
+import java.util.function.Supplier;
+
+/**
+ * Query Assertions - Test helpers that fail when a block runs more SQL statements than allowed,
+ * to pin the query count of service methods and catch N+1 regressions. Requires the application
+ * context, whose DataSource is wrapped by {@link QueryCountingDataSourcePostProcessor}.
+ */
+public final class QueryAssertions {
+
+    private QueryAssertions() {}
+
+    /**
+     * Run the action and fail with an AssertionError if it executed more than maxQueries statements
+     */
+    public static <T> T assertMaxQueries(int maxQueries, Supplier<T> action) {
+        try (QueryStatsContext.Scope scope = QueryStatsContext.open()) {
+            T result = action.get();
+            QueryStats stats = scope.getStats();
+            if (stats.getQueryCount() > maxQueries) {
+                throw new AssertionError("Expected at most " + maxQueries + " SQL statements but " +
+                        stats.getQueryCount() + " were executed; most repeated: " + stats.getMostRepeatedStatement());
+            }
+            return result;
+        }
+    }
+
+    public static void assertMaxQueries(int maxQueries, Runnable action) {
+        assertMaxQueries(maxQueries, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,111 @@
+package com.aiu.scrs.service;
+
+import com.aiu.scrs.TestData;
+import com.aiu.scrs.entity.Complaint;
+import com.aiu.scrs.entity.ComplaintStatus;
+import com.aiu.scrs.entity.Department;
+import com.aiu.scrs.entity.User;
+import com.aiu.scrs.entity.UserRole;
+import com.aiu.scrs.repository.ComplaintRepository;
+import com.aiu.scrs.repository.ComplaintVoteRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Votes and status changes racing on one complaint: every vote is counted exactly once, and the
+ * version moves once per vote and once per status change that went through
+ */
+@SpringBootTest
+@Import(TestData.class)
+class ComplaintConcurrencyTest {
+
+    private static final int VOTERS = 40;
+    private static final int STATUS_CHANGES = 20;
+    private static final int THREADS = 8;
+
+    @Autowired
+    private ComplaintService complaintService;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private ComplaintVoteRepository complaintVoteRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void concurrentVotesAndStatusChangesKeepCountAndVersionConsistent() throws Exception {
+        Department department = testData.department();
+        Complaint complaint = testData.complaint(testData.user(UserRole.STUDENT), department);
+        Long complaintId = complaint.getId();
+        long initialVersion = complaint.getVersion();
+        User staff = testData.user(UserRole.STAFF);
+        List<User> voters = new ArrayList<>();
+        for (int i = 0; i < VOTERS; i++) {
+            voters.add(testData.user(UserRole.STUDENT));
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger statusChanges = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (User voter : voters) {
+            tasks.add(() -> {
+                start.await();
+                complaintService.voteComplaint(complaintId, voter.getId());
+                return null;
+            });
+        }
+        for (int i = 0; i < STATUS_CHANGES; i++) {
+            ComplaintStatus status = i % 2 == 0 ? ComplaintStatus.IN_PROGRESS : ComplaintStatus.ASSIGNED;
+            tasks.add(() -> {
+                start.await();
+                try {
+                    complaintService.changeComplaintStatus(complaintId, status, staff.getId(), "stress");
+                    statusChanges.incrementAndGet();
+                } catch (OptimisticLockingFailureException e) {
+                    // Lost every retry; must leave no trace in the version
+                }
+                return null;
+            });
+        }
+        Collections.shuffle(tasks);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (Callable<Void> task : tasks) {
+                results.add(executor.submit(task));
+            }
+            start.countDown();
+            for (Future<Void> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Complaint updated = complaintRepository.findById(complaintId).orElseThrow();
+        assertThat(updated.getTotalVotes()).isEqualTo(VOTERS);
+        assertThat(complaintVoteRepository.countByComplaintId(complaintId)).isEqualTo((long) VOTERS);
+        assertThat(statusChanges.get()).isPositive();
+        assertThat(updated.getVersion()).isEqualTo(initialVersion + VOTERS + statusChanges.get());
+    }
+}
@@ -0,0 +1,124 @@
+package com.aiu.scrs.service;
+
+import com.aiu.scrs.entity.ComplaintRoutingRule;
+import com.aiu.scrs.entity.ComplaintType;
+import com.aiu.scrs.entity.Department;
+import com.aiu.scrs.repository.ComplaintRepository;
+import com.aiu.scrs.repository.ComplaintRoutingRuleRepository;
+import com.aiu.scrs.repository.DepartmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ComplaintRoutingServiceTest {
+
+    private final ComplaintRoutingRuleRepository ruleRepository = mock(ComplaintRoutingRuleRepository.class);
+    private final DepartmentRepository departmentRepository = mock(DepartmentRepository.class);
+    private final ComplaintRepository complaintRepository = mock(ComplaintRepository.class);
+
+    private Department library;
+    private Department registrar;
+
+    @BeforeEach
+    void setUp() {
+        library = department(3L, "Library");
+        registrar = department(7L, "Registrar");
+        ComplaintRoutingRule wifi = new ComplaintRoutingRule(ComplaintType.FACILITY, "wifi", library, 0);
+        when(ruleRepository.findActiveRulesForRouting()).thenReturn(List.of(wifi));
+        when(departmentRepository.findByIsActive(true)).thenReturn(List.of(registrar, library));
+        when(departmentRepository.findByName("Registrar")).thenReturn(Optional.of(registrar));
+    }
+
+    @Test
+    void matchingRuleWins() {
+        ComplaintRoutingService service = loaded("Registrar");
+
+        assertThat(service.route(ComplaintType.FACILITY, "No WiFi in the dorm")).contains(3L);
+    }
+
+    @Test
+    void unmatchedComplaintGoesToConfiguredFallback() {
+        ComplaintRoutingService service = loaded("Registrar");
+
+        assertThat(service.route(ComplaintType.FACILITY, "Broken chair")).contains(7L);
+        assertThat(service.route(ComplaintType.ACADEMIC, "Grade missing")).contains(7L);
+    }
+
+    @Test
+    void unknownOrInactiveFallbackUsesOldestActiveDepartment() {
+        assertThat(loaded("").route(ComplaintType.ACADEMIC, "Grade missing")).contains(3L);
+        assertThat(loaded("Cafeteria").route(ComplaintType.ACADEMIC, "Grade missing")).contains(3L);
+
+        registrar.setIsActive(false);
+        assertThat(loaded("Registrar").route(ComplaintType.ACADEMIC, "Grade missing")).contains(3L);
+    }
+
+    @Test
+    void noActiveDepartmentLeavesComplaintUnrouted() {
+        when(ruleRepository.findActiveRulesForRouting()).thenReturn(List.of());
+        registrar.setIsActive(false);
+        library.setIsActive(false);
+        when(departmentRepository.findByIsActive(true)).thenReturn(List.of());
+
+        assertThat(loaded("Registrar").route(ComplaintType.ACADEMIC, "Grade missing")).isEmpty();
+    }
+
+    @Test
+    void emptyRuleTableIsSeededFromWhereComplaintsWent() {
+        when(ruleRepository.count()).thenReturn(0L);
+        when(complaintRepository.countByTypeAndActiveDepartment()).thenReturn(List.of(
+                new Object[] {ComplaintType.ACADEMIC, 3L, 4L},
+                new Object[] {ComplaintType.ACADEMIC, 7L, 9L},
+                new Object[] {ComplaintType.FACILITY, 7L, 5L},
+                new Object[] {ComplaintType.FACILITY, 3L, 5L}));
+        when(departmentRepository.getReferenceById(3L)).thenReturn(library);
+        when(departmentRepository.getReferenceById(7L)).thenReturn(registrar);
+
+        service("").loadRoutingTable();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ComplaintRoutingRule>> saved = ArgumentCaptor.forClass(List.class);
+        verify(ruleRepository).saveAll(saved.capture());
+        assertThat(saved.getValue())
+                .extracting(ComplaintRoutingRule::getComplaintType, rule -> rule.getDepartment().getId(), ComplaintRoutingRule::getKeyword)
+                .containsExactlyInAnyOrder(
+                        tuple(ComplaintType.ACADEMIC, 7L, null),
+                        tuple(ComplaintType.FACILITY, 3L, null));
+    }
+
+    @Test
+    void existingRulesAreNotReseeded() {
+        when(ruleRepository.count()).thenReturn(1L);
+
+        service("").loadRoutingTable();
+
+        verify(ruleRepository, never()).saveAll(anyList());
+    }
+
+    private ComplaintRoutingService loaded(String fallbackDepartment) {
+        ComplaintRoutingService service = service(fallbackDepartment);
+        service.reloadRoutingTable();
+        return service;
+    }
+
+    private ComplaintRoutingService service(String fallbackDepartment) {
+        return new ComplaintRoutingService(ruleRepository, departmentRepository, complaintRepository, fallbackDepartment, true);
+    }
+
+    private static Department department(Long id, String name) {
+        Department department = new Department(name, name + " office");
+        department.setId(id);
+        return department;
+    }
+}
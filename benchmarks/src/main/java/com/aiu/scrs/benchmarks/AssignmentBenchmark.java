@@ -0,0 +1,140 @@
+package com.aiu.scrs.benchmarks;
+
+import com.aiu.scrs.ScrApplication;
+import com.aiu.scrs.entity.ComplaintType;
+import com.aiu.scrs.entity.User;
+import com.aiu.scrs.entity.UserRole;
+import com.aiu.scrs.repository.ComplaintRepository;
+import com.aiu.scrs.repository.UserRepository;
+import com.aiu.scrs.service.assignment.AssignmentEngine;
+import com.aiu.scrs.service.seed.SeedPlan;
+import com.aiu.scrs.service.seed.SyntheticDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assignment Benchmark - Picking the least-loaded staff member of the largest department for a new
+ * complaint. The engine reserves from its in-memory pool (load-ordered TreeSet under the pool lock)
+ * and releases again, so the pool stays put. The query-based pick is what assignment cost without
+ * the engine: load the department's active staff and count each one's open complaints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssignmentBenchmark {
+
+    @Param({"2000", "20000"})
+    public int users;
+
+    private ConfigurableApplicationContext context;
+    private AssignmentEngine assignmentEngine;
+    private UserRepository userRepository;
+    private ComplaintRepository complaintRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private Long departmentId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ScrApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:mem:scrs_bench_assignment;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.aiu.scrs=WARN",
+                        "--logging.level.org.springframework.security=WARN");
+        assignmentEngine = context.getBean(AssignmentEngine.class);
+        userRepository = context.getBean(UserRepository.class);
+        complaintRepository = context.getBean(ComplaintRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        SeedPlan plan = new SeedPlan();
+        plan.setUsers(users);
+        plan.setComplaints(users * 2);
+        plan.setVotes(users * 2L);
+        plan.setComments(0);
+        context.getBean(SyntheticDataGenerator.class).generate(plan);
+        // The engine seeded itself before the data existed
+        assignmentEngine.initialize();
+
+        departmentId = assignmentEngine.getWorkloadSnapshot().entrySet().stream()
+                .max(Comparator.comparingInt((Map.Entry<Long, List<Map<String, Object>>> pool) -> pool.getValue().size()))
+                .map(Map.Entry::getKey)
+                .orElseThrow(() -> new IllegalStateException("Seed produced no staff"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long engine() {
+        return reserveAndRelease();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Long engineContended() {
+        return reserveAndRelease();
+    }
+
+    @Benchmark
+    public Long query() {
+        return queryLeastLoaded();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Long queryContended() {
+        return queryLeastLoaded();
+    }
+
+    private Long reserveAndRelease() {
+        Long staffId = assignmentEngine.reserve(departmentId, ComplaintType.FACILITY).orElseThrow();
+        assignmentEngine.release(staffId);
+        return staffId;
+    }
+
+    private Long queryLeastLoaded() {
+        return readOnlyTransaction.execute(status -> {
+            Long selected = null;
+            long selectedLoad = Long.MAX_VALUE;
+            for (User staff : userRepository.findByDepartmentIdAndIsActive(departmentId, true)) {
+                if (staff.getRole() != UserRole.STAFF) {
+                    continue;
+                }
+                long load = complaintRepository.countByAssignedToIdAndStatusIn(staff.getId(), AssignmentEngine.OPEN_STATUSES);
+                if (load < selectedLoad) {
+                    selected = staff.getId();
+                    selectedLoad = load;
+                }
+            }
+            return selected;
+        });
+    }
+}
@@ -0,0 +1,77 @@
+package com.aiu.scrs.benchmarks;
+
+import com.aiu.scrs.dto.ApiResponse;
+import com.aiu.scrs.dto.complaint.ComplaintResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Complaint Response Serialization Benchmark - Writes and reads a complaint list wrapped in
+ * ApiResponse, as the list endpoints return it and clients parse it, with the mappers the backend
+ * can negotiate: JSON with Blackbird (the default), JSON with plain reflection, and CBOR. The
+ * encoded size of each list is printed when its trial starts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComplaintResponseSerializationBenchmark {
+
+    @Param({"json-blackbird", "json-reflection", "cbor"})
+    public String format;
+
+    @Param({"20", "500", "1000"})
+    public int complaints;
+
+    private ObjectMapper mapper;
+    private ObjectReader reader;
+    private ApiResponse<List<ComplaintResponse>> body;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        switch (format) {
+            case "json-blackbird" -> builder.modulesToInstall(new BlackbirdModule());
+            case "json-reflection" -> { }
+            case "cbor" -> builder.modulesToInstall(new BlackbirdModule()).factory(new CBORFactory());
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        }
+        mapper = builder.build();
+        reader = mapper.readerFor(new TypeReference<ApiResponse<List<ComplaintResponse>>>() { });
+        body = ApiResponse.success("Complaints retrieved successfully", Fixtures.complaintResponses(complaints));
+        encoded = mapper.writeValueAsBytes(body);
+        // Sizes do not vary between runs, so they are printed with the run log instead of measured
+        System.out.printf("# Payload: %s, %d complaints: %d bytes%n", format, complaints, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return mapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public ApiResponse<List<ComplaintResponse>> deserialize() throws Exception {
+        return reader.readValue(encoded);
+    }
+}
@@ -0,0 +1,73 @@
+package com.aiu.scrs.benchmarks;
+
+import com.aiu.scrs.ScrApplication;
+import com.aiu.scrs.service.ComplaintService;
+import com.aiu.scrs.service.seed.SeedPlan;
+import com.aiu.scrs.service.seed.SyntheticDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Complaint Stats Benchmark - ComplaintService.getComplaintStats through the service proxy of a
+ * full application context on in-memory H2, seeded once per trial by the synthetic data generator
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComplaintStatsBenchmark {
+
+    @Param({"100", "1000", "20000"})
+    public int complaints;
+
+    private ConfigurableApplicationContext context;
+    private ComplaintService complaintService;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ScrApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:mem:scrs_bench;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.aiu.scrs=WARN",
+                        "--logging.level.org.springframework.security=WARN",
+                        "--scrs.assignment.auto-enabled=false");
+        complaintService = context.getBean(ComplaintService.class);
+
+        SeedPlan plan = new SeedPlan();
+        plan.setUsers(2000);
+        plan.setComplaints(complaints);
+        plan.setVotes(complaints * 5L);
+        plan.setComments(complaints);
+        context.getBean(SyntheticDataGenerator.class).generate(plan);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Map<String, Object> getComplaintStats() {
+        return complaintService.getComplaintStats();
+    }
+}
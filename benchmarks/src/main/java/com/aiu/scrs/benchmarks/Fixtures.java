@@ -0,0 +1,111 @@
+package com.aiu.scrs.benchmarks;
+
+import com.aiu.scrs.config.JwtTokenProvider;
+import com.aiu.scrs.dto.complaint.ComplaintResponse;
+import com.aiu.scrs.entity.ComplaintStatus;
+import com.aiu.scrs.entity.ComplaintType;
+import com.aiu.scrs.entity.Department;
+import com.aiu.scrs.entity.User;
+import com.aiu.scrs.entity.UserRole;
+import com.aiu.scrs.util.Timestamps;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixtures - Beans wired by hand and sample data shared by the benchmarks
+ */
+public final class Fixtures {
+
+    /**
+     * Same secret length as application.properties, so signing costs match the running backend
+     */
+    public static final String JWT_SECRET = "MyVerySecureAndLongJWTSecretKeyThatIsAtLeast512BitsLongForSecurityPurposesAndComplianceWithJWTStandards123456789012345678901234567890123456789012345678901234567890";
+    public static final int JWT_EXPIRATION_MS = 86_400_000;
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 9, 2, 10, 15, 30);
+
+    private Fixtures() {
+    }
+
+    /**
+     * Token provider configured like the application context would
+     */
+    public static JwtTokenProvider tokenProvider() {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        inject(provider, "jwtSecret", JWT_SECRET);
+        inject(provider, "jwtExpirationInMs", JWT_EXPIRATION_MS);
+        provider.init();
+        return provider;
+    }
+
+    public static Department department(long id) {
+        Department department = new Department("Department " + id, "Handles complaints of area " + id);
+        department.setId(id);
+        return department;
+    }
+
+    public static User user(long id, UserRole role, Department department) {
+        User user = new User("user" + id, "user" + id + "@aiu.edu.kg",
+                "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z0k4X8bM1fQ9c3rGy6X6QWqa", "First" + id, "Last" + id, role);
+        user.setId(id);
+        user.setDepartment(department);
+        user.setCreatedAt(CREATED_AT);
+        user.setUpdatedAt(CREATED_AT);
+        return user;
+    }
+
+    /**
+     * Users as listed by the admin screens: every other one belongs to a department
+     */
+    public static List<User> users(int count) {
+        Department department = department(1);
+        List<User> users = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            users.add(user(i, i % 10 == 0 ? UserRole.STAFF : UserRole.STUDENT, i % 2 == 0 ? department : null));
+        }
+        return users;
+    }
+
+    /**
+     * Complaint responses shaped like a page of the complaint list
+     */
+    public static List<ComplaintResponse> complaintResponses(int count) {
+        ComplaintStatus[] statuses = ComplaintStatus.values();
+        List<ComplaintResponse> responses = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            ComplaintResponse response = new ComplaintResponse();
+            response.setId((long) i);
+            response.setTitle("Air conditioner broken in room " + i);
+            response.setDescription("The air conditioner in room " + i + " has not worked since Monday. "
+                    + "Students cannot stay in the room during the afternoon lectures.");
+            response.setType(i % 3 == 0 ? ComplaintType.ACADEMIC : ComplaintType.FACILITY);
+            response.setStatus(statuses[i % statuses.length]);
+            response.setVoteCount(i % 40);
+            response.setCreatedAt(Timestamps.format(CREATED_AT.plusMinutes(i)));
+            response.setUpdatedAt(Timestamps.format(CREATED_AT.plusMinutes(i + 30)));
+            response.setSubmittedById((long) (i % 200) + 1);
+            response.setSubmittedByUsername("user" + ((i % 200) + 1));
+            response.setSubmittedByFullName("First" + i + " Last" + i);
+            response.setDepartmentId((long) (i % 5) + 1);
+            response.setDepartmentName("Department " + ((i % 5) + 1));
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    /**
+     * Set a field the application fills through @Value or @Autowired
+     */
+    public static void inject(Object target, String fieldName, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        if (field == null) {
+            throw new IllegalArgumentException("No field " + fieldName + " in " + target.getClass().getName());
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
@@ -0,0 +1,96 @@
+package com.aiu.scrs.benchmarks;
+
+import com.aiu.scrs.config.JwtAuthenticationFilter;
+import com.aiu.scrs.config.JwtTokenProvider;
+import com.aiu.scrs.config.UserDetailsImpl;
+import com.aiu.scrs.config.UserDetailsServiceImpl;
+import com.aiu.scrs.entity.User;
+import com.aiu.scrs.entity.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT Authentication Filter Benchmark - One pass of the filter for a request with a valid bearer
+ * token and for an anonymous request. User details come from a stub instead of the database,
+ * so the result is the filter's own cost with its user-details cache warm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider tokenProvider = Fixtures.tokenProvider();
+        User user = Fixtures.user(42, UserRole.STUDENT, Fixtures.department(1));
+        authorization = "Bearer " + tokenProvider.generateTokenFromUserId(user.getId(), user.getUsername(),
+                user.getRole().name());
+
+        filter = new JwtAuthenticationFilter();
+        Fixtures.inject(filter, "tokenProvider", tokenProvider);
+        Fixtures.inject(filter, "userDetailsService", new StubUserDetailsService(user));
+        Fixtures.inject(filter, "meterRegistry", new SimpleMeterRegistry());
+        Fixtures.inject(filter, "userDetailsCacheTtlMs", 5000L);
+        filter.init();
+    }
+
+    @Benchmark
+    public Authentication authenticated(Blackhole blackhole) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/complaints/my");
+        request.addHeader("Authorization", authorization);
+        return filter(request, blackhole);
+    }
+
+    @Benchmark
+    public Authentication anonymous(Blackhole blackhole) throws Exception {
+        return filter(new MockHttpServletRequest("GET", "/api/complaints/top-voted"), blackhole);
+    }
+
+    private Authentication filter(MockHttpServletRequest request, Blackhole blackhole) throws Exception {
+        FilterChain chain = (req, res) -> blackhole.consume(req);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static final class StubUserDetailsService extends UserDetailsServiceImpl {
+
+        private final User user;
+
+        StubUserDetailsService(User user) {
+            this.user = user;
+        }
+
+        @Override
+        public UserDetails loadUserByUsername(String usernameOrEmail) {
+            return UserDetailsImpl.build(user);
+        }
+    }
+}
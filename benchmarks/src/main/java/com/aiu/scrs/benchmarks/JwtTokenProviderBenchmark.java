@@ -0,0 +1,56 @@
+package com.aiu.scrs.benchmarks;
+
+import com.aiu.scrs.config.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT Token Provider Benchmark - Signing a token at login and verifying it on every request
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = Fixtures.tokenProvider();
+        token = tokenProvider.generateTokenFromUserId(42L, "user42", "STUDENT");
+    }
+
+    @Benchmark
+    public String generate() {
+        return tokenProvider.generateTokenFromUserId(42L, "user42", "STUDENT");
+    }
+
+    /**
+     * What the authentication filter does per request: one signature check, then the claims
+     */
+    @Benchmark
+    public String parseClaims() {
+        Claims claims = tokenProvider.parseClaims(token);
+        return tokenProvider.getUsername(claims);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return tokenProvider.validateToken(token);
+    }
+}
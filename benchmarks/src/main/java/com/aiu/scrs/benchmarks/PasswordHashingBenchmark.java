@@ -0,0 +1,89 @@
+package com.aiu.scrs.benchmarks;
+
+import com.aiu.scrs.service.PasswordHashingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password Hashing Benchmark - Accounts per second that PasswordHashingService can hash for a
+ * roster import, by BCrypt cost factor and hashing pool size. encode hashes one password on the
+ * calling thread, as createUser does; encodeAll hashes a batch on the service's fork/join pool. Scores are passwords per second,
+ * so encodeAll should scale with the pool size up to the number of cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final int BATCH = 32;
+
+    /**
+     * BCrypt cost factor; the backend uses 10
+     */
+    @Param({"4", "8", "10"})
+    public int strength;
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private List<String> passwords;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+        passwords = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            passwords.add("Student-password-" + i);
+        }
+    }
+
+    /**
+     * The hashing service with a pool of the given size, only needed by encodeAll
+     */
+    @State(Scope.Benchmark)
+    public static class Pool {
+
+        @Param({"1", "2", "4"})
+        public int parallelism;
+
+        private PasswordHashingService hashingService;
+
+        @Setup
+        public void setUp(PasswordHashingBenchmark benchmark) {
+            hashingService = new PasswordHashingService(benchmark.passwordEncoder, parallelism);
+        }
+
+        @TearDown
+        public void tearDown() {
+            hashingService.shutdown();
+        }
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(passwords.get(0));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public String[] encodeAll(Pool pool) {
+        return pool.hashingService.encodeAll(passwords);
+    }
+}
@@ -0,0 +1,82 @@
+package com.aiu.scrs.benchmarks;
+
+import com.aiu.scrs.controller.AdminController;
+import com.aiu.scrs.controller.UserController;
+import com.aiu.scrs.dto.user.UserResponse;
+import com.aiu.scrs.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * User Response Mapping Benchmark - The controllers' private convertToUserResponse applied to a
+ * list of users, as the user listings do. The methods are reached through method handles, which
+ * the JIT inlines like a direct call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserResponseMappingBenchmark {
+
+    private static final MethodHandle USER_CONTROLLER_CONVERT = converter(UserController.class);
+    private static final MethodHandle ADMIN_CONTROLLER_CONVERT = converter(AdminController.class);
+
+    @Param({"10", "100", "1000"})
+    public int users;
+
+    private List<User> userList;
+    private UserController userController;
+    private AdminController adminController;
+
+    @Setup
+    public void setUp() {
+        userList = Fixtures.users(users);
+        userController = new UserController();
+        adminController = new AdminController();
+    }
+
+    @Benchmark
+    public List<UserResponse> userController() throws Throwable {
+        List<UserResponse> responses = new ArrayList<>(userList.size());
+        for (User user : userList) {
+            responses.add((UserResponse) USER_CONTROLLER_CONVERT.invokeExact(userController, user));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<UserResponse> adminController() throws Throwable {
+        List<UserResponse> responses = new ArrayList<>(userList.size());
+        for (User user : userList) {
+            responses.add((UserResponse) ADMIN_CONTROLLER_CONVERT.invokeExact(adminController, user));
+        }
+        return responses;
+    }
+
+    private static MethodHandle converter(Class<?> controller) {
+        try {
+            return MethodHandles.privateLookupIn(controller, MethodHandles.lookup())
+                    .findVirtual(controller, "convertToUserResponse", MethodType.methodType(UserResponse.class, User.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No convertToUserResponse(User) in " + controller.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.aiu.scrs.benchmarks.report;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * Baseline Comparison - Compares a JMH JSON result file with the stored baseline and writes a
+ * Markdown report. A benchmark regresses when its score is worse than the baseline by more than
+ * the threshold and the two error intervals do not overlap. Exits with status 1 on regressions
+ * unless told not to fail. Results recorded with {@code -prof gc} also show the bytes allocated
+ * per operation, for information only.
+ *
+ * <p>Usage: {@code BaselineComparison <baseline.json> <result.json> <report.md> [thresholdPercent] [failOnRegression]}
+ */
+public final class BaselineComparison {
+
+    /**
+     * Secondary metric of the gc profiler with the normalized allocation per operation
+     */
+    private static final String ALLOCATED_METRIC = "gc.alloc.rate.norm";
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <result.json> <report.md> [thresholdPercent] [failOnRegression]");
+            System.exit(2);
+        }
+        double threshold = args.length > 3 ? Double.parseDouble(args[3]) : 10.0;
+        boolean failOnRegression = args.length <= 4 || Boolean.parseBoolean(args[4]);
+
+        if (!Files.exists(Path.of(args[0]))) {
+            System.out.println("No baseline at " + args[0] + "; store one by copying " + args[1] + " there");
+            return;
+        }
+        Map<String, Score> baseline = read(Path.of(args[0]));
+        Map<String, Score> current = read(Path.of(args[1]));
+
+        StringBuilder report = new StringBuilder();
+        report.append("# Benchmark comparison\n\n")
+                .append("Baseline: `").append(args[0]).append("`  \n")
+                .append("Current: `").append(args[1]).append("`  \n")
+                .append("Regression threshold: ").append(format(threshold)).append("%\n\n")
+                .append("| Benchmark | Baseline | Current | Change | Allocated B/op | Verdict |\n")
+                .append("|---|---:|---:|---:|---:|---|\n");
+
+        int regressions = 0;
+        Map<String, Score> all = new TreeMap<>(baseline);
+        current.forEach(all::putIfAbsent);
+        for (String key : all.keySet()) {
+            Score before = baseline.get(key);
+            Score after = current.get(key);
+            String verdict;
+            String change = "";
+            if (before == null) {
+                verdict = "new";
+            } else if (after == null) {
+                verdict = "not run";
+            } else if (!before.unit.equals(after.unit)) {
+                verdict = "unit changed";
+            } else {
+                double worse = after.worseByPercent(before);
+                change = (worse > 0 ? "+" : "") + format(worse) + "% " + (worse > 0 ? "worse" : "better");
+                if (worse > threshold && !after.overlaps(before)) {
+                    verdict = "**REGRESSION**";
+                    regressions++;
+                } else if (-worse > threshold && !after.overlaps(before)) {
+                    verdict = "improved";
+                } else {
+                    verdict = "ok";
+                }
+            }
+            report.append("| ").append(key)
+                    .append(" | ").append(before != null ? before.describe() : "")
+                    .append(" | ").append(after != null ? after.describe() : "")
+                    .append(" | ").append(change)
+                    .append(" | ").append(allocated(before, after))
+                    .append(" | ").append(verdict).append(" |\n");
+        }
+        report.append("\n").append(regressions).append(" regression(s)\n");
+
+        Path reportFile = Path.of(args[2]);
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        Files.writeString(reportFile, report);
+        System.out.print(report);
+        System.out.println("Report written to " + reportFile);
+
+        if (regressions > 0 && failOnRegression) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Primary scores of a JMH JSON result file by benchmark name and parameters
+     */
+    private static Map<String, Score> read(Path file) throws IOException {
+        JsonNode results = new ObjectMapper().readTree(file.toFile());
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            String name = result.path("benchmark").asText();
+            String shortName = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+            StringJoiner params = new StringJoiner(", ", " (", ")").setEmptyValue("");
+            result.path("params").fields().forEachRemaining(p -> params.add(p.getKey() + "=" + p.getValue().asText()));
+
+            JsonNode metric = result.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble(0);
+            JsonNode allocated = result.path("secondaryMetrics").path(ALLOCATED_METRIC).path("score");
+            scores.put(shortName + params, new Score(metric.path("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error, metric.path("scoreUnit").asText(),
+                    !"thrpt".equals(result.path("mode").asText()),
+                    allocated.isNumber() ? allocated.asDouble() : Double.NaN));
+        }
+        return scores;
+    }
+
+    /**
+     * Bytes allocated per operation before and after, when the gc profiler recorded them
+     */
+    private static String allocated(Score before, Score after) {
+        String from = before != null && !Double.isNaN(before.allocated) ? String.format(Locale.ROOT, "%.0f", before.allocated) : "";
+        String to = after != null && !Double.isNaN(after.allocated) ? String.format(Locale.ROOT, "%.0f", after.allocated) : "";
+        if (from.isEmpty() || to.isEmpty() || from.equals(to)) {
+            return from.isEmpty() ? to : from;
+        }
+        return from + " -> " + to;
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private record Score(double score, double error, String unit, boolean lowerIsBetter, double allocated) {
+
+        double worseByPercent(Score baseline) {
+            double change = (score - baseline.score) / baseline.score * 100;
+            return lowerIsBetter ? change : -change;
+        }
+
+        boolean overlaps(Score other) {
+            return score - error <= other.score + other.error && other.score - other.error <= score + error;
+        }
+
+        String describe() {
+            return String.format(Locale.ROOT, "%.3f +/- %.3f %s", score, error, unit);
+        }
+    }
+}
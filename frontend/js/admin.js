@@ -17,7 +17,8 @@ const AdminState = {
     filters: {
         users: { role: '', status: '', search: '' },
         complaints: { status: '', department: '', search: '' }
-    }
+    },
+    events: null
 };
 
 // Initialize Admin Dashboard
@@ -46,6 +47,9 @@ async function initializeAdminDashboard() {
         // Load dashboard data
         await loadDashboardData();
 
+        // Keep it current with pushed changes
+        subscribeToComplaintEvents();
+
         hideLoading();
 
     } catch (error) {
@@ -168,6 +172,35 @@ async function loadDashboardStats() {
     }
 }
 
+// Listen for complaint changes and counts pushed by the backend
+function subscribeToComplaintEvents() {
+    if (AdminState.events) return;
+    const refreshActivity = debounce(() => {
+        loadRecentActivity();
+        if (document.getElementById('complaints-section')?.classList.contains('active')) {
+            loadAllComplaints();
+        }
+    }, 1000);
+    AdminState.events = api.subscribeEvents('/complaints/events', {
+        stats: updateComplaintStats,
+        complaint: refreshActivity
+    });
+}
+
+// Update the complaint cards and chart from pushed counts
+function updateComplaintStats(stats) {
+    const totalComplaintsElement = document.getElementById('totalComplaints');
+    const resolvedComplaintsElement = document.getElementById('resolvedComplaints');
+    if (totalComplaintsElement) totalComplaintsElement.textContent = stats.total || 0;
+    if (resolvedComplaintsElement) resolvedComplaintsElement.textContent = stats.resolved || 0;
+
+    const chart = typeof Chart !== 'undefined' ? Chart.getChart('statusChart') : null;
+    if (chart) {
+        chart.data.datasets[0].data = [stats.pending || 0, stats.inProgress || 0, stats.resolved || 0, stats.rejected || 0];
+        chart.update();
+    }
+}
+
 // Create status chart
 function createStatusChart(stats) {
     const ctx = document.getElementById('statusChart');
@@ -305,7 +338,15 @@ function getActivityIcon(type) {
         'COMPLAINT_CREATED': 'fa-file-plus',
         'COMPLAINT_RESOLVED': 'fa-check-circle',
         'USER_ACTIVATED': 'fa-user-check',
-        'DEPARTMENT_CREATED': 'fa-building'
+        'USER_DEACTIVATED': 'fa-user-slash',
+        'USER_DELETED': 'fa-user-minus',
+        'DEPARTMENT_CREATED': 'fa-building',
+        'COMPLAINT_VOTED': 'fa-thumbs-up',
+        'COMPLAINT_VOTE_REMOVED': 'fa-thumbs-down',
+        'COMPLAINT_ASSIGNED': 'fa-user-tag',
+        'COMPLAINT_STATUS_CHANGED': 'fa-exchange-alt',
+        'COMPLAINT_COMMENTED': 'fa-comment',
+        'COMPLAINT_DELETED': 'fa-trash'
     };
     return icons[type] || 'fa-info-circle';
 }
@@ -1146,6 +1187,7 @@ function debounce(func, wait) {
 
 // Logout function
 function logout() {
+    if (AdminState.events) AdminState.events.close();
     localStorage.removeItem('token');
     window.location.href = '/login.html';
 }
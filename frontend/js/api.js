@@ -249,6 +249,74 @@ class SCRSApiClient {
         return response.success;
     }
 
+    // Live Updates
+    // Reads a Server-Sent Events stream with fetch, because EventSource cannot send the
+    // Authorization header. Reconnects with backoff; handlers maps event names to callbacks.
+    subscribeEvents(endpoint, handlers = {}) {
+        const url = `${this.baseURL}${endpoint}`;
+        const controller = new AbortController();
+        const token = this.token || localStorage.getItem('token');
+        let retryDelay = 1000;
+
+        const dispatch = (block) => {
+            let eventName = 'message';
+            const data = [];
+            block.split('\n').forEach(line => {
+                if (line.startsWith('event:')) {
+                    eventName = line.slice(6).trim();
+                } else if (line.startsWith('data:')) {
+                    data.push(line.slice(5).replace(/^ /, ''));
+                }
+            });
+            if (data.length > 0 && handlers[eventName]) {
+                handlers[eventName](JSON.parse(data.join('\n')));
+            }
+        };
+
+        const connect = async () => {
+            try {
+                const response = await fetch(url, {
+                    headers: {
+                        'Accept': 'text/event-stream',
+                        ...(token ? { 'Authorization': `Bearer ${token}` } : {})
+                    },
+                    signal: controller.signal
+                });
+                if (response.status === 401 || response.status === 403) {
+                    return;
+                }
+                if (!response.ok) {
+                    throw new Error(`HTTP error! status: ${response.status}`);
+                }
+
+                const reader = response.body.getReader();
+                const decoder = new TextDecoder();
+                let buffer = '';
+                while (true) {
+                    const { value, done } = await reader.read();
+                    if (done) break;
+                    retryDelay = 1000;
+                    buffer += decoder.decode(value, { stream: true }).replace(/\r/g, '');
+                    let end;
+                    while ((end = buffer.indexOf('\n\n')) >= 0) {
+                        dispatch(buffer.slice(0, end));
+                        buffer = buffer.slice(end + 2);
+                    }
+                }
+            } catch (error) {
+                if (controller.signal.aborted) return;
+                console.error('Event stream failed:', error);
+            }
+            if (!controller.signal.aborted) {
+                setTimeout(connect, retryDelay);
+                retryDelay = Math.min(retryDelay * 2, 30000);
+            }
+        };
+
+        connect();
+        return { close: () => controller.abort() };
+    }
+
     // Utility Methods
     isAuthenticated() {
         return !!this.token;
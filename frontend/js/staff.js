@@ -10,6 +10,8 @@ let itemsPerPage = 10;
 let currentFilter = 'all';
 let searchTerm = '';
 let selectedComplaint = null;
+let complaintEvents = null;
+let liveRefreshTimer = null;
 
 // Initialize staff dashboard
 document.addEventListener('DOMContentLoaded', function() {
@@ -27,6 +29,7 @@ async function initializeStaffDashboard() {
         await loadDashboardStats();
         await loadRecentActivity();
         setupDashboardEventListeners();
+        subscribeToComplaintEvents();
     } catch (error) {
         console.error('Error initializing staff dashboard:', error);
         showError('Failed to initialize dashboard');
@@ -121,6 +124,29 @@ async function loadDashboardStats() {
     }
 }
 
+/**
+ * Listen for changes to complaints of the staff member's department or assigned to them
+ */
+function subscribeToComplaintEvents() {
+    if (complaintEvents) return;
+    complaintEvents = api.subscribeEvents('/complaints/events', {
+        // Sent on every (re)connect, so anything missed meanwhile is reloaded too
+        ready: scheduleLiveRefresh,
+        complaint: scheduleLiveRefresh
+    });
+}
+
+/**
+ * Reload the list and counts once a burst of changes has settled
+ */
+function scheduleLiveRefresh() {
+    clearTimeout(liveRefreshTimer);
+    liveRefreshTimer = setTimeout(() => {
+        loadStaffComplaints(currentPage, currentFilter, searchTerm);
+        loadDashboardStats();
+    }, 500);
+}
+
 /**
  * Update statistics card
  */
@@ -738,6 +764,7 @@ function truncateText(text, maxLength) {
  * Logout function
  */
 function logout() {
+    if (complaintEvents) complaintEvents.close();
     localStorage.removeItem('token');
     localStorage.removeItem('user');
     window.location.href = '/frontend/pages/auth/login.html';
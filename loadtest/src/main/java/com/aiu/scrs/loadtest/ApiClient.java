@@ -0,0 +1,112 @@
+package com.aiu.scrs.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Api Client - Builds requests against the backend and performs the unmeasured setup calls
+ * (logins, ID lookups) that the scenarios need before the load starts
+ */
+public class ApiClient {
+
+    private final HttpClient http;
+    private final URI baseUrl;
+    private final URI authUrl;
+    private final Duration timeout;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public ApiClient(HttpClient http, String baseUrl, String authUrl, Duration timeout) {
+        this.http = http;
+        this.baseUrl = base(baseUrl);
+        this.authUrl = base(authUrl);
+        this.timeout = timeout;
+    }
+
+    public HttpClient http() {
+        return http;
+    }
+
+    /**
+     * Request builder for a path relative to the base URL, with the bearer token when one is given
+     */
+    public HttpRequest.Builder request(String path, String token) {
+        return request(baseUrl, path, token);
+    }
+
+    private HttpRequest.Builder request(URI base, String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(base.resolve(path.startsWith("/") ? path.substring(1) : path))
+                .timeout(timeout)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    public HttpRequest loginRequest(String usernameOrEmail, String password) {
+        String body = mapper.createObjectNode()
+                .put("usernameOrEmail", usernameOrEmail)
+                .put("password", password)
+                .toString();
+        return request(authUrl, "/api/auth/login", null)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    /**
+     * Log in and return the JWT
+     */
+    public String login(String usernameOrEmail, String password) throws IOException, InterruptedException {
+        return getData(loginRequest(usernameOrEmail, password)).path("token").asText();
+    }
+
+    /**
+     * Log several users in concurrently and return their tokens in the same order
+     */
+    public List<String> loginAll(List<String> usernames, String password) throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(32, Math.max(1, usernames.size())))) {
+            List<Future<String>> tokens = new ArrayList<>();
+            for (String username : usernames) {
+                tokens.add(executor.submit(() -> login(username, password)));
+            }
+            List<String> result = new ArrayList<>();
+            for (Future<String> token : tokens) {
+                result.add(token.get());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * GET a path and return the data field of the ApiResponse
+     */
+    public JsonNode get(String path, String token) throws IOException, InterruptedException {
+        return getData(request(path, token).GET().build());
+    }
+
+    private static URI base(String url) {
+        return URI.create(url.endsWith("/") ? url : url + "/");
+    }
+
+    private JsonNode getData(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " answered "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return mapper.readTree(response.body()).path("data");
+    }
+}
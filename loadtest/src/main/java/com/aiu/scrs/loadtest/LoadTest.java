@@ -0,0 +1,171 @@
+package com.aiu.scrs.loadtest;
+
+import com.aiu.scrs.loadtest.scenario.AdminStats;
+import com.aiu.scrs.loadtest.scenario.ComplaintFeed;
+import com.aiu.scrs.loadtest.scenario.LoginStorm;
+import com.aiu.scrs.loadtest.scenario.StaffDashboard;
+import com.aiu.scrs.loadtest.scenario.VotingBurst;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static com.aiu.scrs.loadtest.OpenModelRunner.millis;
+
+/**
+ * Load Test - Drives a running backend (normally started with the seed profile) with semester
+ * traffic and prints throughput and latency percentiles per operation. Full latency
+ * distributions are written as .hgrm files to the output directory. Given several targets, the
+ * same load is run against each in turn and the results are compared side by side.
+ */
+public class LoadTest {
+
+    private static final Map<String, Supplier<Scenario>> SCENARIOS = Map.of(
+            "login-storm", LoginStorm::new,
+            "voting-burst", VotingBurst::new,
+            "staff-dashboard", StaffDashboard::new,
+            "admin-stats", AdminStats::new,
+            "complaint-feed", ComplaintFeed::new);
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 1 && (args[0].equals("--help") || args[0].equals("-h"))) {
+            LoadTestOptions.usage().forEach(System.out::println);
+            return;
+        }
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        PrintStream out = System.out;
+
+        if (options.getTargets().isEmpty()) {
+            run(options, out);
+            return;
+        }
+        Map<String, OpenModelRunner> results = new LinkedHashMap<>();
+        for (Map.Entry<String, String> target : options.getTargets().entrySet()) {
+            if (!results.isEmpty()) {
+                Thread.sleep(options.getTargetPause().toMillis());
+            }
+            out.printf("%n=== %s (%s) ===%n", target.getKey(), target.getValue());
+            results.put(target.getKey(), run(options.forTarget(target.getKey(), target.getValue()), out));
+        }
+        compare(results, options, out);
+    }
+
+    /**
+     * Set up the scenarios against the options' base URL, load it and write the summary
+     */
+    private static OpenModelRunner run(LoadTestOptions options, PrintStream out) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder()
+                     .executor(executor)
+                     .connectTimeout(options.getTimeout())
+                     .build()) {
+            ApiClient api = new ApiClient(http, options.getBaseUrl(), options.getAuthUrl(), options.getTimeout());
+
+            Map<Scenario, Double> rates = new LinkedHashMap<>();
+            for (Map.Entry<String, Double> entry : options.getScenarios().entrySet()) {
+                Supplier<Scenario> factory = SCENARIOS.get(entry.getKey());
+                if (factory == null) {
+                    throw new IllegalArgumentException("Unknown scenario " + entry.getKey() + ", expected one of " + SCENARIOS.keySet());
+                }
+                Scenario scenario = factory.get();
+                out.printf("Setting up %s at %.1f req/s%n", scenario.name(), entry.getValue());
+                scenario.setUp(api, options);
+                rates.put(scenario, entry.getValue());
+            }
+
+            out.printf("Loading %s for %ds after %ds warmup (%ds ramp)%n", options.getBaseUrl(),
+                    options.getDuration().toSeconds(), options.getWarmup().toSeconds(), options.getRamp().toSeconds());
+            OpenModelRunner runner = new OpenModelRunner(api, options, out);
+            Map<String, OperationStats> stats = runner.run(rates);
+            summarize(stats, rates, runner, options, out);
+            return runner;
+        }
+    }
+
+    private static void summarize(Map<String, OperationStats> stats, Map<Scenario, Double> rates,
+                                  OpenModelRunner runner, LoadTestOptions options, PrintStream out) throws IOException {
+        double seconds = options.getDuration().toMillis() / 1000.0;
+        Files.createDirectories(options.getOutput());
+
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%-40s %9s %9s %8s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "thrpt/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (OperationStats operation : stats.values().stream()
+                .sorted((a, b) -> a.getName().compareTo(b.getName())).toList()) {
+            Histogram total = operation.getTotal();
+            summary.append(String.format("%-40s %9d %9.1f %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation.getName(), total.getTotalCount(), total.getTotalCount() / seconds, operation.getErrors(),
+                    millis(total.getValueAtPercentile(50)), millis(total.getValueAtPercentile(90)),
+                    millis(total.getValueAtPercentile(99)), millis(total.getValueAtPercentile(99.9)),
+                    millis(total.getMaxValue())));
+
+            Path file = options.getOutput().resolve(operation.getName().replace('/', '_') + ".hgrm");
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(file), true, StandardCharsets.UTF_8)) {
+                // Values are in microseconds; scale so the file reads in milliseconds
+                total.outputPercentileDistribution(hgrm, 1000.0);
+            }
+        }
+        summary.append(System.lineSeparator()).append("Outcomes:").append(System.lineSeparator());
+        stats.values().stream().sorted((a, b) -> a.getName().compareTo(b.getName())).forEach(operation ->
+                summary.append(String.format("  %-38s %s%n", operation.getName(), operation.getOutcomes())));
+        summary.append(String.format("  %-38s %d%n", "peak requests in flight", runner.getPeakInFlight()));
+        for (Scenario scenario : rates.keySet()) {
+            long dropped = runner.getDropped(scenario.name());
+            if (dropped > 0) {
+                summary.append(String.format("  %-38s %d arrivals dropped over max-in-flight%n", scenario.name(), dropped));
+            }
+        }
+
+        out.println();
+        out.print(summary);
+        Files.writeString(options.getOutput().resolve("summary.txt"), summary);
+        out.println("Latency distributions written to " + options.getOutput().toAbsolutePath());
+    }
+
+    /**
+     * Side-by-side throughput, errors and percentiles of every operation on each target, and the
+     * peak concurrency each target held
+     */
+    private static void compare(Map<String, OpenModelRunner> results, LoadTestOptions options,
+                                PrintStream out) throws IOException {
+        double seconds = options.getDuration().toMillis() / 1000.0;
+        Set<String> operations = new TreeSet<>();
+        results.values().forEach(runner -> operations.addAll(runner.getStats().keySet()));
+
+        StringBuilder comparison = new StringBuilder();
+        comparison.append(String.format("%-40s %-12s %9s %8s %9s %9s %9s%n",
+                "operation", "target", "thrpt/s", "errors", "p50 ms", "p99 ms", "max ms"));
+        for (String operation : operations) {
+            for (Map.Entry<String, OpenModelRunner> target : results.entrySet()) {
+                OperationStats stats = target.getValue().getStats().get(operation);
+                if (stats == null) {
+                    continue;
+                }
+                Histogram total = stats.getTotal();
+                comparison.append(String.format("%-40s %-12s %9.1f %8d %9.2f %9.2f %9.2f%n",
+                        operation, target.getKey(), total.getTotalCount() / seconds, stats.getErrors(),
+                        millis(total.getValueAtPercentile(50)), millis(total.getValueAtPercentile(99)),
+                        millis(total.getMaxValue())));
+            }
+        }
+        comparison.append(System.lineSeparator());
+        results.forEach((target, runner) -> comparison.append(
+                String.format("%-40s %-12s %9d%n", "peak requests in flight", target, runner.getPeakInFlight())));
+
+        out.printf("%n=== Comparison ===%n");
+        out.print(comparison);
+        Files.createDirectories(options.getOutput());
+        Files.writeString(options.getOutput().resolve("comparison.txt"), comparison);
+    }
+}
@@ -0,0 +1,256 @@
+package com.aiu.scrs.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load Test Options - Command line settings in {@code --name=value} form. The user names and
+ * password default to those of the seed profile.
+ */
+public class LoadTestOptions {
+
+    /**
+     * Scenario mix used when no --scenario is given: a busy day during the semester
+     */
+    static final String SEMESTER_MIX = "login-storm:20,voting-burst:100,staff-dashboard:30,admin-stats:2";
+
+    private String baseUrl = "http://localhost:8080";
+    private String authUrl;
+    private final Map<String, String> targets = new LinkedHashMap<>();
+    private Duration targetPause = Duration.ofSeconds(30);
+    private final Map<String, Double> scenarios = new LinkedHashMap<>();
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration duration = Duration.ofSeconds(60);
+    private Duration ramp = Duration.ofSeconds(10);
+    private Duration reportInterval = Duration.ofSeconds(5);
+    private Duration timeout = Duration.ofSeconds(10);
+    private int students = 1000;
+    private int staff = 100;
+    private String admin = "admin001";
+    private String password = "password123";
+    private int sessions = 200;
+    private int maxInFlight = 10_000;
+    private Duration burstPeriod = Duration.ofSeconds(30);
+    private Duration burstLength = Duration.ofSeconds(5);
+    private double burstFactor = 5;
+    private long randomSeed = 42;
+    private Path output = Path.of("target", "loadtest");
+
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        String scenarios = SEMESTER_MIX;
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "base-url" -> options.baseUrl = value;
+                case "auth-url" -> options.authUrl = value;
+                case "targets" -> options.targets.putAll(pairs(value));
+                case "target-pause" -> options.targetPause = duration(value);
+                case "scenario" -> scenarios = value;
+                case "warmup" -> options.warmup = duration(value);
+                case "duration" -> options.duration = duration(value);
+                case "ramp" -> options.ramp = duration(value);
+                case "report-interval" -> options.reportInterval = duration(value);
+                case "timeout" -> options.timeout = duration(value);
+                case "students" -> options.students = Integer.parseInt(value);
+                case "staff" -> options.staff = Integer.parseInt(value);
+                case "admin" -> options.admin = value;
+                case "password" -> options.password = value;
+                case "sessions" -> options.sessions = Integer.parseInt(value);
+                case "max-in-flight" -> options.maxInFlight = Integer.parseInt(value);
+                case "burst-period" -> options.burstPeriod = duration(value);
+                case "burst-length" -> options.burstLength = duration(value);
+                case "burst-factor" -> options.burstFactor = Double.parseDouble(value);
+                case "random-seed" -> options.randomSeed = Long.parseLong(value);
+                case "output" -> options.output = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+        }
+        for (String entry : scenarios.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected scenario:rate but got: " + entry);
+            }
+            options.scenarios.put(parts[0], Double.parseDouble(parts[1]));
+        }
+        return options;
+    }
+
+    /**
+     * The same options aimed at one of several targets, with its results in a subdirectory
+     */
+    LoadTestOptions forTarget(String label, String targetUrl) {
+        LoadTestOptions copy = new LoadTestOptions();
+        copy.baseUrl = targetUrl;
+        copy.authUrl = authUrl;
+        copy.scenarios.putAll(scenarios);
+        copy.warmup = warmup;
+        copy.duration = duration;
+        copy.ramp = ramp;
+        copy.reportInterval = reportInterval;
+        copy.timeout = timeout;
+        copy.students = students;
+        copy.staff = staff;
+        copy.admin = admin;
+        copy.password = password;
+        copy.sessions = sessions;
+        copy.maxInFlight = maxInFlight;
+        copy.burstPeriod = burstPeriod;
+        copy.burstLength = burstLength;
+        copy.burstFactor = burstFactor;
+        copy.randomSeed = randomSeed;
+        copy.output = output.resolve(label);
+        return copy;
+    }
+
+    /**
+     * Pairs like platform=http://localhost:8080,virtual=http://localhost:8083
+     */
+    private static Map<String, String> pairs(String value) {
+        Map<String, String> pairs = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected label=url but got: " + entry);
+            }
+            pairs.put(entry.substring(0, separator).trim(), entry.substring(separator + 1).trim());
+        }
+        return pairs;
+    }
+
+    /**
+     * Durations like 500ms, 30s, 2m or 1h
+     */
+    static Duration duration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Expected a duration like 30s but got: " + value);
+        };
+    }
+
+    static List<String> usage() {
+        List<String> lines = new ArrayList<>();
+        lines.add("Usage: LoadTest [--name=value ...]");
+        lines.add("  --base-url=http://localhost:8080   backend to load");
+        lines.add("  --auth-url=http://localhost:8080   backend that issues tokens, when the loaded one has no /api/auth (default: base URL)");
+        lines.add("  --targets=platform=http://localhost:8080,virtual=http://localhost:8083");
+        lines.add("                                     run the same load against each backend in turn and compare them");
+        lines.add("  --target-pause=30s                 idle time between targets, so the previous one drains");
+        lines.add("  --scenario=" + SEMESTER_MIX);
+        lines.add("                                     scenarios and their arrival rates (requests per second)");
+        lines.add("  --warmup=10s --duration=60s --ramp=10s --report-interval=5s --timeout=10s");
+        lines.add("  --students=1000 --staff=100 --admin=admin001 --password=password123");
+        lines.add("                                     seeded accounts student000001.., staff00001..");
+        lines.add("  --sessions=200                     users logged in up front for the authenticated scenarios");
+        lines.add("  --max-in-flight=10000              requests beyond this are dropped and counted, not queued");
+        lines.add("  --burst-period=30s --burst-length=5s --burst-factor=5   voting bursts");
+        lines.add("  --random-seed=42 --output=target/loadtest");
+        return lines;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Backend that logs users in; the base URL unless a separate one was given
+     */
+    public String getAuthUrl() {
+        return authUrl != null ? authUrl : baseUrl;
+    }
+
+    /**
+     * Backends to compare by label; empty for a single run against the base URL
+     */
+    public Map<String, String> getTargets() {
+        return targets;
+    }
+
+    public Duration getTargetPause() {
+        return targetPause;
+    }
+
+    public Map<String, Double> getScenarios() {
+        return scenarios;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Duration getRamp() {
+        return ramp;
+    }
+
+    public Duration getReportInterval() {
+        return reportInterval;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public int getStudents() {
+        return students;
+    }
+
+    public int getStaff() {
+        return staff;
+    }
+
+    public String getAdmin() {
+        return admin;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public int getSessions() {
+        return sessions;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public Duration getBurstPeriod() {
+        return burstPeriod;
+    }
+
+    public Duration getBurstLength() {
+        return burstLength;
+    }
+
+    public double getBurstFactor() {
+        return burstFactor;
+    }
+
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
+    public Path getOutput() {
+        return output;
+    }
+}
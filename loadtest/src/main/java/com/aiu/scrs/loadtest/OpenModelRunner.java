@@ -0,0 +1,183 @@
+package com.aiu.scrs.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open Model Runner - Sends requests at Poisson arrival times regardless of how fast the backend
+ * answers, like real users who do not wait for each other. Each scenario has its own arrival
+ * thread; requests go out asynchronously, and latency is measured from the scheduled arrival
+ * time, so a slow backend or a lagging generator shows up in the percentiles instead of quietly
+ * lowering the load. When more than max-in-flight requests are outstanding, new arrivals are
+ * dropped and counted. The peak number of outstanding requests shows the concurrency the backend
+ * actually had to hold.
+ */
+public class OpenModelRunner {
+
+    private final ApiClient api;
+    private final LoadTestOptions options;
+    private final PrintStream out;
+    private final Map<String, OperationStats> stats = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> dropped = new ConcurrentHashMap<>();
+    private final Semaphore inFlight;
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private long startNanos;
+    private long measureFromNanos;
+    private long endNanos;
+    private long lastReportNanos;
+
+    public OpenModelRunner(ApiClient api, LoadTestOptions options, PrintStream out) {
+        this.api = api;
+        this.options = options;
+        this.out = out;
+        this.inFlight = new Semaphore(options.getMaxInFlight());
+    }
+
+    /**
+     * Run the scenarios at their base rates (requests per second) through warmup and measurement,
+     * reporting every interval, and return the statistics of the measured part
+     */
+    public Map<String, OperationStats> run(Map<Scenario, Double> rates) throws InterruptedException {
+        startNanos = System.nanoTime();
+        measureFromNanos = startNanos + options.getWarmup().toNanos();
+        endNanos = measureFromNanos + options.getDuration().toNanos();
+        lastReportNanos = measureFromNanos;
+
+        List<Thread> generators = new ArrayList<>();
+        long seed = options.getRandomSeed();
+        for (Map.Entry<Scenario, Double> entry : rates.entrySet()) {
+            Scenario scenario = entry.getKey();
+            dropped.put(scenario.name(), new LongAdder());
+            SplittableRandom random = new SplittableRandom(seed++);
+            generators.add(Thread.ofPlatform()
+                    .name("arrivals-" + scenario.name())
+                    .start(() -> generate(scenario, entry.getValue(), random)));
+        }
+
+        long reportNanos = options.getReportInterval().toNanos();
+        long nextReport = measureFromNanos;
+        while (nextReport < endNanos) {
+            sleepUntil(nextReport);
+            if (nextReport == measureFromNanos) {
+                // Arrivals before this point are sent but not recorded
+                out.printf("Warmup done, measuring for %ds%n", options.getDuration().toSeconds());
+            } else {
+                report(nextReport);
+            }
+            nextReport = Math.min(nextReport + reportNanos, endNanos);
+        }
+        for (Thread generator : generators) {
+            generator.join();
+        }
+        // Let outstanding requests finish; they can take at most the request timeout
+        if (inFlight.tryAcquire(options.getMaxInFlight(), options.getTimeout().toMillis() + 1000, TimeUnit.MILLISECONDS)) {
+            inFlight.release(options.getMaxInFlight());
+        }
+        report(System.nanoTime());
+        return stats;
+    }
+
+    public Map<String, OperationStats> getStats() {
+        return stats;
+    }
+
+    /**
+     * Most requests outstanding at once after warmup
+     */
+    public int getPeakInFlight() {
+        return peakInFlight.get();
+    }
+
+    public long getDropped(String scenario) {
+        LongAdder count = dropped.get(scenario);
+        return count != null ? count.sum() : 0;
+    }
+
+    private void generate(Scenario scenario, double baseRate, SplittableRandom random) {
+        double rampSeconds = options.getRamp().toMillis() / 1000.0;
+        long arrival = startNanos;
+        while (arrival < endNanos) {
+            sleepUntil(arrival);
+            dispatch(scenario, random, arrival);
+            double elapsed = (arrival - startNanos) / 1e9;
+            double rate = baseRate * scenario.rateFactor(elapsed);
+            if (elapsed < rampSeconds) {
+                rate = Math.max(rate * elapsed / rampSeconds, Math.min(rate, 1));
+            }
+            // Exponential inter-arrival times make a Poisson process
+            arrival += (long) (-Math.log(1 - random.nextDouble()) / rate * 1e9);
+        }
+    }
+
+    private void dispatch(Scenario scenario, SplittableRandom random, long arrival) {
+        if (!inFlight.tryAcquire()) {
+            if (arrival >= measureFromNanos) {
+                dropped.get(scenario.name()).increment();
+            }
+            return;
+        }
+        if (arrival >= measureFromNanos) {
+            peakInFlight.accumulateAndGet(options.getMaxInFlight() - inFlight.availablePermits(), Math::max);
+        }
+        Operation operation = scenario.next(random);
+        api.http().sendAsync(operation.request(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    long latency = System.nanoTime() - arrival;
+                    inFlight.release();
+                    if (response != null && operation.onResponse() != null) {
+                        operation.onResponse().accept(response);
+                    }
+                    if (arrival < measureFromNanos) {
+                        return;
+                    }
+                    OperationStats operationStats = stats.computeIfAbsent(
+                            scenario.name() + "/" + operation.name(), OperationStats::new);
+                    if (response != null) {
+                        operationStats.record(latency, String.valueOf(response.statusCode()),
+                                operation.isExpected(response.statusCode()));
+                    } else {
+                        Throwable cause = failure.getCause() != null ? failure.getCause() : failure;
+                        operationStats.record(latency, cause.getClass().getSimpleName(), false);
+                    }
+                });
+    }
+
+    private void report(long now) {
+        double seconds = Math.max(now - lastReportNanos, 1) / 1e9;
+        lastReportNanos = now;
+        long elapsed = Duration.ofNanos(now - measureFromNanos).toSeconds();
+        for (OperationStats operation : stats.values().stream()
+                .sorted((a, b) -> a.getName().compareTo(b.getName())).toList()) {
+            Histogram interval = operation.nextInterval();
+            out.printf("[%4ds] %-40s %8.1f/s  p50 %8.2f  p99 %8.2f  max %8.2f ms  errors %d%n",
+                    elapsed, operation.getName(), interval.getTotalCount() / seconds,
+                    millis(interval.getValueAtPercentile(50)), millis(interval.getValueAtPercentile(99)),
+                    millis(interval.getMaxValue()), operation.getErrors());
+        }
+    }
+
+    static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static void sleepUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
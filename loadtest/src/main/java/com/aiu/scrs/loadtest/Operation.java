@@ -0,0 +1,27 @@
+package com.aiu.scrs.loadtest;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Operation - One request a scenario wants sent. Latency is recorded under the operation name,
+ * and a status outside the expected set counts as an error.
+ *
+ * @param name       operation name in the report, e.g. "vote"
+ * @param request    request to send
+ * @param expected   statuses that count as success
+ * @param onResponse callback for the response (e.g. remembering an ETag), may be null
+ */
+public record Operation(String name, HttpRequest request, Set<Integer> expected,
+                        Consumer<HttpResponse<?>> onResponse) {
+
+    public static Operation of(String name, HttpRequest request) {
+        return new Operation(name, request, Set.of(200), null);
+    }
+
+    public boolean isExpected(int status) {
+        return expected.contains(status);
+    }
+}
@@ -0,0 +1,29 @@
+package com.aiu.scrs.loadtest;
+
+import java.util.SplittableRandom;
+
+/**
+ * Scenario - A kind of user traffic. The runner decides when requests arrive; the scenario only
+ * decides what each request is.
+ */
+public interface Scenario {
+
+    String name();
+
+    /**
+     * Prepare logins and IDs before the load starts; not measured
+     */
+    void setUp(ApiClient api, LoadTestOptions options) throws Exception;
+
+    /**
+     * Next request to send. Called from the scenario's single arrival thread.
+     */
+    Operation next(SplittableRandom random);
+
+    /**
+     * Factor applied to the base arrival rate at the given time since start; 1 for steady traffic
+     */
+    default double rateFactor(double elapsedSeconds) {
+        return 1;
+    }
+}
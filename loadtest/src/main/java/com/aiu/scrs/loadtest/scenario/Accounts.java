@@ -0,0 +1,34 @@
+package com.aiu.scrs.loadtest.scenario;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Accounts - User names created by the seed profile
+ */
+final class Accounts {
+
+    private Accounts() {
+    }
+
+    static String student(int number) {
+        return String.format("student%06d", number);
+    }
+
+    static String staff(int number) {
+        return String.format("staff%05d", number);
+    }
+
+    /**
+     * First {@code count} names, spread evenly over {@code 1..available}
+     */
+    static List<String> spread(int count, int available, IntFunction<String> name) {
+        int size = Math.min(count, available);
+        List<String> names = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            names.add(name.apply((int) ((long) i * available / size) + 1));
+        }
+        return names;
+    }
+}
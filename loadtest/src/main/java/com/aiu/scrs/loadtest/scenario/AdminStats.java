@@ -0,0 +1,49 @@
+package com.aiu.scrs.loadtest.scenario;
+
+import com.aiu.scrs.loadtest.ApiClient;
+import com.aiu.scrs.loadtest.LoadTestOptions;
+import com.aiu.scrs.loadtest.Operation;
+import com.aiu.scrs.loadtest.Scenario;
+
+import java.util.SplittableRandom;
+
+/**
+ * Admin Stats - The admin overview page: the summary on every refresh and the heavier
+ * aggregates less often
+ */
+public class AdminStats implements Scenario {
+
+    private static final String[] AGGREGATES = {
+            "/api/admin/stats/avg-resolution-time",
+            "/api/admin/stats/most-active-department",
+            "/api/admin/stats/satisfaction-rate"
+    };
+
+    /**
+     * Share of requests for the summary
+     */
+    private static final double SUMMARY_SHARE = 0.7;
+
+    private ApiClient api;
+    private String token;
+
+    @Override
+    public String name() {
+        return "admin-stats";
+    }
+
+    @Override
+    public void setUp(ApiClient api, LoadTestOptions options) throws Exception {
+        this.api = api;
+        this.token = api.login(options.getAdmin(), options.getPassword());
+    }
+
+    @Override
+    public Operation next(SplittableRandom random) {
+        if (random.nextDouble() < SUMMARY_SHARE) {
+            return Operation.of("stats", api.request("/api/admin/stats", token).GET().build());
+        }
+        String path = AGGREGATES[random.nextInt(AGGREGATES.length)];
+        return Operation.of(path.substring(path.lastIndexOf('/') + 1), api.request(path, token).GET().build());
+    }
+}
@@ -0,0 +1,63 @@
+package com.aiu.scrs.loadtest.scenario;
+
+import com.aiu.scrs.loadtest.ApiClient;
+import com.aiu.scrs.loadtest.LoadTestOptions;
+import com.aiu.scrs.loadtest.Operation;
+import com.aiu.scrs.loadtest.Scenario;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Complaint Feed - Students browsing complaints: list pages, single complaints and the
+ * top-voted list. Uses only the read endpoints that the reactive read API serves too, without
+ * conditional requests, so both backends do the same work per request.
+ */
+public class ComplaintFeed implements Scenario {
+
+    private static final int PAGE_SIZE = 20;
+
+    /**
+     * Pages deeper than this are rarely opened
+     */
+    private static final int MAX_PAGE = 10;
+
+    private static final double LIST_SHARE = 0.6;
+    private static final double DETAIL_SHARE = 0.25;
+
+    private static final String[] STATUSES = {null, "NEW", "IN_PROGRESS", "CLOSED"};
+
+    private ApiClient api;
+    private List<String> tokens;
+    private long complaintCount;
+
+    @Override
+    public String name() {
+        return "complaint-feed";
+    }
+
+    @Override
+    public void setUp(ApiClient api, LoadTestOptions options) throws Exception {
+        this.api = api;
+        this.tokens = api.loginAll(Accounts.spread(options.getSessions(), options.getStudents(), Accounts::student),
+                options.getPassword());
+        this.complaintCount = api.get("/api/complaints?page=0&size=1", tokens.get(0)).path("totalElements").asLong();
+    }
+
+    @Override
+    public Operation next(SplittableRandom random) {
+        String token = tokens.get(random.nextInt(tokens.size()));
+        double choice = random.nextDouble();
+        if (choice < LIST_SHARE) {
+            String status = STATUSES[random.nextInt(STATUSES.length)];
+            String path = "/api/complaints?page=" + random.nextInt(MAX_PAGE) + "&size=" + PAGE_SIZE
+                    + (status != null ? "&status=" + status : "");
+            return Operation.of("list", api.request(path, token).GET().build());
+        }
+        if (complaintCount > 0 && choice < LIST_SHARE + DETAIL_SHARE) {
+            long complaintId = random.nextLong(complaintCount) + 1;
+            return Operation.of("detail", api.request("/api/complaints/" + complaintId, token).GET().build());
+        }
+        return Operation.of("top-voted", api.request("/api/complaints/top-voted", null).GET().build());
+    }
+}
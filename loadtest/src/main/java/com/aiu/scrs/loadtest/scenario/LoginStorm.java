@@ -0,0 +1,37 @@
+package com.aiu.scrs.loadtest.scenario;
+
+import com.aiu.scrs.loadtest.ApiClient;
+import com.aiu.scrs.loadtest.LoadTestOptions;
+import com.aiu.scrs.loadtest.Operation;
+import com.aiu.scrs.loadtest.Scenario;
+
+import java.util.SplittableRandom;
+
+/**
+ * Login Storm - Students logging in at the start of a class break; every request is a full
+ * password check and token issue
+ */
+public class LoginStorm implements Scenario {
+
+    private ApiClient api;
+    private int students;
+    private String password;
+
+    @Override
+    public String name() {
+        return "login-storm";
+    }
+
+    @Override
+    public void setUp(ApiClient api, LoadTestOptions options) {
+        this.api = api;
+        this.students = options.getStudents();
+        this.password = options.getPassword();
+    }
+
+    @Override
+    public Operation next(SplittableRandom random) {
+        String username = Accounts.student(random.nextInt(students) + 1);
+        return Operation.of("login", api.loginRequest(username, password));
+    }
+}
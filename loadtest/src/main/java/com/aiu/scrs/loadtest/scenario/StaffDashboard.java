@@ -0,0 +1,89 @@
+package com.aiu.scrs.loadtest.scenario;
+
+import com.aiu.scrs.loadtest.ApiClient;
+import com.aiu.scrs.loadtest.LoadTestOptions;
+import com.aiu.scrs.loadtest.Operation;
+import com.aiu.scrs.loadtest.Scenario;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Staff Dashboard - Open staff dashboards polling their department's queue with If-None-Match,
+ * as the frontend does, and opening a complaint now and then
+ */
+public class StaffDashboard implements Scenario {
+
+    private static final Set<Integer> EXPECTED = Set.of(200, 304);
+
+    /**
+     * Share of polls that open a single complaint instead of refreshing the queue
+     */
+    private static final double DETAIL_SHARE = 0.2;
+
+    private static final String[] QUEUES = {"NEW", "ASSIGNED", "IN_PROGRESS"};
+
+    private ApiClient api;
+    private List<Dashboard> dashboards;
+    private long complaintCount;
+
+    /**
+     * One open browser tab; the ETag is written from HTTP client threads
+     */
+    private static final class Dashboard {
+        final String token;
+        final String queuePath;
+        volatile String etag;
+
+        Dashboard(String token, String queuePath) {
+            this.token = token;
+            this.queuePath = queuePath;
+        }
+    }
+
+    @Override
+    public String name() {
+        return "staff-dashboard";
+    }
+
+    @Override
+    public void setUp(ApiClient api, LoadTestOptions options) throws Exception {
+        this.api = api;
+        List<String> tokens = api.loginAll(Accounts.spread(options.getSessions(), options.getStaff(), Accounts::staff),
+                options.getPassword());
+        List<Long> departments = new ArrayList<>();
+        for (JsonNode department : api.get("/api/departments", tokens.get(0))) {
+            departments.add(department.path("id").asLong());
+        }
+        SplittableRandom random = new SplittableRandom(options.getRandomSeed());
+        this.dashboards = new ArrayList<>();
+        for (String token : tokens) {
+            String queuePath = "/api/complaints?page=0&size=20&status=" + QUEUES[random.nextInt(QUEUES.length)]
+                    + "&department=" + departments.get(random.nextInt(departments.size()));
+            dashboards.add(new Dashboard(token, queuePath));
+        }
+        this.complaintCount = api.get("/api/complaints?size=1&fields=id", tokens.get(0)).path("totalElements").asLong();
+    }
+
+    @Override
+    public Operation next(SplittableRandom random) {
+        Dashboard dashboard = dashboards.get(random.nextInt(dashboards.size()));
+        if (complaintCount > 0 && random.nextDouble() < DETAIL_SHARE) {
+            long complaintId = random.nextLong(complaintCount) + 1;
+            HttpRequest request = api.request("/api/complaints/" + complaintId, dashboard.token).GET().build();
+            return Operation.of("complaint-detail", request);
+        }
+        HttpRequest.Builder builder = api.request(dashboard.queuePath, dashboard.token).GET();
+        String etag = dashboard.etag;
+        if (etag != null) {
+            builder.header("If-None-Match", etag);
+        }
+        return new Operation("queue-poll", builder.build(), EXPECTED, (HttpResponse<?> response) ->
+                response.headers().firstValue("ETag").ifPresent(value -> dashboard.etag = value));
+    }
+}
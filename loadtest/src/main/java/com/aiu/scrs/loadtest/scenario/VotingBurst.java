@@ -0,0 +1,81 @@
+package com.aiu.scrs.loadtest.scenario;
+
+import com.aiu.scrs.loadtest.ApiClient;
+import com.aiu.scrs.loadtest.LoadTestOptions;
+import com.aiu.scrs.loadtest.Operation;
+import com.aiu.scrs.loadtest.Scenario;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Voting Burst - Students voting, mostly on the complaints that are already popular, with
+ * periodic bursts when a complaint is shared around campus. A repeated vote answers 409,
+ * which counts as success.
+ */
+public class VotingBurst implements Scenario {
+
+    private static final Set<Integer> EXPECTED = Set.of(200, 409);
+
+    /**
+     * Share of votes going to the current top-voted list rather than a random complaint
+     */
+    private static final double TOP_VOTED_SHARE = 0.6;
+
+    private ApiClient api;
+    private List<String> tokens;
+    private List<Long> topVoted;
+    private long complaintCount;
+    private double burstPeriod;
+    private double burstLength;
+    private double burstFactor;
+
+    @Override
+    public String name() {
+        return "voting-burst";
+    }
+
+    @Override
+    public void setUp(ApiClient api, LoadTestOptions options) throws Exception {
+        this.api = api;
+        this.tokens = api.loginAll(Accounts.spread(options.getSessions(), options.getStudents(), Accounts::student),
+                options.getPassword());
+        this.complaintCount = api.get("/api/complaints?size=1&fields=id", tokens.get(0)).path("totalElements").asLong();
+        this.topVoted = new ArrayList<>();
+        for (JsonNode complaint : api.get("/api/complaints/top-voted?limit=100", null)) {
+            topVoted.add(complaint.path("id").asLong());
+        }
+        if (complaintCount == 0) {
+            throw new IllegalStateException("No complaints to vote on; start the backend with the seed profile");
+        }
+        this.burstPeriod = options.getBurstPeriod().toMillis() / 1000.0;
+        this.burstLength = options.getBurstLength().toMillis() / 1000.0;
+        this.burstFactor = options.getBurstFactor();
+    }
+
+    @Override
+    public Operation next(SplittableRandom random) {
+        String token = tokens.get(random.nextInt(tokens.size()));
+        long complaintId;
+        if (!topVoted.isEmpty() && random.nextDouble() < TOP_VOTED_SHARE) {
+            // Squaring favours the head of the list
+            double u = random.nextDouble();
+            complaintId = topVoted.get((int) (u * u * topVoted.size()));
+        } else {
+            complaintId = random.nextLong(complaintCount) + 1;
+        }
+        HttpRequest request = api.request("/api/complaints/vote/" + complaintId, token)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        return new Operation("vote", request, EXPECTED, null);
+    }
+
+    @Override
+    public double rateFactor(double elapsedSeconds) {
+        return burstPeriod > 0 && elapsedSeconds % burstPeriod < burstLength ? burstFactor : 1;
+    }
+}
@@ -0,0 +1,16 @@
+package com.aiu.scrs.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * SCRS Reactive Read API - Read-only complaint endpoints on WebFlux and R2DBC.
+ * Runs alongside the backend against the same database; all writes stay in the backend.
+ */
+@SpringBootApplication
+public class ReactiveReadApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveReadApplication.class, args);
+    }
+}
@@ -0,0 +1,74 @@
+package com.aiu.scrs.reactive.config;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * JWT Authentication Web Filter - Accepts requests carrying a valid token issued by the backend.
+ * The same public paths as in the backend's security configuration are open.
+ */
+@Component
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationWebFilter.class);
+
+    private static final Set<String> PUBLIC_PATHS = Set.of("/api/complaints/top-voted");
+
+    private static final byte[] UNAUTHORIZED_BODY =
+            "{\"error\":\"Unauthorized\",\"message\":\"Full authentication is required to access this resource\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final JwtParser parser;
+
+    public JwtAuthenticationWebFilter(@Value("${jwt.secret}") String jwtSecret) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes()))
+                .build();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().value();
+        if (exchange.getRequest().getMethod() == HttpMethod.OPTIONS || PUBLIC_PATHS.contains(path)
+                || !path.startsWith("/api/")) {
+            return chain.filter(exchange);
+        }
+
+        String header = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith("Bearer ")) {
+            try {
+                parser.parseClaimsJws(header.substring(7));
+                return chain.filter(exchange);
+            } catch (JwtException | IllegalArgumentException e) {
+                logger.debug("Rejected JWT token: {}", e.getMessage());
+            }
+        }
+        return unauthorized(exchange.getResponse());
+    }
+
+    private Mono<Void> unauthorized(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBuffer body = response.bufferFactory().wrap(UNAUTHORIZED_BODY);
+        return response.writeWith(Mono.just(body));
+    }
+}
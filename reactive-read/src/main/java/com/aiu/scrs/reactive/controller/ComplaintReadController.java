@@ -0,0 +1,104 @@
+package com.aiu.scrs.reactive.controller;
+
+import com.aiu.scrs.reactive.dto.ApiResponse;
+import com.aiu.scrs.reactive.dto.ComplaintView;
+import com.aiu.scrs.reactive.repository.ComplaintReadRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Complaint Read Controller - Non-blocking complaint listing, detail and top-voted endpoints
+ */
+@RestController
+@RequestMapping("/api/complaints")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ComplaintReadController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Error codes of the backend's ErrorCode enum, so clients handle both APIs alike
+     */
+    private static final String VALIDATION_FAILED = "VALIDATION_FAILED";
+    private static final String COMPLAINT_NOT_FOUND = "COMPLAINT_NOT_FOUND";
+
+    /**
+     * Rows requested from the database at a time while streaming
+     */
+    private static final int STREAM_PREFETCH = 256;
+
+    @Autowired
+    private ComplaintReadRepository complaintReadRepository;
+
+    /**
+     * Get one page of complaints. Takes the backend's status, department and search filters;
+     * type is an extra filter the backend list does not have.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<Map<String, Object>>>> getComplaints(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long department,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String type) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return Mono.just(ResponseEntity.badRequest()
+                .body(ApiResponse.error("Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE, VALIDATION_FAILED)));
+        }
+        Mono<List<ComplaintView>> content = complaintReadRepository.findPage(status, department, search, type, page, size)
+            .collectList();
+        Mono<Long> total = complaintReadRepository.count(status, department, search, type);
+        return Mono.zip(content, total).map(result -> {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("content", result.getT1());
+            body.put("page", page);
+            body.put("size", size);
+            body.put("totalElements", result.getT2());
+            body.put("totalPages", (result.getT2() + size - 1) / size);
+            return ResponseEntity.ok(ApiResponse.success("Complaints retrieved successfully", body));
+        });
+    }
+
+    /**
+     * Get complaint by ID; 404 with COMPLAINT_NOT_FOUND like the backend when it does not exist
+     */
+    @GetMapping("/{id:\\d+}")
+    public Mono<ResponseEntity<ApiResponse<ComplaintView>>> getComplaintById(@PathVariable long id) {
+        return complaintReadRepository.findById(id)
+            .map(complaint -> ResponseEntity.ok(ApiResponse.success("Complaint retrieved successfully", complaint)))
+            .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error("Complaint not found with ID: " + id, COMPLAINT_NOT_FOUND)));
+    }
+
+    /**
+     * Get top voted complaints
+     */
+    @GetMapping("/top-voted")
+    public Mono<ApiResponse<List<ComplaintView>>> getTopVotedComplaints(@RequestParam(defaultValue = "10") int limit) {
+        return complaintReadRepository.findTopVoted(Math.max(1, Math.min(limit, MAX_PAGE_SIZE)))
+            .collectList()
+            .map(complaints -> ApiResponse.success("Top voted complaints retrieved successfully", complaints));
+    }
+
+    /**
+     * Stream all matching complaints as newline-delimited JSON. Rows are pulled from the
+     * database only as fast as the client reads them.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ComplaintView> streamComplaints(@RequestParam(required = false) String status,
+                                                @RequestParam(required = false) Long department,
+                                                @RequestParam(required = false) String search,
+                                                @RequestParam(required = false) String type) {
+        return complaintReadRepository.streamAll(status, department, search, type).limitRate(STREAM_PREFETCH);
+    }
+}
@@ -0,0 +1,65 @@
+package com.aiu.scrs.reactive.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * API Response wrapper with the same shape as the backend's responses
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ApiResponse<T> {
+    
+    private boolean success;
+    private String message;
+    private T data;
+    private String error;
+    
+    public ApiResponse() {}
+    
+    public ApiResponse(boolean success, String message, T data, String error) {
+        this.success = success;
+        this.message = message;
+        this.data = data;
+        this.error = error;
+    }
+    
+    public static <T> ApiResponse<T> success(String message, T data) {
+        return new ApiResponse<>(true, message, data, null);
+    }
+    
+    public static <T> ApiResponse<T> error(String message, String error) {
+        return new ApiResponse<>(false, message, null, error);
+    }
+    
+    // Getters and Setters
+    public boolean isSuccess() {
+        return success;
+    }
+    
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    public void setMessage(String message) {
+        this.message = message;
+    }
+    
+    public T getData() {
+        return data;
+    }
+    
+    public void setData(T data) {
+        this.data = data;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,95 @@
+package com.aiu.scrs.reactive.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Complaint View DTO - Complaint with its department and submitter, read straight from a result row
+ */
+public class ComplaintView {
+    
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final String type;
+    private final String status;
+    private final Long departmentId;
+    private final String departmentName;
+    private final Long submittedById;
+    private final String submittedByUsername;
+    private final String submittedByFullName;
+    private final int voteCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    
+    public ComplaintView(Long id, String title, String description, String type, String status,
+                         Long departmentId, String departmentName, Long submittedById,
+                         String submittedByUsername, String submittedByFullName, int voteCount,
+                         LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.type = type;
+        this.status = status;
+        this.departmentId = departmentId;
+        this.departmentName = departmentName;
+        this.submittedById = submittedById;
+        this.submittedByUsername = submittedByUsername;
+        this.submittedByFullName = submittedByFullName;
+        this.voteCount = voteCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+    
+    // Getters
+    public Long getId() {
+        return id;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+    
+    public String getDepartmentName() {
+        return departmentName;
+    }
+    
+    public Long getSubmittedById() {
+        return submittedById;
+    }
+    
+    public String getSubmittedByUsername() {
+        return submittedByUsername;
+    }
+    
+    public String getSubmittedByFullName() {
+        return submittedByFullName;
+    }
+    
+    public int getVoteCount() {
+        return voteCount;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,153 @@
+package com.aiu.scrs.reactive.repository;
+
+import com.aiu.scrs.reactive.dto.ComplaintView;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Complaint Read Repository - SQL reads over the backend's complaint schema.
+ * Rows are mapped straight to {@link ComplaintView}; results are emitted as the driver
+ * delivers them, so subscribers control how many rows are in flight.
+ */
+@Repository
+public class ComplaintReadRepository {
+    
+    /**
+     * Condition of each filter parameter, in the order they are appended
+     */
+    private static final Map<String, String> FILTER_CONDITIONS = Map.of(
+            "status", "c.status = :status",
+            "department", "c.target_department_id = :department",
+            "search", "LOWER(c.title) LIKE :search",
+            "type", "c.type = :type");
+    
+    private static final String[] FILTER_ORDER = {"status", "department", "search", "type"};
+    
+    private static final String SELECT_VIEW =
+            "SELECT c.id, c.title, c.description, c.type, c.status, c.total_votes, c.created_at, c.updated_at, " +
+            "d.id AS department_id, d.name AS department_name, " +
+            "u.id AS submitter_id, u.username AS submitter_username, u.first_name, u.last_name " +
+            "FROM complaints c " +
+            "JOIN departments d ON d.id = c.target_department_id " +
+            "JOIN users u ON u.id = c.created_by";
+    
+    private final DatabaseClient databaseClient;
+    
+    @Autowired
+    public ComplaintReadRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+    
+    /**
+     * One page of complaints, newest first, with the backend's status, department and title search
+     * filters plus an optional type filter
+     */
+    public Flux<ComplaintView> findPage(String status, Long departmentId, String search, String type, int page, int size) {
+        Map<String, Object> params = filterParams(status, departmentId, search, type);
+        params.put("limit", size);
+        params.put("offset", (long) page * size);
+        String sql = SELECT_VIEW + whereClause(params) + " ORDER BY c.created_at DESC, c.id DESC LIMIT :limit OFFSET :offset";
+        return bindAll(databaseClient.sql(sql), params).map(ComplaintReadRepository::toView).all();
+    }
+    
+    /**
+     * Number of complaints matching the filters
+     */
+    public Mono<Long> count(String status, Long departmentId, String search, String type) {
+        Map<String, Object> params = filterParams(status, departmentId, search, type);
+        String sql = "SELECT COUNT(*) AS total FROM complaints c" + whereClause(params);
+        return bindAll(databaseClient.sql(sql), params)
+                .map(row -> row.get("total", Long.class))
+                .one();
+    }
+    
+    /**
+     * Find complaint by ID
+     */
+    public Mono<ComplaintView> findById(long id) {
+        return databaseClient.sql(SELECT_VIEW + " WHERE c.id = :id")
+                .bind("id", id)
+                .map(ComplaintReadRepository::toView)
+                .one();
+    }
+    
+    /**
+     * Most voted complaints, same ordering as the backend's top-voted query
+     */
+    public Flux<ComplaintView> findTopVoted(int limit) {
+        return databaseClient.sql(SELECT_VIEW + " WHERE c.total_votes > 0 ORDER BY c.total_votes DESC, c.created_at DESC LIMIT :limit")
+                .bind("limit", limit)
+                .map(ComplaintReadRepository::toView)
+                .all();
+    }
+    
+    /**
+     * Every complaint in ID order, for streaming responses
+     */
+    public Flux<ComplaintView> streamAll(String status, Long departmentId, String search, String type) {
+        Map<String, Object> params = filterParams(status, departmentId, search, type);
+        String sql = SELECT_VIEW + whereClause(params) + " ORDER BY c.id";
+        return bindAll(databaseClient.sql(sql), params).map(ComplaintReadRepository::toView).all();
+    }
+    
+    private static Map<String, Object> filterParams(String status, Long departmentId, String search, String type) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        if (status != null && !status.isBlank()) {
+            params.put("status", status.trim().toUpperCase());
+        }
+        if (departmentId != null) {
+            params.put("department", departmentId);
+        }
+        if (search != null && !search.isBlank()) {
+            params.put("search", "%" + search.trim().toLowerCase(Locale.ROOT) + "%");
+        }
+        if (type != null && !type.isBlank()) {
+            params.put("type", type.trim().toUpperCase());
+        }
+        return params;
+    }
+    
+    private static String whereClause(Map<String, Object> params) {
+        StringBuilder where = new StringBuilder();
+        for (String filter : FILTER_ORDER) {
+            if (params.containsKey(filter)) {
+                where.append(where.length() == 0 ? " WHERE " : " AND ").append(FILTER_CONDITIONS.get(filter));
+            }
+        }
+        return where.toString();
+    }
+    
+    private static DatabaseClient.GenericExecuteSpec bindAll(DatabaseClient.GenericExecuteSpec spec, Map<String, Object> params) {
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec;
+    }
+    
+    private static ComplaintView toView(Readable row) {
+        Integer votes = row.get("total_votes", Integer.class);
+        return new ComplaintView(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                row.get("type", String.class),
+                row.get("status", String.class),
+                row.get("department_id", Long.class),
+                row.get("department_name", String.class),
+                row.get("submitter_id", Long.class),
+                row.get("submitter_username", String.class),
+                row.get("first_name", String.class) + " " + row.get("last_name", String.class),
+                votes != null ? votes : 0,
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class));
+    }
+}